@@ -0,0 +1,281 @@
+package kuke.board.common.outboxmessagerelay.batch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/*
+* outbox 대량 relay
+* - worker 별로 shard 일부(shard % workerCount == worker)를 담당하여 병렬로 처리한다.
+* - 여러 서버(인스턴스)에서는 shard lease(outbox_relay_lease)를 가진 서버만 해당 shard를 relay한다.
+* - shard 단위로 created_at 순서대로 batchSize개를 조회, batch 전체를 순서대로 비동기 전송한 뒤 ack를 확인한다.
+*   (같은 key의 메시지는 전송 요청 순서대로 전달되므로 한 건씩 ack를 기다리지 않는다)
+* - 앞에서부터 연속으로 전송 완료(ack)된 outbox는 하나의 delete 문으로 삭제한다.
+* - 순서 보장 : 하나의 shard는 하나의 서버, 하나의 worker만 처리하며, 전송 실패 시 실패한 메시지부터 다음 polling에서 다시 전송한다.
+*   (at-least-once, 실패 이후 이미 전송된 메시지의 중복 전송은 consumer에서 멱등하게 처리)
+* - outbox가 여러 DB(shard)에 나뉘어 있으면 shard마다 모든 DB를 순서대로 처리(OutboxDatabaseRouter)
+* - relay 지연(가장 오래된 미전송 outbox의 대기시간) 및 처리량 집계
+* */
+@Slf4j
+public class BatchMessageRelay {
+    private final OutboxBatchRepository outboxBatchRepository;
+    private final OutboxMessageSender outboxMessageSender;
+    /*
+    * outbox event_type -> topic
+    * */
+    private final Function<String, String> topicResolver;
+    private final BatchMessageRelayProperties properties;
+    private final OutboxDatabaseRouter outboxDatabaseRouter;
+    /*
+    * shard lease는 0번 DB에서 관리
+    * */
+    private static final int LEASE_DATABASE = 0;
+    private final String owner = UUID.randomUUID().toString();
+    /*
+    * shard별 lease 연장 시각(이전에는 DB 조회 없이 보유한 것으로 본다), shard는 하나의 worker만 접근
+    * */
+    private final long[] leaseRenewAtMillis;
+
+    private ScheduledExecutorService executorService;
+
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final AtomicLong[] lagMillisByShard;
+    private volatile long startedAtMillis;
+
+    public BatchMessageRelay(
+            OutboxBatchRepository outboxBatchRepository,
+            OutboxMessageSender outboxMessageSender,
+            Function<String, String> topicResolver,
+            BatchMessageRelayProperties properties
+    ) {
+        this(outboxBatchRepository, outboxMessageSender, topicResolver, properties, OutboxDatabaseRouter.single());
+    }
+
+    public BatchMessageRelay(
+            OutboxBatchRepository outboxBatchRepository,
+            OutboxMessageSender outboxMessageSender,
+            Function<String, String> topicResolver,
+            BatchMessageRelayProperties properties,
+            OutboxDatabaseRouter outboxDatabaseRouter
+    ) {
+        this.outboxBatchRepository = outboxBatchRepository;
+        this.outboxMessageSender = outboxMessageSender;
+        this.topicResolver = topicResolver;
+        this.properties = properties;
+        this.outboxDatabaseRouter = outboxDatabaseRouter;
+        if (properties.getLeaseMillis() <= properties.getSendTimeoutMillis() * 2) {
+            throw new IllegalArgumentException("leaseMillis must be greater than sendTimeoutMillis * 2. leaseMillis="
+                    + properties.getLeaseMillis() + ", sendTimeoutMillis=" + properties.getSendTimeoutMillis());
+        }
+        this.leaseRenewAtMillis = new long[properties.getShardCount()];
+        this.lagMillisByShard = new AtomicLong[properties.getShardCount()];
+        for (int shard = 0; shard < properties.getShardCount(); shard++) {
+            lagMillisByShard[shard] = new AtomicLong();
+        }
+    }
+
+    public void start() {
+        startedAtMillis = System.currentTimeMillis();
+        executorService = Executors.newScheduledThreadPool(properties.getWorkerCount());
+        for (int worker = 0; worker < properties.getWorkerCount(); worker++) {
+            List<Long> assignedShards = assignedShards(worker);
+            executorService.scheduleWithFixedDelay(
+                    () -> drainAll(assignedShards),
+                    0,
+                    properties.getPollIntervalMillis(),
+                    TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    /*
+    * 진행 중인 batch가 끝난 뒤 lease를 반납하여 다른 서버가 바로 이어받도록 한다.
+    * */
+    public void stop() {
+        if (executorService != null) {
+            executorService.shutdown();
+            try {
+                executorService.awaitTermination(properties.getSendTimeoutMillis() * 2, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        Arrays.fill(leaseRenewAtMillis, 0L);
+        try {
+            outboxDatabaseRouter.route(LEASE_DATABASE, () -> outboxBatchRepository.releaseLeases(owner));
+        } catch (Exception e) {
+            log.error("[BatchMessageRelay.stop] release leases failed. owner={}", owner, e);
+        }
+    }
+
+    List<Long> assignedShards(int worker) {
+        List<Long> shards = new ArrayList<>();
+        for (long shard = worker; shard < properties.getShardCount(); shard += properties.getWorkerCount()) {
+            shards.add(shard);
+        }
+        return shards;
+    }
+
+    /*
+    * 담당 shard 중 lease를 가진 shard를 순회하며 더 이상 가득 찬 batch가 없을 때까지 전송
+    * */
+    private void drainAll(List<Long> shards) {
+        for (Long shard : shards) {
+            try {
+                while (acquireLease(shard) && drain(shard) == properties.getBatchSize()) {
+                    // batch가 가득 찼다면 밀린 outbox가 더 있으므로 바로 다음 batch
+                }
+            } catch (Exception e) {
+                log.error("[BatchMessageRelay.drainAll] shard={}", shard, e);
+            }
+        }
+    }
+
+    /*
+    * shard lease 획득/연장
+    * - lease 유지 시간의 절반이 지나기 전까지는 DB 조회 없이 보유한 것으로 보고,
+    *   남은 절반(> sendTimeoutMillis)으로 진행 중인 batch가 끝날 때까지 lease가 유지되도록 한다.
+    * - 다른 서버가 보유 중이면 relay하지 않는다.
+    * */
+    boolean acquireLease(Long shard) {
+        long nowMillis = System.currentTimeMillis();
+        int index = shard.intValue();
+        if (nowMillis < leaseRenewAtMillis[index]) {
+            return true;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        boolean acquired = outboxDatabaseRouter.route(LEASE_DATABASE, () -> outboxBatchRepository.tryAcquireLease(
+                shard, owner, now, now.plus(Duration.ofMillis(properties.getLeaseMillis()))
+        ));
+        leaseRenewAtMillis[index] = acquired ? nowMillis + properties.getLeaseMillis() / 2 : 0;
+        return acquired;
+    }
+
+    /*
+    * shard의 outbox를 DB마다 1 batch 전송 후 ack된 outbox 삭제
+    * @return DB별 조회된 outbox 수 중 최대값(전송 실패한 DB는 0), batchSize와 같으면 밀린 outbox가 더 있다.
+    * */
+    public int drain(Long shard) {
+        if (shard < 0 || shard >= properties.getShardCount()) {
+            throw new IllegalArgumentException("invalid shard. shard=" + shard + ", shardCount=" + properties.getShardCount());
+        }
+        int drained = 0;
+        long lagMillis = 0;
+        for (int database = 0; database < outboxDatabaseRouter.getDatabaseCount(); database++) {
+            DrainResult result = outboxDatabaseRouter.route(database, () -> drainDatabase(shard));
+            drained = Math.max(drained, result.drained());
+            lagMillis = Math.max(lagMillis, result.lagMillis());
+        }
+        lagMillisByShard[shard.intValue()].set(lagMillis);
+        return drained;
+    }
+
+    private record DrainResult(int drained, long lagMillis) {
+    }
+
+    private DrainResult drainDatabase(Long shard) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxRow> rows = outboxBatchRepository.findPending(
+                shard, now.minus(Duration.ofMillis(properties.getMinAgeMillis())), properties.getBatchSize()
+        );
+        if (rows.isEmpty()) {
+            return new DrainResult(0, 0);
+        }
+        long lagMillis = Duration.between(rows.getFirst().createdAt(), now).toMillis();
+
+        /*
+        * batch 전체를 전송 요청한 뒤 ack 확인(batch당 broker 왕복 1회)
+        * 전송 요청이 바로 실패하면 이후 메시지는 전송하지 않는다.
+        * 실패한 메시지 이후는 삭제하지 않으므로 다음 polling에서 실패한 메시지부터 순서대로 다시 전송된다.
+        * */
+        List<CompletableFuture<?>> futures = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            CompletableFuture<?> future = send(row);
+            futures.add(future);
+            if (future.isCompletedExceptionally()) {
+                break;
+            }
+        }
+        int acked = ackedPrefix(futures);
+        if (acked < rows.size()) {
+            failedCount.add(rows.size() - acked);
+        }
+        List<Long> ackedOutboxIds = rows.subList(0, acked).stream()
+                .map(OutboxRow::outboxId)
+                .toList();
+        outboxBatchRepository.deleteAll(ackedOutboxIds);
+        sentCount.add(ackedOutboxIds.size());
+        return new DrainResult(ackedOutboxIds.size() == rows.size() ? rows.size() : 0, lagMillis);
+    }
+
+    private CompletableFuture<?> send(OutboxRow row) {
+        try {
+            return outboxMessageSender.send(
+                    topicResolver.apply(row.eventType()),
+                    String.valueOf(row.shardKey()),
+                    row.payload()
+            );
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /*
+    * 앞에서부터 연속으로 ack된 메시지 수(batch 전체 대기시간 sendTimeoutMillis)
+    * */
+    private int ackedPrefix(List<CompletableFuture<?>> futures) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeoutMillis());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return i;
+            } catch (Exception e) {
+                log.error("[BatchMessageRelay.ackedPrefix] send failed", e);
+                return i;
+            }
+        }
+        return futures.size();
+    }
+
+    public long getSentCount() {
+        return sentCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /*
+    * 가장 오래 대기중인 outbox의 대기시간(최근 polling 기준)
+    * */
+    public long getLagMillis() {
+        long lag = 0;
+        for (AtomicLong shardLag : lagMillisByShard) {
+            lag = Math.max(lag, shardLag.get());
+        }
+        return lag;
+    }
+
+    /*
+    * 시작 이후 초당 전송 건수
+    * */
+    public double getThroughputPerSecond() {
+        long elapsedMillis = System.currentTimeMillis() - startedAtMillis;
+        return elapsedMillis <= 0 ? 0 : getSentCount() * 1000.0 / elapsedMillis;
+    }
+}
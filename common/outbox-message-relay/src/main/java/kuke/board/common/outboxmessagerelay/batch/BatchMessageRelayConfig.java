@@ -0,0 +1,42 @@
+package kuke.board.common.outboxmessagerelay.batch;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/*
+* outbox.relay.mode = batch 일 경우 대량 relay 활성화
+* outbox가 여러 DB(shard)에 있는 서비스는 OutboxDatabaseRouter bean을 등록한다(없으면 단일 DB).
+* event_type별 topic은 서비스에서 등록한 OutboxTopicResolver bean으로 결정한다.
+* */
+@Configuration
+@ConditionalOnProperty(name = "outbox.relay.mode", havingValue = "batch")
+public class BatchMessageRelayConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "outbox.relay.batch")
+    public BatchMessageRelayProperties batchMessageRelayProperties() {
+        return new BatchMessageRelayProperties();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public BatchMessageRelay batchMessageRelay(
+            JdbcTemplate jdbcTemplate,
+            KafkaTemplate<String, String> messageRelayKafkaTemplate,
+            BatchMessageRelayProperties batchMessageRelayProperties,
+            OutboxTopicResolver outboxTopicResolver,
+            ObjectProvider<OutboxDatabaseRouter> outboxDatabaseRouter
+    ) {
+        return new BatchMessageRelay(
+                new OutboxBatchRepository(jdbcTemplate),
+                new KafkaOutboxMessageSender(messageRelayKafkaTemplate),
+                outboxTopicResolver::resolve,
+                batchMessageRelayProperties,
+                outboxDatabaseRouter.getIfAvailable(OutboxDatabaseRouter::single)
+        );
+    }
+}
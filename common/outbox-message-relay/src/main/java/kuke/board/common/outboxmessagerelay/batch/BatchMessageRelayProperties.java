@@ -0,0 +1,30 @@
+package kuke.board.common.outboxmessagerelay.batch;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/*
+* outbox.relay.batch.* 설정
+* */
+@Getter
+@Setter
+public class BatchMessageRelayProperties {
+    /*
+    * outbox shard_key 개수(shard_key = 0..shardCount-1)
+    * */
+    private int shardCount = 4;
+    private int workerCount = 2;
+    private int batchSize = 500;
+    private long pollIntervalMillis = 100;
+    private long sendTimeoutMillis = 3000;
+    /*
+    * 트랜잭션 커밋 직후 전송 경로와 겹치지 않도록 이 시간 이상 지난 outbox만 relay
+    * (기존 pending outbox polling 기준과 같은 10초)
+    * */
+    private long minAgeMillis = 10_000;
+    /*
+    * shard lease 유지 시간, 절반이 지나면 연장
+    * 한 batch 처리(전송 대기 sendTimeoutMillis 포함) 동안 만료되지 않도록 sendTimeoutMillis의 2배보다 길게 설정
+    * */
+    private long leaseMillis = 10_000;
+}
@@ -0,0 +1,21 @@
+package kuke.board.common.outboxmessagerelay.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+/*
+* KafkaTemplate 비동기 전송
+* 같은 key(shard key)는 같은 partition으로 전송되며,
+* producer 설정(enable.idempotence=true)으로 재시도 시에도 partition 내 순서가 유지된다.
+* */
+@RequiredArgsConstructor
+public class KafkaOutboxMessageSender implements OutboxMessageSender {
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    @Override
+    public CompletableFuture<?> send(String topic, String key, String payload) {
+        return kafkaTemplate.send(topic, key, payload);
+    }
+}
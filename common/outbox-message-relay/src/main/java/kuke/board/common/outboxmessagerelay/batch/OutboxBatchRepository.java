@@ -0,0 +1,75 @@
+package kuke.board.common.outboxmessagerelay.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/*
+* 대량 relay를 위한 outbox 조회/삭제
+* - 조회 : idx_shard_key_created_at(shard_key, created_at) 범위 조회
+* - 삭제 : 전송 완료된 outbox를 하나의 delete 문으로 삭제
+* - shard lease : outbox_relay_lease(shard_key) row로 여러 서버 중 하나만 shard를 relay
+* */
+@RequiredArgsConstructor
+public class OutboxBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<OutboxRow> findPending(Long shardKey, LocalDateTime createdAtBefore, int limit) {
+        return jdbcTemplate.query(
+                "select outbox_id, shard_key, event_type, payload, created_at from outbox " +
+                        "where shard_key = ? and created_at <= ? " +
+                        "order by created_at asc, outbox_id asc limit ?",
+                (rs, rowNum) -> new OutboxRow(
+                        rs.getLong("outbox_id"),
+                        rs.getLong("shard_key"),
+                        rs.getString("event_type"),
+                        rs.getString("payload"),
+                        rs.getTimestamp("created_at").toLocalDateTime()
+                ),
+                shardKey, Timestamp.valueOf(createdAtBefore), limit
+        );
+    }
+
+    public int deleteAll(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(
+                "delete from outbox where outbox_id in (" + String.join(",", Collections.nCopies(outboxIds.size(), "?")) + ")",
+                outboxIds.toArray()
+        );
+    }
+
+    /*
+    * 만료되었거나 이미 보유한 lease면 연장, row가 없으면 생성
+    * 다른 서버가 보유 중이면 false
+    * */
+    public boolean tryAcquireLease(Long shardKey, String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        int updated = jdbcTemplate.update(
+                "update outbox_relay_lease set owner = ?, expires_at = ? " +
+                        "where shard_key = ? and (owner = ? or expires_at < ?)",
+                owner, Timestamp.valueOf(expiresAt), shardKey, owner, Timestamp.valueOf(now)
+        );
+        if (updated == 1) {
+            return true;
+        }
+        try {
+            jdbcTemplate.update(
+                    "insert into outbox_relay_lease(shard_key, owner, expires_at) values (?, ?, ?)",
+                    shardKey, owner, Timestamp.valueOf(expiresAt)
+            );
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public int releaseLeases(String owner) {
+        return jdbcTemplate.update("delete from outbox_relay_lease where owner = ?", owner);
+    }
+}
@@ -0,0 +1,28 @@
+package kuke.board.common.outboxmessagerelay.batch;
+
+import java.util.function.Supplier;
+
+/*
+* outbox 테이블이 여러 DB(shard)에 나뉘어 있는 서비스에서 relay 대상 DB 지정
+* - relay는 요청 스레드가 아닌 별도 스레드에서 동작하므로, DB별로 명시적으로 지정하여 조회/삭제한다.
+* - DB가 하나인 서비스는 single() 사용
+* */
+public interface OutboxDatabaseRouter {
+    int getDatabaseCount();
+
+    <T> T route(int database, Supplier<T> supplier);
+
+    static OutboxDatabaseRouter single() {
+        return new OutboxDatabaseRouter() {
+            @Override
+            public int getDatabaseCount() {
+                return 1;
+            }
+
+            @Override
+            public <T> T route(int database, Supplier<T> supplier) {
+                return supplier.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package kuke.board.common.outboxmessagerelay.batch;
+
+import java.util.concurrent.CompletableFuture;
+
+/*
+* outbox 메시지 비동기 전송(Kafka 혹은 테스트용 in-memory broker)
+* 같은 key의 메시지는 전송 요청 순서대로 전달되어야 한다.
+* */
+public interface OutboxMessageSender {
+    CompletableFuture<?> send(String topic, String key, String payload);
+}
@@ -0,0 +1,15 @@
+package kuke.board.common.outboxmessagerelay.batch;
+
+import java.time.LocalDateTime;
+
+/*
+* outbox 테이블 1 row
+* */
+public record OutboxRow(
+        Long outboxId,
+        Long shardKey,
+        String eventType,
+        String payload,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,10 @@
+package kuke.board.common.outboxmessagerelay.batch;
+
+/*
+* outbox의 event_type -> 전송할 topic
+* relay 모듈이 서비스의 이벤트 정의(EventType)에 의존하지 않도록, batch relay를 사용하는 서비스에서 bean으로 등록한다.
+* */
+@FunctionalInterface
+public interface OutboxTopicResolver {
+    String resolve(String eventType);
+}
@@ -0,0 +1,318 @@
+package kuke.board.common.outboxmessagerelay.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+* in-memory DB(H2) + in-memory broker로 relay 동작 검증
+* */
+class BatchMessageRelayTest {
+    JdbcTemplate jdbcTemplate;
+    InMemoryBroker broker;
+    BatchMessageRelayProperties properties;
+    BatchMessageRelay batchMessageRelay;
+
+    /*
+    * 전송 순서대로 기록, failPayload 전송 시 실패
+    * */
+    static class InMemoryBroker implements OutboxMessageSender {
+        List<String> messages = new ArrayList<>();
+        String failPayload;
+
+        @Override
+        public synchronized CompletableFuture<?> send(String topic, String key, String payload) {
+            if (payload.equals(failPayload)) {
+                return CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+            }
+            messages.add(topic + ":" + key + ":" + payload);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"
+        ));
+        jdbcTemplate.execute("create table outbox (outbox_id bigint not null primary key, shard_key bigint not null, " +
+                "event_type varchar(100) not null, payload varchar(5000) not null, created_at datetime not null)");
+        jdbcTemplate.execute("create table outbox_relay_lease (shard_key bigint not null primary key, " +
+                "owner varchar(100) not null, expires_at datetime not null)");
+
+        broker = new InMemoryBroker();
+        properties = new BatchMessageRelayProperties();
+        properties.setBatchSize(3);
+        batchMessageRelay = new BatchMessageRelay(
+                new OutboxBatchRepository(jdbcTemplate), broker, eventType -> "topic-" + eventType, properties
+        );
+    }
+
+    @Test
+    void drainTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now().minusSeconds(11);
+        for (long i = 1; i <= 5; i++) {
+            insert(i, 1L, "payload" + i, now.plusNanos(i * 1000_000));
+        }
+        insert(6L, 2L, "other", now);
+
+        // when
+        int first = batchMessageRelay.drain(1L);
+        int second = batchMessageRelay.drain(1L);
+
+        // then : shard 1만 created_at 순서대로 전송, 전송된 outbox 삭제
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(2);
+        assertThat(broker.messages).containsExactly(
+                "topic-ARTICLE_CREATED:1:payload1",
+                "topic-ARTICLE_CREATED:1:payload2",
+                "topic-ARTICLE_CREATED:1:payload3",
+                "topic-ARTICLE_CREATED:1:payload4",
+                "topic-ARTICLE_CREATED:1:payload5"
+        );
+        assertThat(jdbcTemplate.queryForList("select outbox_id from outbox", Long.class)).containsExactly(6L);
+        assertThat(batchMessageRelay.getSentCount()).isEqualTo(5);
+    }
+
+    /*
+    * 전송 실패 시 실패 지점 이후는 전송/삭제하지 않는다(순서 유지).
+    * */
+    @Test
+    void drainFailureTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now().minusSeconds(11);
+        for (long i = 1; i <= 3; i++) {
+            insert(i, 1L, "payload" + i, now.plusNanos(i * 1000_000));
+        }
+        broker.failPayload = "payload2";
+
+        // when
+        int drained = batchMessageRelay.drain(1L);
+
+        // then : 실패한 payload2 이후의 payload3은 broker에 전송되지 않는다.
+        assertThat(drained).isEqualTo(0);
+        assertThat(broker.messages).containsExactly("topic-ARTICLE_CREATED:1:payload1");
+        assertThat(jdbcTemplate.queryForList("select outbox_id from outbox order by outbox_id", Long.class))
+                .containsExactly(2L, 3L);
+        assertThat(batchMessageRelay.getFailedCount()).isEqualTo(2);
+        assertThat(batchMessageRelay.getLagMillis()).isGreaterThan(0);
+    }
+
+    /*
+    * 다음 polling에서 실패한 메시지부터 다시 순서대로 전송
+    * */
+    @Test
+    void drainRetryTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now().minusSeconds(11);
+        for (long i = 1; i <= 3; i++) {
+            insert(i, 1L, "payload" + i, now.plusNanos(i * 1000_000));
+        }
+        broker.failPayload = "payload2";
+        batchMessageRelay.drain(1L);
+
+        // when
+        broker.failPayload = null;
+        batchMessageRelay.drain(1L);
+
+        // then
+        assertThat(broker.messages).containsExactly(
+                "topic-ARTICLE_CREATED:1:payload1",
+                "topic-ARTICLE_CREATED:1:payload2",
+                "topic-ARTICLE_CREATED:1:payload3"
+        );
+        assertThat(jdbcTemplate.queryForList("select outbox_id from outbox", Long.class)).isEmpty();
+    }
+
+    /*
+    * batch 전체를 전송 요청한 뒤 ack 확인, 비동기로 실패한 메시지부터는 삭제하지 않는다.
+    * */
+    @Test
+    void drainAsyncFailureTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now().minusSeconds(11);
+        for (long i = 1; i <= 3; i++) {
+            insert(i, 1L, "payload" + i, now.plusNanos(i * 1000_000));
+        }
+        List<String> sent = new ArrayList<>();
+        BatchMessageRelay relay = new BatchMessageRelay(
+                new OutboxBatchRepository(jdbcTemplate),
+                (topic, key, payload) -> {
+                    sent.add(payload);
+                    return CompletableFuture.runAsync(() -> {
+                        if (payload.equals("payload2")) {
+                            throw new IllegalStateException("broker down");
+                        }
+                    }, CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS));
+                },
+                eventType -> "topic-" + eventType, properties
+        );
+
+        // when
+        int drained = relay.drain(1L);
+
+        // then : 모두 전송 요청되지만 payload2 이후는 다음 polling에서 다시 전송
+        assertThat(drained).isEqualTo(0);
+        assertThat(sent).containsExactly("payload1", "payload2", "payload3");
+        assertThat(jdbcTemplate.queryForList("select outbox_id from outbox order by outbox_id", Long.class))
+                .containsExactly(2L, 3L);
+        assertThat(relay.getSentCount()).isEqualTo(1);
+        assertThat(relay.getFailedCount()).isEqualTo(2);
+    }
+
+    /*
+    * 커밋 직후 전송 경로와 겹치지 않도록 minAgeMillis가 지나지 않은 outbox는 relay하지 않는다.
+    * */
+    @Test
+    void drainMinAgeTest() {
+        // given
+        insert(1L, 1L, "payload1", LocalDateTime.now());
+
+        // when
+        int drained = batchMessageRelay.drain(1L);
+
+        // then
+        assertThat(drained).isEqualTo(0);
+        assertThat(broker.messages).isEmpty();
+        assertThat(jdbcTemplate.queryForList("select outbox_id from outbox", Long.class)).containsExactly(1L);
+    }
+
+    @Test
+    void drainInvalidShardTest() {
+        assertThatThrownBy(() -> batchMessageRelay.drain(4L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> batchMessageRelay.drain(-1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /*
+    * outbox가 여러 DB(shard)에 나뉘어 있으면 모든 DB의 outbox를 relay
+    * */
+    @Test
+    void drainAllDatabasesTest() {
+        // given : DB 0, 1에 같은 shard_key(1)의 outbox
+        ThreadLocal<Integer> currentDatabase = new ThreadLocal<>();
+        JdbcTemplate database0 = jdbcTemplate;
+        JdbcTemplate database1 = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"
+        ));
+        database1.execute("create table outbox (outbox_id bigint not null primary key, shard_key bigint not null, " +
+                "event_type varchar(100) not null, payload varchar(5000) not null, created_at datetime not null)");
+        AbstractRoutingDataSource routingDataSource = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return currentDatabase.get();
+            }
+        };
+        routingDataSource.setTargetDataSources(Map.of(0, database0.getDataSource(), 1, database1.getDataSource()));
+        routingDataSource.setDefaultTargetDataSource(database0.getDataSource());
+        routingDataSource.afterPropertiesSet();
+
+        OutboxDatabaseRouter router = new OutboxDatabaseRouter() {
+            @Override
+            public int getDatabaseCount() {
+                return 2;
+            }
+
+            @Override
+            public <T> T route(int database, Supplier<T> supplier) {
+                currentDatabase.set(database);
+                try {
+                    return supplier.get();
+                } finally {
+                    currentDatabase.remove();
+                }
+            }
+        };
+        BatchMessageRelay relay = new BatchMessageRelay(
+                new OutboxBatchRepository(new JdbcTemplate(routingDataSource)),
+                broker, eventType -> "topic-" + eventType, properties, router
+        );
+        LocalDateTime now = LocalDateTime.now().minusSeconds(11);
+        insert(1L, 1L, "payload1", now);
+        database1.update(
+                "insert into outbox(outbox_id, shard_key, event_type, payload, created_at) values (?, ?, ?, ?, ?)",
+                2L, 1L, "ARTICLE_CREATED", "payload2", Timestamp.valueOf(now)
+        );
+
+        // when
+        relay.drain(1L);
+
+        // then
+        assertThat(broker.messages).containsExactlyInAnyOrder(
+                "topic-ARTICLE_CREATED:1:payload1",
+                "topic-ARTICLE_CREATED:1:payload2"
+        );
+        assertThat(database0.queryForList("select outbox_id from outbox", Long.class)).isEmpty();
+        assertThat(database1.queryForList("select outbox_id from outbox", Long.class)).isEmpty();
+    }
+
+    @Test
+    void assignedShardsTest() {
+        properties.setShardCount(4);
+        properties.setWorkerCount(2);
+        BatchMessageRelay relay = new BatchMessageRelay(
+                new OutboxBatchRepository(jdbcTemplate), broker, eventType -> eventType, properties
+        );
+
+        assertThat(relay.assignedShards(0)).containsExactly(0L, 2L);
+        assertThat(relay.assignedShards(1)).containsExactly(1L, 3L);
+    }
+
+    /*
+    * 여러 서버 중 shard lease를 가진 서버만 relay, 반납하거나 만료되면 다른 서버가 이어받는다.
+    * */
+    @Test
+    void shardLeaseTest() throws InterruptedException {
+        properties.setSendTimeoutMillis(10);
+        properties.setLeaseMillis(100);
+        BatchMessageRelay relay1 = new BatchMessageRelay(
+                new OutboxBatchRepository(jdbcTemplate), broker, eventType -> eventType, properties
+        );
+        BatchMessageRelay relay2 = new BatchMessageRelay(
+                new OutboxBatchRepository(jdbcTemplate), broker, eventType -> eventType, properties
+        );
+
+        assertThat(relay1.acquireLease(1L)).isTrue();
+        assertThat(relay2.acquireLease(1L)).isFalse();
+        assertThat(relay2.acquireLease(2L)).isTrue();
+
+        relay1.stop();
+        assertThat(relay2.acquireLease(1L)).isTrue();
+        assertThat(relay1.acquireLease(1L)).isFalse();
+
+        Thread.sleep(150);
+        assertThat(relay1.acquireLease(2L)).isTrue();
+        assertThat(relay2.acquireLease(2L)).isFalse();
+    }
+
+    @Test
+    void invalidLeaseMillisTest() {
+        properties.setLeaseMillis(properties.getSendTimeoutMillis());
+
+        assertThatThrownBy(() -> new BatchMessageRelay(
+                new OutboxBatchRepository(jdbcTemplate), broker, eventType -> eventType, properties
+        )).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    void insert(Long outboxId, Long shardKey, String payload, LocalDateTime createdAt) {
+        jdbcTemplate.update(
+                "insert into outbox(outbox_id, shard_key, event_type, payload, created_at) values (?, ?, ?, ?, ?)",
+                outboxId, shardKey, "ARTICLE_CREATED", payload, Timestamp.valueOf(createdAt)
+        );
+    }
+}
@@ -0,0 +1,101 @@
+package kuke.board.common.snowflake;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+* 기존 Snowflake(synchronized) / AtomicSnowflake(CAS) / AtomicSnowflake IdBlock 처리량 비교
+* 스레드 수 : 1, 8, 64
+* */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnowflakeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Generators {
+        Snowflake snowflake = new Snowflake();
+        AtomicSnowflake atomicSnowflake = new AtomicSnowflake();
+    }
+
+    /*
+    * 스레드별 IdBlock(대량 insert 시나리오)
+    * */
+    @State(Scope.Thread)
+    public static class ThreadBlock {
+        IdBlock idBlock;
+
+        long nextId(AtomicSnowflake atomicSnowflake) {
+            if (idBlock == null || !idBlock.hasNext()) {
+                idBlock = atomicSnowflake.nextBlock(1000);
+            }
+            return idBlock.nextId();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long snowflake1(Generators generators) {
+        return generators.snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long snowflake8(Generators generators) {
+        return generators.snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long snowflake64(Generators generators) {
+        return generators.snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long atomicSnowflake1(Generators generators) {
+        return generators.atomicSnowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long atomicSnowflake8(Generators generators) {
+        return generators.atomicSnowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long atomicSnowflake64(Generators generators) {
+        return generators.atomicSnowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long atomicSnowflakeBlock1(Generators generators, ThreadBlock threadBlock) {
+        return threadBlock.nextId(generators.atomicSnowflake);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long atomicSnowflakeBlock8(Generators generators, ThreadBlock threadBlock) {
+        return threadBlock.nextId(generators.atomicSnowflake);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long atomicSnowflakeBlock64(Generators generators, ThreadBlock threadBlock) {
+        return threadBlock.nextId(generators.atomicSnowflake);
+    }
+}
@@ -0,0 +1,102 @@
+package kuke.board.common.snowflake;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+/*
+* Snowflake와 동일한 ID 구조(1 + 41(timestamp) + 10(node) + 12(sequence))를 사용하는 lock-free ID 생성기
+* - timestamp와 sequence를 하나의 long(state)에 담아 CAS로 갱신한다(monitor lock 없음).
+* - IdBlock : sequence 구간을 한번의 CAS로 미리 할당하여, 대량 insert 시 스레드가 경합 없이 ID를 사용한다.
+* - sequence 소진 : 미래 timestamp를 미리 사용하지 않고, 시계가 다음 ms에 도달할 때까지 대기(park)한다.
+* - 시계 역행 : 마지막 timestamp의 남은 sequence는 대기 없이 발급하고, 소진되면 시계가 따라잡을 때까지 대기한다.
+*   MAX_DRIFT_MILLIS 이상 역행하면 예외.
+* */
+public class AtomicSnowflake {
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    private static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    public static final int MAX_BLOCK_SIZE = (int) MAX_SEQUENCE + 1;
+
+    private static final long MAX_DRIFT_MILLIS = 10_000L;
+    private static final long WAIT_NANOS = 50_000L;
+
+    private final long nodeId = RandomGenerator.getDefault().nextLong(MAX_NODE_ID + 1);
+    // UTC = 2024-01-01T00:00:00Z
+    private final long startTimeMillis = 1704067200000L;
+
+    /*
+    * (startTimeMillis 기준 timestamp << SEQUENCE_BITS) | 마지막으로 할당된 sequence
+    * */
+    private final AtomicLong state = new AtomicLong(-1L);
+
+    public long nextId() {
+        long allocated = allocate(1);
+        return toId(allocated >>> SEQUENCE_BITS, allocated & MAX_SEQUENCE);
+    }
+
+    /*
+    * 같은 timestamp 안에서 연속된 size개의 sequence를 할당
+    * */
+    public IdBlock nextBlock(int size) {
+        if (size < 1 || size > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("block size must be between 1 and " + MAX_BLOCK_SIZE);
+        }
+        long allocated = allocate(size);
+        long timestamp = allocated >>> SEQUENCE_BITS;
+        long lastSequence = allocated & MAX_SEQUENCE;
+        return new IdBlock(this, timestamp, lastSequence - size + 1, size);
+    }
+
+    /*
+    * 할당된 구간의 마지막 (timestamp, sequence) state 반환
+    * */
+    private long allocate(int size) {
+        while (true) {
+            long current = state.get();
+            long now = System.currentTimeMillis() - startTimeMillis;
+
+            long timestamp;
+            long firstSequence;
+            if (current < 0 || now > (current >>> SEQUENCE_BITS)) {
+                timestamp = now;
+                firstSequence = 0;
+            } else {
+                /*
+                * 같은 ms 혹은 시계 역행 : 마지막 timestamp 유지
+                * */
+                timestamp = current >>> SEQUENCE_BITS;
+                if (timestamp - now > MAX_DRIFT_MILLIS) {
+                    throw new IllegalStateException("Invalid Time");
+                }
+                firstSequence = (current & MAX_SEQUENCE) + 1;
+                if (firstSequence + size - 1 > MAX_SEQUENCE) {
+                    waitUntil(timestamp + 1);
+                    continue;
+                }
+            }
+
+            long next = (timestamp << SEQUENCE_BITS) | (firstSequence + size - 1);
+            if (state.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /*
+    * startTimeMillis 기준 timestamp에 도달할 때까지 대기
+    * */
+    private void waitUntil(long timestamp) {
+        while (System.currentTimeMillis() - startTimeMillis < timestamp) {
+            LockSupport.parkNanos(WAIT_NANOS);
+        }
+    }
+
+    long toId(long timestamp, long sequence) {
+        return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+}
@@ -0,0 +1,36 @@
+package kuke.board.common.snowflake;
+
+import java.util.NoSuchElementException;
+
+/*
+* AtomicSnowflake에서 미리 할당받은 ID 구간
+* 하나의 스레드에서 사용하는 것을 전제로 하며(thread-safe 하지 않음), 구간 내 ID는 증가 순서로 반환된다.
+* */
+public class IdBlock {
+    private final AtomicSnowflake snowflake;
+    private final long timestamp;
+    private final long endSequence;
+    private long nextSequence;
+
+    IdBlock(AtomicSnowflake snowflake, long timestamp, long startSequence, int size) {
+        this.snowflake = snowflake;
+        this.timestamp = timestamp;
+        this.nextSequence = startSequence;
+        this.endSequence = startSequence + size;
+    }
+
+    public boolean hasNext() {
+        return nextSequence < endSequence;
+    }
+
+    public int remaining() {
+        return (int) (endSequence - nextSequence);
+    }
+
+    public long nextId() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("id block exhausted");
+        }
+        return snowflake.toId(timestamp, nextSequence++);
+    }
+}
@@ -0,0 +1,54 @@
+package kuke.board.common.snowflake;
+
+import java.util.random.RandomGenerator;
+
+/*
+* 분산 환경 ID 생성기(1 + 41(timestamp) + 10(node) + 12(sequence))
+* synchronized로 timestamp/sequence를 갱신하며, 같은 ms의 sequence 소진 시 다음 ms까지 대기한다.
+* */
+public class Snowflake {
+    private static final int UNUSED_BITS = 1;
+    private static final int EPOCH_BITS = 41;
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    private static final long maxNodeId = (1L << NODE_ID_BITS) - 1;
+    private static final long maxSequence = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId = RandomGenerator.getDefault().nextLong(maxNodeId + 1);
+    // UTC = 2024-01-01T00:00:00Z
+    private final long startTimeMillis = 1704067200000L;
+
+    private long lastTimeMillis = startTimeMillis;
+    private long sequence = 0L;
+
+    public synchronized long nextId() {
+        long currentTimeMillis = System.currentTimeMillis();
+
+        if (currentTimeMillis < lastTimeMillis) {
+            throw new IllegalStateException("Invalid Time");
+        }
+
+        if (currentTimeMillis == lastTimeMillis) {
+            sequence = (sequence + 1) & maxSequence;
+            if (sequence == 0) {
+                currentTimeMillis = waitNextMillis(currentTimeMillis);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimeMillis = currentTimeMillis;
+
+        return ((currentTimeMillis - startTimeMillis) << (NODE_ID_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private long waitNextMillis(long currentTimestamp) {
+        while (currentTimestamp <= lastTimeMillis) {
+            currentTimestamp = System.currentTimeMillis();
+        }
+        return currentTimestamp;
+    }
+}
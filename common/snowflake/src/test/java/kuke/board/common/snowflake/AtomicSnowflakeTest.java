@@ -0,0 +1,93 @@
+package kuke.board.common.snowflake;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AtomicSnowflakeTest {
+    AtomicSnowflake snowflake = new AtomicSnowflake();
+
+    /*
+    * 다중 스레드에서 생성한 ID의 유일성 및 스레드별 증가 순서
+    * */
+    @Test
+    void nextIdTest() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(executorService.submit(() -> {
+                List<Long> ids = new ArrayList<>();
+                for (int j = 0; j < 1000; j++) {
+                    ids.add(snowflake.nextId());
+                }
+                return ids;
+            }));
+        }
+
+        Set<Long> idSet = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            List<Long> ids = future.get();
+            for (int i = 1; i < ids.size(); i++) {
+                assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+            }
+            idSet.addAll(ids);
+        }
+        assertThat(idSet).hasSize(1000 * 1000);
+        executorService.shutdown();
+    }
+
+    @Test
+    void nextBlockTest() {
+        // given
+        IdBlock idBlock = snowflake.nextBlock(AtomicSnowflake.MAX_BLOCK_SIZE);
+        long nextId = snowflake.nextId();
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        while (idBlock.hasNext()) {
+            ids.add(idBlock.nextId());
+        }
+
+        // then
+        assertThat(ids).hasSize(AtomicSnowflake.MAX_BLOCK_SIZE).isSorted().doesNotContain(nextId);
+        assertThat(nextId).isGreaterThan(ids.getLast());
+    }
+
+    /*
+    * sequence를 계속 소진해도 실제 시각보다 앞선 timestamp를 사용하지 않는다(예외 없이 대기).
+    * */
+    @Test
+    void exhaustedSequenceTest() {
+        long lastId = 0;
+        for (int i = 0; i < 4000; i++) {
+            IdBlock idBlock = snowflake.nextBlock(1000);
+            while (idBlock.hasNext()) {
+                long id = idBlock.nextId();
+                assertThat(id).isGreaterThan(lastId);
+                lastId = id;
+            }
+        }
+
+        assertThat(timestampMillis(lastId)).isLessThanOrEqualTo(System.currentTimeMillis());
+        assertThat(timestampMillis(snowflake.nextId())).isLessThanOrEqualTo(System.currentTimeMillis());
+    }
+
+    @Test
+    void nextBlockSizeTest() {
+        assertThatThrownBy(() -> snowflake.nextBlock(AtomicSnowflake.MAX_BLOCK_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    long timestampMillis(long id) {
+        return (id >>> 22) + 1704067200000L;
+    }
+}
@@ -12,8 +12,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /*
 * Command 서버로 데이터를 요청하기 위한 Client 객체
@@ -24,6 +26,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ArticleClient {
     private RestClient restClient;
+    private static final int BATCH_SIZE = 100;
     @Value("${endpoints.kuke-board-article-service.url}")
     private String articleServiceUrl;
 
@@ -63,6 +66,31 @@ public class ArticleClient {
         }
     }
 
+    /*
+    * 여러 게시글 원본 데이터를 batch API로 읽기(요청 순서 유지)
+    * BATCH_SIZE 단위로 나누어 요청, 실패한 묶음은 제외한다.
+    * */
+    public List<ArticleResponse> readAll(List<Long> articleIds) {
+        List<ArticleResponse> result = new ArrayList<>();
+        for (int i = 0; i < articleIds.size(); i += BATCH_SIZE) {
+            List<Long> chunk = articleIds.subList(i, Math.min(i + BATCH_SIZE, articleIds.size()));
+            try {
+                List<ArticleResponse> articles = restClient.get()
+                        .uri("/v1/articles/batch?ids=%s".formatted(
+                                chunk.stream().map(String::valueOf).collect(Collectors.joining(","))
+                        ))
+                        .retrieve()
+                        .body(new ParameterizedTypeReference<List<ArticleResponse>>() {});
+                if (articles != null) {
+                    result.addAll(articles);
+                }
+            } catch (Exception e) {
+                log.error("[ArticleClient.readAll] articleIds={}", chunk, e);
+            }
+        }
+        return result;
+    }
+
     /*
     * 목록조회기능 추가 : 페이징
     * 원본데이터를 얻는 restClient 기본적으로 필요(Redis에 없을 경우)
@@ -4,9 +4,15 @@ import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /*
 * 다른 도메인에서 데이터 추출 시 사용하며, Service layer에서 이를 참조.
 * */
@@ -18,6 +24,8 @@ public class LikeClient {
     @Value("${endpoints.kuke-board-like-service.url}")
     private String likeServiceUrl;
 
+    private static final int BATCH_SIZE = 100;
+
     /*
      * 참고로, PostConstruct는 모든 Bean 초기화 후 실행
      * 객체 생성 (Constructor 호출)
@@ -49,4 +57,30 @@ public class LikeClient {
         }
     }
 
+    /*
+    * 여러 게시글 중 사용자가 좋아요한 게시글 id를 batch API로 읽기
+    * BATCH_SIZE 단위로 나누어 요청, 실패한 묶음은 좋아요하지 않은 것으로 처리한다.
+    * */
+    public Set<Long> readLikedArticleIds(Long userId, List<Long> articleIds) {
+        Set<Long> result = new HashSet<>();
+        for (int i = 0; i < articleIds.size(); i += BATCH_SIZE) {
+            List<Long> chunk = articleIds.subList(i, Math.min(i + BATCH_SIZE, articleIds.size()));
+            try {
+                List<Long> likedArticleIds = restClient.get()
+                        .uri("/v1/article-likes/users/{userId}/batch?articleIds={articleIds}",
+                                userId,
+                                chunk.stream().map(String::valueOf).collect(Collectors.joining(","))
+                        )
+                        .retrieve()
+                        .body(new ParameterizedTypeReference<List<Long>>() {});
+                if (likedArticleIds != null) {
+                    result.addAll(likedArticleIds);
+                }
+            } catch (Exception e) {
+                log.error("[LikeClient.readLikedArticleIds] userId={}, articleIds={}", userId, chunk, e);
+            }
+        }
+        return result;
+    }
+
 }
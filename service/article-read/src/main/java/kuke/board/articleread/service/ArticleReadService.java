@@ -93,6 +93,28 @@ public class ArticleReadService {
         return articleQueryModelOptional;
     }
 
+    /*
+    * 여러 원본 데이터를 batch로 요청
+    * - article query model 생성 및 Redis 저장은 fetch와 동일
+    * */
+    private Map<Long, ArticleQueryModel> fetchAll(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, ArticleQueryModel> articleQueryModelMap = new HashMap<>();
+        for (ArticleClient.ArticleResponse article : articleClient.readAll(articleIds)) {
+            ArticleQueryModel articleQueryModel = ArticleQueryModel.create(
+                    article,
+                    commentClient.count(article.getArticleId()),
+                    likeClient.count(article.getArticleId())
+            );
+            articleQueryModelRepository.create(articleQueryModel, Duration.ofDays(1));
+            articleQueryModelMap.put(article.getArticleId(), articleQueryModel);
+        }
+        log.info("[ArticleReadService.fetchAll] fetch data. requested={}, fetched={}", articleIds.size(), articleQueryModelMap.size());
+        return articleQueryModelMap;
+    }
+
     /*
     * 기본적인 페이징 쿼리
     * */
@@ -116,10 +138,18 @@ public class ArticleReadService {
         * 없다면 fetch하여 원본데이터 반환
         * */
         Map<Long, ArticleQueryModel> articleQueryModelMap = articleQueryModelRepository.readAll(articleIds);
+        /*
+        * Redis에 없는 게시글들은 원본 데이터를 한번에 요청(batch)
+        * */
+        Map<Long, ArticleQueryModel> fetchedMap = fetchAll(
+                articleIds.stream()
+                        .filter(articleId -> !articleQueryModelMap.containsKey(articleId))
+                        .toList()
+        );
         return articleIds.stream()
                 .map(articleId -> articleQueryModelMap.containsKey(articleId) ?
                         articleQueryModelMap.get(articleId) :
-                        fetch(articleId).orElse(null))
+                        fetchedMap.get(articleId))
                 .filter(Objects::nonNull)
                 .map(articleQueryModel ->
                         ArticleReadResponse.from(
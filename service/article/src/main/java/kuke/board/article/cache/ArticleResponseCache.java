@@ -0,0 +1,159 @@
+package kuke.board.article.cache;
+
+import kuke.board.article.service.response.ArticleResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/*
+* 게시글 단건 조회 결과(ArticleResponse)에 대한 JVM 내부 캐시
+* - ConcurrentHashMap으로 조회(hit)는 lock 없이 처리
+* - ttl-millis 이후 만료, 다른 인스턴스에서의 수정/삭제는 ttl 동안만 어긋날 수 있다.
+* - 같은 JVM에서의 수정/삭제 시 즉시 제거(evict)
+* - 개수 기반 LRU : 조회할 때마다 접근 순번을 기록해두고, max-size 초과 시 접근 순번이 가장 오래된 게시글 제거
+*   제거는 저장(miss) 경로에서만 수행하므로 조회는 제거를 기다리지 않는다.
+* - hit/miss/eviction 횟수 집계
+* */
+@Component
+public class ArticleResponseCache {
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<Long, CachedArticle> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    /*
+    * 원본 조회 도중 evict가 발생하면, 조회한 (이전)데이터는 캐시에 저장하지 않는다.
+    * */
+    private final AtomicLong invalidationSequence = new AtomicLong();
+    private final AtomicLong accessSequence = new AtomicLong();
+    /*
+    * max-size 초과 시 제거는 한번에 하나의 요청만 수행
+    * */
+    private final Object evictionLock = new Object();
+
+    private static class CachedArticle {
+        private final ArticleResponse articleResponse;
+        private final long expiredAt;
+        private volatile long accessedSequence;
+
+        private CachedArticle(ArticleResponse articleResponse, long expiredAt, long accessedSequence) {
+            this.articleResponse = articleResponse;
+            this.expiredAt = expiredAt;
+            this.accessedSequence = accessedSequence;
+        }
+    }
+
+    public ArticleResponseCache(
+            @Value("${article-cache.max-size:10000}") int maxSize,
+            @Value("${article-cache.ttl-millis:10000}") long ttlMillis
+    ) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /*
+    * 캐시에 없을 경우 originDataSupplier로 원본 데이터 조회 후 저장
+    * 원본 조회는 lock 밖에서 수행한다.
+    * */
+    public ArticleResponse getOrLoad(Long articleId, Supplier<ArticleResponse> originDataSupplier) {
+        Optional<ArticleResponse> cached = get(articleId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long sequence = invalidationSequence.get();
+        ArticleResponse articleResponse = originDataSupplier.get();
+        /*
+        * evict는 순번 증가 후 제거하므로, 순번 확인과 저장을 같은 key의 compute 안에서 수행하면
+        * evict 이후에 이전 데이터가 저장되지 않는다.
+        * */
+        cache.compute(articleId, (key, current) ->
+                invalidationSequence.get() == sequence ? newCachedArticle(articleResponse) : current
+        );
+        evictIfFull();
+        return articleResponse;
+    }
+
+    public Optional<ArticleResponse> get(Long articleId) {
+        CachedArticle cachedArticle = cache.get(articleId);
+        if (cachedArticle != null && cachedArticle.expiredAt <= System.currentTimeMillis()) {
+            cache.remove(articleId, cachedArticle);
+            cachedArticle = null;
+        }
+        if (cachedArticle == null) {
+            missCount.increment();
+            return Optional.empty();
+        }
+        cachedArticle.accessedSequence = accessSequence.incrementAndGet();
+        hitCount.increment();
+        return Optional.of(cachedArticle.articleResponse);
+    }
+
+    public void put(Long articleId, ArticleResponse articleResponse) {
+        cache.put(articleId, newCachedArticle(articleResponse));
+        evictIfFull();
+    }
+
+    private CachedArticle newCachedArticle(ArticleResponse articleResponse) {
+        return new CachedArticle(articleResponse, System.currentTimeMillis() + ttlMillis, accessSequence.incrementAndGet());
+    }
+
+    /*
+    * 초과한 개수만큼 접근 순번이 가장 오래된 게시글 제거
+    * */
+    private void evictIfFull() {
+        if (cache.size() <= maxSize) {
+            return;
+        }
+        synchronized (evictionLock) {
+            int overflow = cache.size() - maxSize;
+            if (overflow <= 0) {
+                return;
+            }
+            PriorityQueue<Map.Entry<Long, CachedArticle>> eldest = new PriorityQueue<>(
+                    Comparator.comparingLong((Map.Entry<Long, CachedArticle> entry) -> entry.getValue().accessedSequence).reversed()
+            );
+            for (Map.Entry<Long, CachedArticle> entry : cache.entrySet()) {
+                eldest.add(Map.entry(entry.getKey(), entry.getValue()));
+                if (eldest.size() > overflow) {
+                    eldest.poll();
+                }
+            }
+            for (Map.Entry<Long, CachedArticle> entry : eldest) {
+                if (cache.remove(entry.getKey(), entry.getValue())) {
+                    evictionCount.increment();
+                }
+            }
+        }
+    }
+
+    public void evict(Long articleId) {
+        invalidationSequence.incrementAndGet();
+        cache.remove(articleId);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+}
@@ -0,0 +1,20 @@
+package kuke.board.article.config;
+
+import kuke.board.common.event.EventType;
+import kuke.board.common.outboxmessagerelay.batch.OutboxTopicResolver;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+* batch relay(outbox.relay.mode = batch) 사용 시 event_type -> topic
+* */
+@Configuration
+@ConditionalOnProperty(name = "outbox.relay.mode", havingValue = "batch")
+public class OutboxRelayConfig {
+
+    @Bean
+    public OutboxTopicResolver outboxTopicResolver() {
+        return eventType -> EventType.valueOf(eventType).getTopic();
+    }
+}
@@ -1,23 +1,56 @@
 package kuke.board.article.controller;
 
 import kuke.board.article.service.ArticleService;
+import kuke.board.article.shard.BoardShardRouter;
+import kuke.board.article.service.request.ArticleBatchCreateRequest;
 import kuke.board.article.service.request.ArticleCreateRequest;
 import kuke.board.article.service.request.ArticleUpdateRequest;
+import kuke.board.article.service.response.ArticleCacheStatsResponse;
 import kuke.board.article.service.response.ArticlePageResponse;
 import kuke.board.article.service.response.ArticleResponse;
+import kuke.board.article.service.response.ArticleSummaryPageResponse;
+import kuke.board.article.service.response.ArticleSummaryResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
 public class ArticleController {
     private final ArticleService articleService;
+    private final BoardShardRouter boardShardRouter;
 
     @GetMapping("/v1/articles/{articleId}")
     public ArticleResponse read(@PathVariable Long articleId) {
-        return articleService.read(articleId);
+        ArticleResponse response = boardShardRouter.routeToShard(shardOfArticle(articleId), () -> articleService.read(articleId));
+        boardShardRouter.registerArticle(articleId, response.getBoardId());
+        return response;
+    }
+
+    /*
+    * 여러 게시글 한번에 조회(ids=1,2,3)
+    * 다른 서비스에서 게시글 목록을 구성할 때 게시글 수만큼 요청하지 않도록 한다.
+    * */
+    @GetMapping("/v1/articles/batch")
+    public List<ArticleResponse> readAll(@RequestParam("ids") List<Long> articleIds) {
+        /*
+        * 여러 게시판(shard)에 걸쳐 있을 수 있으므로 scatter-gather 후 요청 순서로 정렬
+        * */
+        Map<Long, ArticleResponse> articleMap = boardShardRouter.scatter(() -> articleService.readAll(articleIds)).stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(ArticleResponse::getArticleId, Function.identity(), (a, b) -> a));
+        return articleIds.stream()
+                .distinct()
+                .map(articleMap::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @GetMapping("/v1/articles")
@@ -26,7 +59,19 @@ public class ArticleController {
             @RequestParam("page") Long page,
             @RequestParam("pageSize") Long pageSize
     ) {
-        return articleService.readAll(boardId, page, pageSize);
+        return boardShardRouter.route(boardId, () -> articleService.readAll(boardId, page, pageSize));
+    }
+
+    /*
+    * 목록 요약 조회(view=summary) : content 제외
+    * */
+    @GetMapping(value = "/v1/articles", params = "view=summary")
+    public ArticleSummaryPageResponse readAllSummary(
+            @RequestParam("boardId") Long boardId,
+            @RequestParam("page") Long page,
+            @RequestParam("pageSize") Long pageSize
+    ) {
+        return boardShardRouter.route(boardId, () -> articleService.readAllSummary(boardId, page, pageSize));
     }
 
     @GetMapping("/v1/articles/infinite-scroll")
@@ -35,7 +80,16 @@ public class ArticleController {
             @RequestParam("pageSize") Long pageSize,
             @RequestParam(value = "lastArticleId", required = false) Long lastArticleId
     ) {
-        return articleService.readAllInfiniteScroll(boardId, pageSize, lastArticleId);
+        return boardShardRouter.route(boardId, () -> articleService.readAllInfiniteScroll(boardId, pageSize, lastArticleId));
+    }
+
+    @GetMapping(value = "/v1/articles/infinite-scroll", params = "view=summary")
+    public List<ArticleSummaryResponse> readAllSummaryInfiniteScroll(
+            @RequestParam("boardId") Long boardId,
+            @RequestParam("pageSize") Long pageSize,
+            @RequestParam(value = "lastArticleId", required = false) Long lastArticleId
+    ) {
+        return boardShardRouter.route(boardId, () -> articleService.readAllSummaryInfiniteScroll(boardId, pageSize, lastArticleId));
     }
 
     /*
@@ -45,7 +99,28 @@ public class ArticleController {
     * */
     @PostMapping("/v1/articles")
     public ArticleResponse create(@RequestBody ArticleCreateRequest request) {
-        return articleService.create(request);
+        ArticleResponse response = boardShardRouter.route(request.getBoardId(), () -> articleService.create(request));
+        boardShardRouter.registerArticle(response.getArticleId(), response.getBoardId());
+        return response;
+    }
+
+    /*
+    * 게시글 대량 생성(최대 1000건, 하나의 트랜잭션)
+    * */
+    @PostMapping("/v1/articles/batch")
+    public List<ArticleResponse> createAll(@RequestBody ArticleBatchCreateRequest request) {
+        articleService.validateCreateAll(request);
+        /*
+        * shard별로 나누어 각 shard에서 하나의 트랜잭션으로 생성(shard 간 원자성은 보장하지 않는다)
+        * */
+        Map<Integer, List<ArticleCreateRequest>> requestsByShard = request.getArticles().stream()
+                .collect(Collectors.groupingBy(article -> boardShardRouter.shardOf(article.getBoardId())));
+        List<ArticleResponse> responses = new ArrayList<>();
+        requestsByShard.forEach((shard, articles) -> responses.addAll(
+                boardShardRouter.routeToShard(shard, () -> articleService.createAll(ArticleBatchCreateRequest.of(articles)))
+        ));
+        responses.forEach(response -> boardShardRouter.registerArticle(response.getArticleId(), response.getBoardId()));
+        return responses;
     }
 
     /*
@@ -55,16 +130,49 @@ public class ArticleController {
     * */
     @PutMapping("/v1/articles/{articleId}")
     public ArticleResponse update(@PathVariable Long articleId, @RequestBody ArticleUpdateRequest request) {
-        return articleService.update(articleId, request);
+        return boardShardRouter.routeToShard(shardOfArticle(articleId), () -> articleService.update(articleId, request));
     }
 
     @DeleteMapping("/v1/articles/{articleId}")
     public void delete(@PathVariable Long articleId) {
-        articleService.delete(articleId);
+        boardShardRouter.routeToShard(shardOfArticle(articleId), () -> {
+            articleService.delete(articleId);
+            return null;
+        });
+        boardShardRouter.unregisterArticle(articleId);
+    }
+
+    /*
+    * 게시글 단건 조회 캐시 hit/miss/eviction 통계
+    * */
+    @GetMapping("/v1/articles/cache/stats")
+    public ArticleCacheStatsResponse readCacheStats() {
+        return articleService.readCacheStats();
     }
 
     @GetMapping("/v1/articles/boards/{boardId}/count")
     public Long count(@PathVariable Long boardId) {
-        return articleService.count(boardId);
+        return boardShardRouter.route(boardId, () -> articleService.count(boardId));
+    }
+
+    /*
+    * 관리자용 전체 게시판 최신 게시글 조회(scatter-gather)
+    * 각 shard에서 최신 limit개를 조회 후 article_id 역순으로 병합
+    * */
+    @GetMapping("/v1/admin/articles/latest")
+    public List<ArticleResponse> readAllLatest(@RequestParam("limit") Long limit) {
+        return boardShardRouter.scatter(() -> articleService.readAllLatest(limit)).stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(ArticleResponse::getArticleId).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /*
+    * article_id만으로 요청된 경우 게시글이 존재하는 shard(shard 1개면 탐색 없음)
+    * 생성/조회 시 캐시된 shard를 사용하고, 없을 때만 모든 shard 탐색
+    * */
+    private int shardOfArticle(Long articleId) {
+        return boardShardRouter.findShardOfArticle(articleId, () -> articleService.exists(articleId)).orElseThrow();
     }
 }
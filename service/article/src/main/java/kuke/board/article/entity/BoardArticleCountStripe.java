@@ -0,0 +1,40 @@
+package kuke.board.article.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/*
+* 게시글 수(분할 저장)
+* 하나의 게시판 게시글 수를 stripe 개수만큼의 row로 나누어 저장하여, 쓰기 시 row lock 경합을 분산한다.
+* 게시글 수 = 게시판의 모든 stripe article_count 합
+* */
+@Table(name = "board_article_count_stripe")
+@Entity
+@Getter
+@ToString
+@IdClass(BoardArticleCountStripe.StripeId.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardArticleCountStripe {
+    @Id
+    private Long boardId; // shard key
+    @Id
+    private Integer stripe;
+    private Long articleCount;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class StripeId implements Serializable {
+        private Long boardId;
+        private Integer stripe;
+    }
+}
@@ -0,0 +1,47 @@
+package kuke.board.article.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/*
+* 깊은 페이지 조회를 위한 게시판별 페이지 기준점(anchor)
+* - articleId : 기준점이 되는 게시글
+* - tailRank : 게시판에서 가장 오래된 게시글부터 센 순번(= board_id 내 article_id <= 기준점 게시글 수)
+* 신규 게시글은 항상 가장 큰 article_id로 head 쪽에 쌓이므로, tail 기준 순번은 게시글 생성에 영향을 받지 않는다.
+* */
+@Table(name = "board_article_page_anchor")
+@Getter
+@Entity
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardArticlePageAnchor {
+    @Id
+    private Long articleId;
+    private Long boardId; // shard key
+    private Long tailRank;
+
+    public static BoardArticlePageAnchor create(Long articleId, Long boardId, Long tailRank) {
+        BoardArticlePageAnchor anchor = new BoardArticlePageAnchor();
+        anchor.articleId = articleId;
+        anchor.boardId = boardId;
+        anchor.tailRank = tailRank;
+        return anchor;
+    }
+
+    /*
+    * 가장 최신 게시글보다 앞선 가상의 기준점
+    * article_id < Long.MAX_VALUE = 게시판 전체, 즉 기존 offset 쿼리와 동일하다.
+    * */
+    public static BoardArticlePageAnchor head(Long boardId, Long articleCount) {
+        return create(Long.MAX_VALUE, boardId, articleCount + 1);
+    }
+
+    public boolean isHead() {
+        return articleId == Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,57 @@
+package kuke.board.article.repository;
+
+import kuke.board.article.entity.Article;
+import kuke.board.common.outboxmessagerelay.batch.OutboxRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/*
+* 게시글 대량 생성을 위한 JDBC batch insert
+* - JPA save는 id가 이미 할당된 엔티티에 대해 merge(select 후 insert)로 동작하므로 사용하지 않는다.
+* - rewriteBatchedStatements=true 설정 시 MySQL 드라이버가 multi-row insert로 재작성한다.
+* - 대량 생성 이벤트의 outbox도 같은 방식으로 batch insert
+* */
+@Repository
+@RequiredArgsConstructor
+public class ArticleBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int BATCH_SIZE = 500;
+
+    public void insertAll(List<Article> articles) {
+        jdbcTemplate.batchUpdate(
+                "insert into article(article_id, title, content, board_id, writer_id, created_at, modified_at) " +
+                        "values (?, ?, ?, ?, ?, ?, ?)",
+                articles,
+                BATCH_SIZE,
+                (ps, article) -> {
+                    ps.setLong(1, article.getArticleId());
+                    ps.setString(2, article.getTitle());
+                    ps.setString(3, article.getContent());
+                    ps.setLong(4, article.getBoardId());
+                    ps.setLong(5, article.getWriterId());
+                    ps.setTimestamp(6, Timestamp.valueOf(article.getCreatedAt()));
+                    ps.setTimestamp(7, Timestamp.valueOf(article.getModifiedAt()));
+                }
+        );
+    }
+
+    public void insertOutboxes(List<OutboxRow> outboxes) {
+        jdbcTemplate.batchUpdate(
+                "insert into outbox(outbox_id, shard_key, event_type, payload, created_at) values (?, ?, ?, ?, ?)",
+                outboxes,
+                BATCH_SIZE,
+                (ps, outbox) -> {
+                    ps.setLong(1, outbox.outboxId());
+                    ps.setLong(2, outbox.shardKey());
+                    ps.setString(3, outbox.eventType());
+                    ps.setString(4, outbox.payload());
+                    ps.setTimestamp(5, Timestamp.valueOf(outbox.createdAt()));
+                }
+        );
+    }
+}
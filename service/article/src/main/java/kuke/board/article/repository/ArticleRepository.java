@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, Long> {
@@ -34,6 +35,65 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
             @Param("limit") Long limit
     );
 
+    /*
+    * Paging Natvie Query(기준점 이후 데이터 불러오기)
+    * - offset 전체를 건너뛰지 않고, 기준점(anchor) 게시글부터 range scan + 짧은 offset
+    * */
+    @Query(
+            value = "select article.article_id, article.title, article.content, article.board_id, article.writer_id, " +
+                    "article.created_at, article.modified_at " +
+                    "from (" +
+                    "   select article_id from article " +
+                    "   where board_id = :boardId and article_id < :anchorArticleId " +
+                    "   order by article_id desc " +
+                    "   limit :limit offset :offset " +
+                    ") t left join article on t.article_id = article.article_id ",
+            nativeQuery = true
+    )
+    List<Article> findAll(
+            @Param("boardId") Long boardId,
+            @Param("anchorArticleId") Long anchorArticleId,
+            @Param("offset") Long offset,
+            @Param("limit") Long limit
+    );
+
+    /*
+    * 목록 요약 조회(content 제외)
+    * - idx_board_id_article_id_summary(board_id, article_id desc, title, writer_id, created_at, modified_at)
+    *   Covering Index만으로 처리되어 테이블(clustered index) 접근이 없다.
+    * */
+    @Query(
+            value = "select article_id as articleId, title, board_id as boardId, writer_id as writerId, " +
+                    "created_at as createdAt, modified_at as modifiedAt " +
+                    "from article " +
+                    "where board_id = :boardId and article_id < :anchorArticleId " +
+                    "order by article_id desc " +
+                    "limit :limit offset :offset",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummary(
+            @Param("boardId") Long boardId,
+            @Param("anchorArticleId") Long anchorArticleId,
+            @Param("offset") Long offset,
+            @Param("limit") Long limit
+    );
+
+    /*
+    * 기준점 생성용 쿼리
+    * 기준점 게시글에서 offset만큼 떨어진 게시글 id 추출(Covering Index)
+    * */
+    @Query(
+            value = "select article_id from article " +
+                    "where board_id = :boardId and article_id < :anchorArticleId " +
+                    "order by article_id desc limit 1 offset :offset",
+            nativeQuery = true
+    )
+    Optional<Long> findArticleIdBelow(
+            @Param("boardId") Long boardId,
+            @Param("anchorArticleId") Long anchorArticleId,
+            @Param("offset") Long offset
+    );
+
     /*
      * Paging Natvie Query(현재 페이지에서 필요한 총 데이터 개수 추출하기)
      * - Covering Index와
@@ -80,4 +140,34 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
             @Param("limit") Long limit,
             @Param("lastArticleId") Long lastArticleId
     );
+
+    /*
+     * Infinite Natvie Query(목록 요약, content 제외)
+     * lastArticleId가 없을 경우 Long.MAX_VALUE로 최초 무한스크롤 동작
+     * */
+    @Query(
+            value = "select article_id as articleId, title, board_id as boardId, writer_id as writerId, " +
+                    "created_at as createdAt, modified_at as modifiedAt " +
+                    "from article " +
+                    "where board_id = :boardId and article_id < :lastArticleId " +
+                    "order by article_id desc limit :limit",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummaryInfiniteScroll(
+            @Param("boardId") Long boardId,
+            @Param("limit") Long limit,
+            @Param("lastArticleId") Long lastArticleId
+    );
+
+    /*
+     * 게시판 구분 없는 최신 게시글(관리자용 scatter-gather)
+     * */
+    @Query(
+            value = "select article.article_id, article.title, article.content, article.board_id, article.writer_id, " +
+                    "article.created_at, article.modified_at " +
+                    "from article " +
+                    "order by article_id desc limit :limit",
+            nativeQuery = true
+    )
+    List<Article> findAllLatest(@Param("limit") Long limit);
 }
@@ -0,0 +1,16 @@
+package kuke.board.article.repository;
+
+import java.time.LocalDateTime;
+
+/*
+* 목록 조회용 요약 projection(content 제외)
+* native query의 column alias와 getter 이름으로 매핑된다.
+* */
+public interface ArticleSummary {
+    Long getArticleId();
+    String getTitle();
+    Long getBoardId();
+    Long getWriterId();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getModifiedAt();
+}
@@ -26,4 +26,14 @@ public interface BoardArticleCountRepository extends JpaRepository<BoardArticleC
     )
     @Modifying
     int decrease(@Param("boardId") Long boardId);
+
+    /*
+    * 대량 생성 시 게시판별 1회 증가
+    * */
+    @Query(
+            value = "update board_article_count set article_count = article_count + :delta where board_id = :boardId",
+            nativeQuery = true
+    )
+    @Modifying
+    int increase(@Param("boardId") Long boardId, @Param("delta") Long delta);
 }
@@ -0,0 +1,40 @@
+package kuke.board.article.repository;
+
+import kuke.board.article.entity.BoardArticleCountStripe;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BoardArticleCountStripeRepository extends JpaRepository<BoardArticleCountStripe, BoardArticleCountStripe.StripeId> {
+
+    /*
+    * 선택된 stripe row에만 lock
+    * 최초 없을 경우 insert, 있을 경우 update(init 분기 불필요)
+    * */
+    @Query(
+            value = "insert into board_article_count_stripe(board_id, stripe, article_count) " +
+                    "values (:boardId, :stripe, :delta) " +
+                    "on duplicate key update article_count = article_count + :delta",
+            nativeQuery = true
+    )
+    @Modifying
+    int add(
+            @Param("boardId") Long boardId,
+            @Param("stripe") Integer stripe,
+            @Param("delta") Long delta
+    );
+
+    /*
+    * stripe가 하나도 없을 경우 null(= 게시글 수 정보 없음)
+    * */
+    @Query(
+            value = "select cast(sum(article_count) as signed) from board_article_count_stripe where board_id = :boardId",
+            nativeQuery = true
+    )
+    Optional<Long> sum(@Param("boardId") Long boardId);
+}
@@ -0,0 +1,94 @@
+package kuke.board.article.repository;
+
+import kuke.board.article.entity.BoardArticlePageAnchor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BoardArticlePageAnchorRepository extends JpaRepository<BoardArticlePageAnchor, Long> {
+
+    /*
+    * 조회하려는 페이지(tailRank)보다 head 쪽에 있는 기준점 중 가장 가까운 기준점
+    * */
+    @Query(
+            value = "select article_id, board_id, tail_rank from board_article_page_anchor " +
+                    "where board_id = :boardId and tail_rank > :tailRank " +
+                    "order by tail_rank asc limit 1",
+            nativeQuery = true
+    )
+    Optional<BoardArticlePageAnchor> findNearestAbove(
+            @Param("boardId") Long boardId,
+            @Param("tailRank") Long tailRank
+    );
+
+    /*
+    * 동시에 같은 기준점을 생성하더라도 중복 오류 없이 무시한다.
+    * */
+    @Query(
+            value = "insert ignore into board_article_page_anchor(article_id, board_id, tail_rank) " +
+                    "values (:articleId, :boardId, :tailRank)",
+            nativeQuery = true
+    )
+    @Modifying
+    int insert(
+            @Param("articleId") Long articleId,
+            @Param("boardId") Long boardId,
+            @Param("tailRank") Long tailRank
+    );
+
+    /*
+    * 게시글 생성 시, 생성된 게시글보다 article_id가 큰 기준점의 순번 보정
+    * (snowflake는 시간순이므로 대부분 0건 update)
+    * */
+    @Query(
+            value = "update board_article_page_anchor set tail_rank = tail_rank + 1 " +
+                    "where board_id = :boardId and article_id > :articleId",
+            nativeQuery = true
+    )
+    @Modifying
+    int increaseTailRank(@Param("boardId") Long boardId, @Param("articleId") Long articleId);
+
+    /*
+    * 대량 생성 시, 생성된 게시글 중 가장 작은 article_id보다 큰 기준점 목록(대부분 비어있음)
+    * */
+    @Query(
+            value = "select article_id, board_id, tail_rank from board_article_page_anchor " +
+                    "where board_id = :boardId and article_id > :articleId",
+            nativeQuery = true
+    )
+    List<BoardArticlePageAnchor> findAllAbove(@Param("boardId") Long boardId, @Param("articleId") Long articleId);
+
+    @Query(
+            value = "update board_article_page_anchor set tail_rank = tail_rank + :delta where article_id = :articleId",
+            nativeQuery = true
+    )
+    @Modifying
+    int addTailRank(@Param("articleId") Long articleId, @Param("delta") Long delta);
+
+    /*
+    * 게시글 삭제 시, 삭제된 게시글보다 article_id가 큰 기준점의 순번 보정
+    * */
+    @Query(
+            value = "update board_article_page_anchor set tail_rank = tail_rank - 1 " +
+                    "where board_id = :boardId and article_id > :articleId",
+            nativeQuery = true
+    )
+    @Modifying
+    int decreaseTailRank(@Param("boardId") Long boardId, @Param("articleId") Long articleId);
+
+    /*
+    * 기준점 게시글 자체가 삭제되었을 경우 기준점도 제거
+    * */
+    @Query(
+            value = "delete from board_article_page_anchor where article_id = :articleId",
+            nativeQuery = true
+    )
+    @Modifying
+    int delete(@Param("articleId") Long articleId);
+}
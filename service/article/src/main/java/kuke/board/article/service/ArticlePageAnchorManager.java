@@ -0,0 +1,110 @@
+package kuke.board.article.service;
+
+import kuke.board.article.entity.Article;
+import kuke.board.article.entity.BoardArticlePageAnchor;
+import kuke.board.article.repository.ArticleRepository;
+import kuke.board.article.repository.ArticleSummary;
+import kuke.board.article.repository.BoardArticlePageAnchorRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/*
+* 깊은 페이지 조회 시 offset 전체를 index에서 건너뛰지 않도록
+* ANCHOR_INTERVAL 간격마다 기준점 게시글을 저장해두고, 가장 가까운 기준점부터 짧은 offset으로 조회한다.
+* - 요청 페이지의 첫 게시글 tail 순번 = 게시글 수 - offset
+* - 기준점이 없거나 멀리 떨어져 있을 경우 기준점을 생성하며 내려간다(최초 1회 비용).
+* */
+@Component
+@RequiredArgsConstructor
+public class ArticlePageAnchorManager {
+    static final long ANCHOR_INTERVAL = 3000L;
+
+    private final ArticleRepository articleRepository;
+    private final BoardArticleCounter boardArticleCounter;
+    private final BoardArticlePageAnchorRepository boardArticlePageAnchorRepository;
+
+    /*
+    * 게시글 수와 index 탐색을 하나의 트랜잭션(동일 snapshot)에서 수행
+    * */
+    @Transactional
+    public List<Article> findAll(Long boardId, Long offset, Long limit) {
+        return seek(boardId, offset)
+                .map(seek -> articleRepository.findAll(boardId, seek.anchorArticleId(), seek.offset(), limit))
+                .orElse(List.of());
+    }
+
+    /*
+    * 목록 요약(content 제외) 조회도 동일한 기준점 사용
+    * */
+    @Transactional
+    public List<ArticleSummary> findAllSummary(Long boardId, Long offset, Long limit) {
+        return seek(boardId, offset)
+                .map(seek -> articleRepository.findAllSummary(boardId, seek.anchorArticleId(), seek.offset(), limit))
+                .orElse(List.of());
+    }
+
+    /*
+    * 조회 시작 위치(기준점 article_id + 기준점으로부터의 offset)
+    * 기준점이 head(Long.MAX_VALUE)일 경우 기존 offset 쿼리와 동일
+    * */
+    private record PageSeek(Long anchorArticleId, Long offset) {
+        static PageSeek head(Long offset) {
+            return new PageSeek(Long.MAX_VALUE, offset);
+        }
+    }
+
+    private Optional<PageSeek> seek(Long boardId, Long offset) {
+        if (offset < ANCHOR_INTERVAL) {
+            return Optional.of(PageSeek.head(offset));
+        }
+
+        /*
+        * 정확한 게시글 수를 알 수 없으면(coalesce 모드 등) 기존 offset 쿼리
+        * */
+        Optional<Long> exactCount = boardArticleCounter.readExact(boardId);
+        if (exactCount.isEmpty()) {
+            return Optional.of(PageSeek.head(offset));
+        }
+
+        Long articleCount = exactCount.get();
+        long tailRank = articleCount - offset;
+        if (tailRank < 1) {
+            return Optional.empty();
+        }
+
+        BoardArticlePageAnchor anchor = findAnchor(boardId, articleCount, tailRank);
+        return Optional.of(new PageSeek(anchor.getArticleId(), anchor.getTailRank() - 1 - tailRank));
+    }
+
+    private BoardArticlePageAnchor findAnchor(Long boardId, Long articleCount, long tailRank) {
+        BoardArticlePageAnchor anchor = boardArticlePageAnchorRepository.findNearestAbove(boardId, tailRank)
+                .orElseGet(() -> BoardArticlePageAnchor.head(boardId, articleCount));
+
+        /*
+        * 기준점과 요청 위치 사이가 ANCHOR_INTERVAL 이상이면 다음 기준점 생성
+        * */
+        while (anchor.getTailRank() - 1 - tailRank >= ANCHOR_INTERVAL) {
+            Optional<BoardArticlePageAnchor> next = createNextAnchor(anchor);
+            if (next.isEmpty()) {
+                break;
+            }
+            anchor = next.get();
+        }
+        return anchor;
+    }
+
+    private Optional<BoardArticlePageAnchor> createNextAnchor(BoardArticlePageAnchor anchor) {
+        return articleRepository.findArticleIdBelow(anchor.getBoardId(), anchor.getArticleId(), ANCHOR_INTERVAL - 1)
+                .map(articleId -> {
+                    BoardArticlePageAnchor next = BoardArticlePageAnchor.create(
+                            articleId, anchor.getBoardId(), anchor.getTailRank() - ANCHOR_INTERVAL
+                    );
+                    boardArticlePageAnchorRepository.insert(next.getArticleId(), next.getBoardId(), next.getTailRank());
+                    return next;
+                });
+    }
+}
@@ -1,24 +1,44 @@
 package kuke.board.article.service;
 
+import kuke.board.article.cache.ArticleResponseCache;
 import kuke.board.article.entity.Article;
-import kuke.board.article.entity.BoardArticleCount;
+import kuke.board.article.entity.BoardArticlePageAnchor;
+import kuke.board.article.repository.ArticleBatchRepository;
 import kuke.board.article.repository.ArticleRepository;
-import kuke.board.article.repository.BoardArticleCountRepository;
+import kuke.board.article.repository.BoardArticlePageAnchorRepository;
+import kuke.board.article.service.request.ArticleBatchCreateRequest;
 import kuke.board.article.service.request.ArticleCreateRequest;
 import kuke.board.article.service.request.ArticleUpdateRequest;
+import kuke.board.article.service.response.ArticleCacheStatsResponse;
 import kuke.board.article.service.response.ArticlePageResponse;
 import kuke.board.article.service.response.ArticleResponse;
+import kuke.board.article.service.response.ArticleSummaryPageResponse;
+import kuke.board.article.service.response.ArticleSummaryResponse;
+import kuke.board.common.event.Event;
 import kuke.board.common.event.EventType;
 import kuke.board.common.event.payload.ArticleCreatedEventPayload;
 import kuke.board.common.event.payload.ArticleDeletedEventPayload;
 import kuke.board.common.event.payload.ArticleUpdatedEventPayload;
+import kuke.board.common.outboxmessagerelay.MessageRelayConstants;
 import kuke.board.common.outboxmessagerelay.OutboxEventPublisher;
-import kuke.board.common.snowflake.Snowflake;
+import kuke.board.common.outboxmessagerelay.batch.OutboxRow;
+import kuke.board.common.snowflake.AtomicSnowflake;
+import kuke.board.common.snowflake.IdBlock;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,13 +48,23 @@ public class ArticleService {
     * - 단순 필드 주입이 아닌 생성자 주입을 통해 안정적으로 의존성을 주입한다.
     * - 생성자 주입을 통한 의존성 주입으로 의존성 주입 순환 오류로 인한 의존성 역전 현상을 방지한다.
     * */
-    private final Snowflake snowflake = new Snowflake();
+    private final AtomicSnowflake snowflake = new AtomicSnowflake();
+    private static final int BATCH_READ_MAX_SIZE = 100;
+    private static final int BATCH_CREATE_MAX_SIZE = 1000;
     private final ArticleRepository articleRepository;
+    private final ArticleBatchRepository articleBatchRepository;
     /*
     * outbox pattern 로직 추가
     * */
     private final OutboxEventPublisher outboxEventPublisher;
-    private final BoardArticleCountRepository boardArticleCountRepository;
+    private final BoardArticleCounter boardArticleCounter;
+    private final ArticleResponseCache articleResponseCache;
+    private final PageLimitCountCache pageLimitCountCache;
+    /*
+    * 깊은 페이지 조회를 위한 기준점
+    * */
+    private final BoardArticlePageAnchorRepository boardArticlePageAnchorRepository;
+    private final ArticlePageAnchorManager articlePageAnchorManager;
 
     @Transactional
     public ArticleResponse create(ArticleCreateRequest request) {
@@ -47,40 +77,127 @@ public class ArticleService {
         );
 
         /*
-        * 게시글 생성 시점에 게시글 수 처리, 최초 없을 경우 init(*save 명기)
+        * 게시글 생성 시점에 게시글 수 처리(단일 row 혹은 stripe)
         * */
-        int result = boardArticleCountRepository.increase(request.getBoardId());
-        if (result == 0) {
-            boardArticleCountRepository.save(
-                    BoardArticleCount.init(request.getBoardId(), 1L)
-            );
-        }
+        Long boardArticleCount = boardArticleCounter.increase(article.getBoardId());
+        boardArticlePageAnchorRepository.increaseTailRank(article.getBoardId(), article.getArticleId());
+        pageLimitCountCache.evict(article.getBoardId());
 
         /*
          * outbox pattern 로직 추가
          * */
+        publishArticleCreated(article, boardArticleCount);
+
+        return ArticleResponse.from(article);
+    }
+
+    /*
+    * 게시글 대량 생성(migration, bot 등)
+    * - snowflake id를 미리 할당하여 JDBC batch insert
+    * - 게시글 수는 게시판별 순증가분 1회 반영
+    * - outbox도 JDBC batch insert, 게시글마다 커밋 직후 전송하지 않고 relay(미전송 outbox polling)로 전송한다.
+    * */
+    @Transactional
+    public List<ArticleResponse> createAll(ArticleBatchCreateRequest request) {
+        validateCreateAll(request);
+        if (request.getArticles().isEmpty()) {
+            return List.of();
+        }
+        /*
+        * 요청 건수만큼 id 구간을 한번에 할당(BATCH_CREATE_MAX_SIZE <= AtomicSnowflake.MAX_BLOCK_SIZE)
+        * */
+        IdBlock idBlock = snowflake.nextBlock(request.getArticles().size());
+        List<Article> articles = request.getArticles().stream()
+                .map(article -> Article.create(
+                        idBlock.nextId(), article.getTitle(), article.getContent(), article.getBoardId(), article.getWriterId()
+                ))
+                .toList();
+        articleBatchRepository.insertAll(articles);
+
+        List<OutboxRow> outboxes = new ArrayList<>(articles.size());
+        IdBlock outboxIdBlock = snowflake.nextBlock(articles.size());
+        Map<Long, List<Article>> articlesByBoardId = articles.stream()
+                .collect(Collectors.groupingBy(Article::getBoardId));
+        for (Map.Entry<Long, List<Article>> entry : articlesByBoardId.entrySet()) {
+            Long boardId = entry.getKey();
+            List<Article> boardArticles = entry.getValue();
+            Long boardArticleCount = boardArticleCounter.increase(boardId, (long) boardArticles.size());
+            increaseTailRank(boardId, boardArticles);
+            pageLimitCountCache.evict(boardId);
+
+            for (Article article : boardArticles) {
+                outboxes.add(articleCreatedOutbox(outboxIdBlock.nextId(), article, boardArticleCount));
+            }
+        }
+        articleBatchRepository.insertOutboxes(outboxes);
+
+        return articles.stream().map(ArticleResponse::from).toList();
+    }
+
+    /*
+    * 최대 건수는 shard별로 나누기 전 전체 요청 기준
+    * */
+    public void validateCreateAll(ArticleBatchCreateRequest request) {
+        if (request.getArticles().size() > BATCH_CREATE_MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "too many articles. size=" + request.getArticles().size());
+        }
+    }
+
+    /*
+    * OutboxEventPublisher와 같은 형식(event json, shard key)의 outbox row
+    * */
+    private OutboxRow articleCreatedOutbox(Long outboxId, Article article, Long boardArticleCount) {
+        return new OutboxRow(
+                outboxId,
+                article.getBoardId() % MessageRelayConstants.SHARD_COUNT,
+                EventType.ARTICLE_CREATED.name(),
+                Event.of(outboxId, EventType.ARTICLE_CREATED, articleCreatedPayload(article, boardArticleCount)).toJson(),
+                LocalDateTime.now()
+        );
+    }
+
+    /*
+    * 새로 생성된 게시글보다 article_id가 큰 기준점에 대해, 그보다 작은 신규 게시글 수만큼 순번 보정
+    * */
+    private void increaseTailRank(Long boardId, List<Article> boardArticles) {
+        Long minArticleId = boardArticles.stream()
+                .map(Article::getArticleId)
+                .min(Long::compare)
+                .orElseThrow();
+        for (BoardArticlePageAnchor anchor : boardArticlePageAnchorRepository.findAllAbove(boardId, minArticleId)) {
+            long delta = boardArticles.stream()
+                    .filter(article -> article.getArticleId() < anchor.getArticleId())
+                    .count();
+            boardArticlePageAnchorRepository.addTailRank(anchor.getArticleId(), delta);
+        }
+    }
+
+    private void publishArticleCreated(Article article, Long boardArticleCount) {
         outboxEventPublisher.publish(
                 EventType.ARTICLE_CREATED,
-                ArticleCreatedEventPayload.builder()
-                        .articleId(article.getArticleId())
-                        .title(article.getTitle())
-                        .content(article.getContent())
-                        .boardId(article.getBoardId())
-                        .writerId(article.getWriterId())
-                        .createdAt(article.getCreatedAt())
-                        .modifiedAt(article.getModifiedAt())
-                        .boardArticleCount(count(article.getBoardId()))
-                        .build(),
+                articleCreatedPayload(article, boardArticleCount),
                 article.getBoardId()
         );
+    }
 
-        return ArticleResponse.from(article);
+    private ArticleCreatedEventPayload articleCreatedPayload(Article article, Long boardArticleCount) {
+        return ArticleCreatedEventPayload.builder()
+                .articleId(article.getArticleId())
+                .title(article.getTitle())
+                .content(article.getContent())
+                .boardId(article.getBoardId())
+                .writerId(article.getWriterId())
+                .createdAt(article.getCreatedAt())
+                .modifiedAt(article.getModifiedAt())
+                .boardArticleCount(boardArticleCount)
+                .build();
     }
 
     @Transactional
     public ArticleResponse update(Long articleId, ArticleUpdateRequest request) {
         Article article = articleRepository.findById(articleId).orElseThrow();
         article.update(request.getTitle(), request.getContent());
+        evictCache(articleId);
         /*
         * 트랜잭션이 끝나는 시점에서 영속성 객체인 article(Repository를 통해 객체를 호출하였으므로)의 변화 감지(Dirty Checking)
         * SnapShot의 변화 감지 후 DB에 최종적으로 반영
@@ -105,8 +222,52 @@ public class ArticleService {
         return ArticleResponse.from(article);
     }
 
+    /*
+    * JVM 내부 캐시(LRU)에 없을 경우에만 DB 조회
+    * */
     public ArticleResponse read(Long articleId) {
-        return ArticleResponse.from(articleRepository.findById(articleId).orElseThrow());
+        return articleResponseCache.getOrLoad(
+                articleId,
+                () -> ArticleResponse.from(articleRepository.findById(articleId).orElseThrow())
+        );
+    }
+
+    /*
+    * 수정/삭제 시 캐시 제거
+    * 커밋 이전에 다른 요청이 이전 데이터를 다시 캐싱할 수 있으므로 커밋 이후 한번 더 제거한다.
+    * */
+    private void evictCache(Long articleId) {
+        articleResponseCache.evict(articleId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    articleResponseCache.evict(articleId);
+                }
+            });
+        }
+    }
+
+    public ArticleCacheStatsResponse readCacheStats() {
+        return ArticleCacheStatsResponse.from(articleResponseCache);
+    }
+
+    /*
+    * 요청한 id 순서대로 반환(중복 제거), 없는 게시글은 제외
+    * 한번의 in 쿼리로 조회한다. 중복 제거 후 최대 개수를 넘으면 400
+    * */
+    public List<ArticleResponse> readAll(List<Long> articleIds) {
+        List<Long> distinctArticleIds = articleIds.stream().distinct().toList();
+        if (distinctArticleIds.size() > BATCH_READ_MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "too many articleIds. size=" + distinctArticleIds.size());
+        }
+        Map<Long, Article> articleMap = articleRepository.findAllById(distinctArticleIds).stream()
+                .collect(Collectors.toMap(Article::getArticleId, Function.identity()));
+        return distinctArticleIds.stream()
+                .map(articleMap::get)
+                .filter(Objects::nonNull)
+                .map(ArticleResponse::from)
+                .toList();
     }
 
     @Transactional
@@ -116,7 +277,11 @@ public class ArticleService {
          * */
         Article article = articleRepository.findById(articleId).orElseThrow();
         articleRepository.delete(article);
-        boardArticleCountRepository.decrease(article.getBoardId());
+        evictCache(articleId);
+        Long boardArticleCount = boardArticleCounter.decrease(article.getBoardId());
+        boardArticlePageAnchorRepository.delete(article.getArticleId());
+        boardArticlePageAnchorRepository.decreaseTailRank(article.getBoardId(), article.getArticleId());
+        pageLimitCountCache.evict(article.getBoardId());
 
         /*
          * outbox pattern 로직 추가
@@ -131,7 +296,7 @@ public class ArticleService {
                         .writerId(article.getWriterId())
                         .createdAt(article.getCreatedAt())
                         .modifiedAt(article.getModifiedAt())
-                        .boardArticleCount(count(article.getBoardId()))
+                        .boardArticleCount(boardArticleCount)
                         .build(),
                 article.getBoardId()
         );
@@ -139,16 +304,40 @@ public class ArticleService {
 
     public ArticlePageResponse readAll(Long boardId, Long page, Long pageSize) {
         return ArticlePageResponse.of(
-                articleRepository.findAll(boardId, (page - 1) * pageSize, pageSize).stream()
+                articlePageAnchorManager.findAll(boardId, (page - 1) * pageSize, pageSize).stream()
                         .map(ArticleResponse::from)
                         .toList(),
-                articleRepository.count(
-                        boardId,
-                        PageLimitCalculator.calculatePageLimit(page, pageSize, 10L)
-                )
+                count(boardId, PageLimitCalculator.calculatePageLimit(page, pageSize, 10L))
         );
     }
 
+    /*
+    * 페이지 구간별 게시글 수(limit)는 짧은 시간 캐싱
+    * */
+    private Long count(Long boardId, Long limit) {
+        return pageLimitCountCache.getOrLoad(boardId, limit, () -> articleRepository.count(boardId, limit));
+    }
+
+    /*
+    * 목록 요약 조회(view=summary), content를 조회/직렬화하지 않는다.
+    * */
+    public ArticleSummaryPageResponse readAllSummary(Long boardId, Long page, Long pageSize) {
+        return ArticleSummaryPageResponse.of(
+                articlePageAnchorManager.findAllSummary(boardId, (page - 1) * pageSize, pageSize).stream()
+                        .map(ArticleSummaryResponse::from)
+                        .toList(),
+                count(boardId, PageLimitCalculator.calculatePageLimit(page, pageSize, 10L))
+        );
+    }
+
+    public List<ArticleSummaryResponse> readAllSummaryInfiniteScroll(Long boardId, Long pageSize, Long lastArticleId) {
+        return articleRepository.findAllSummaryInfiniteScroll(
+                        boardId, pageSize, lastArticleId == null ? Long.MAX_VALUE : lastArticleId
+                ).stream()
+                .map(ArticleSummaryResponse::from)
+                .toList();
+    }
+
     /*
     * 무한스크롤 동작은 전체 데이터 개수 등 페이징 쿼리에서 필요한 다른 데이터가 필요없어진다.
     * 이에 따라 PagingDTO가 아닌 일반 ArticleDTO를 사용
@@ -160,12 +349,23 @@ public class ArticleService {
         return articles.stream().map(ArticleResponse::from).toList();
     }
 
+    public boolean exists(Long articleId) {
+        return articleRepository.existsById(articleId);
+    }
+
+    /*
+    * 게시판 구분 없는 최신 게시글(관리자용, shard 단위로 호출된다)
+    * */
+    public List<ArticleResponse> readAllLatest(Long limit) {
+        return articleRepository.findAllLatest(limit).stream()
+                .map(ArticleResponse::from)
+                .toList();
+    }
+
     /*
     * 게시글 수 반환
     * */
     public Long count(Long boardId) {
-        return boardArticleCountRepository.findById(boardId)
-                .map(BoardArticleCount::getArticleCount)
-                .orElse(0L);
+        return boardArticleCounter.count(boardId);
     }
 }
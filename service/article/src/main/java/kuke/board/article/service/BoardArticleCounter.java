@@ -0,0 +1,228 @@
+package kuke.board.article.service;
+
+import jakarta.annotation.PreDestroy;
+import kuke.board.article.entity.BoardArticleCount;
+import kuke.board.article.repository.BoardArticleCountRepository;
+import kuke.board.article.repository.BoardArticleCountStripeRepository;
+import kuke.board.article.shard.BoardShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/*
+* 게시판 게시글 수 처리
+* - stripe-count = 0 : 기존 방식, board_article_count 단일 row update(게시판 단위 row lock)
+* - stripe-count > 0 : board_article_count_stripe의 N개 row 중 임의의 row update
+*   조회 시 합산한 값을 기준으로 메모리에서 증감을 누적하고, cache-ttl-millis 마다 다시 합산
+*   -> 이벤트 payload의 게시글 수를 캐싱된 합계가 아닌 증감 후 누적값으로 발행
+* - coalesce = true(stripe 모드) : 증감을 메모리에 모아두었다가 flush 주기마다 게시판별 1회 update
+*   (flush 이전 장애 시 모아둔 증감은 유실될 수 있으므로 게시글 수 정확성이 덜 중요한 경우에만 사용)
+* - 호출하는 쪽의 트랜잭션이 롤백되면 누적값의 증감도 되돌리고, coalesce 증감은 커밋된 경우에만 모아둔다.
+* */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardArticleCounter {
+    private final BoardArticleCountRepository boardArticleCountRepository;
+    private final BoardArticleCountStripeRepository boardArticleCountStripeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardShardRouter boardShardRouter;
+
+    @Value("${board-article-count.stripe-count:0}")
+    private int stripeCount;
+    @Value("${board-article-count.coalesce:false}")
+    private boolean coalesce;
+    @Value("${board-article-count.cache-ttl-millis:1000}")
+    private long cacheTtlMillis;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<Long, RunningCount> runningCounts = new ConcurrentHashMap<>();
+
+    /*
+    * 합산 시점의 게시글 수 + 이후 이 인스턴스에서 발생한 증감
+    * (다른 인스턴스의 증감은 만료 후 다시 합산할 때 반영되는 근사값)
+    * */
+    private record RunningCount(AtomicLong count, long expiredAt) {
+    }
+
+    /*
+    * 호출하는 쪽의 트랜잭션 안에서 수행(coalesce 모드 제외)
+    * @return 증가 후 게시글 수(이벤트 발행용)
+    * */
+    public Long increase(Long boardId) {
+        if (!isStriped()) {
+            int result = boardArticleCountRepository.increase(boardId);
+            if (result == 0) {
+                boardArticleCountRepository.save(
+                        BoardArticleCount.init(boardId, 1L)
+                );
+            }
+            return readExact(boardId).orElse(0L);
+        }
+        return add(boardId, 1L);
+    }
+
+    /*
+    * 대량 생성 시 게시판별 순증가분을 한번에 반영
+    * @return 증가 후 게시글 수(이벤트 발행용)
+    * */
+    public Long increase(Long boardId, Long delta) {
+        if (!isStriped()) {
+            int result = boardArticleCountRepository.increase(boardId, delta);
+            if (result == 0) {
+                boardArticleCountRepository.save(
+                        BoardArticleCount.init(boardId, delta)
+                );
+            }
+            return readExact(boardId).orElse(0L);
+        }
+        return add(boardId, delta);
+    }
+
+    /*
+    * @return 감소 후 게시글 수(이벤트 발행용)
+    * */
+    public Long decrease(Long boardId) {
+        if (!isStriped()) {
+            boardArticleCountRepository.decrease(boardId);
+            return readExact(boardId).orElse(0L);
+        }
+        return add(boardId, -1L);
+    }
+
+    /*
+    * 누적값을 먼저 확보(필요시 합산)한 뒤 반영해야 이번 증감이 두 번 더해지지 않는다.
+    * */
+    private Long add(Long boardId, Long delta) {
+        AtomicLong runningCount = runningCount(boardId);
+        if (!coalesce) {
+            boardArticleCountStripeRepository.add(boardId, selectStripe(), delta);
+        }
+        long count = runningCount.addAndGet(delta);
+        afterCompletion(committed -> {
+            if (!committed) {
+                runningCount.addAndGet(-delta);
+            } else if (coalesce) {
+                pending.computeIfAbsent(boardId, key -> new LongAdder()).add(delta);
+            }
+        });
+        return count;
+    }
+
+    /*
+    * 트랜잭션이 없으면 바로 커밋된 것으로 처리
+    * */
+    private void afterCompletion(Consumer<Boolean> callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private int selectStripe() {
+        return ThreadLocalRandom.current().nextInt(stripeCount);
+    }
+
+    /*
+    * 게시글 수 반환(stripe 모드에서는 누적값)
+    * */
+    public Long count(Long boardId) {
+        if (!isStriped()) {
+            return readExact(boardId).orElse(0L);
+        }
+        return runningCount(boardId).get();
+    }
+
+    /*
+    * 만료된 경우 다시 합산, 게시판별로 한번만 합산하도록 compute 안에서 처리
+    * */
+    private AtomicLong runningCount(Long boardId) {
+        long now = System.currentTimeMillis();
+        return runningCounts.compute(boardId, (key, cached) -> cached != null && cached.expiredAt() > now ?
+                cached :
+                new RunningCount(new AtomicLong(sum(boardId)), now + cacheTtlMillis)
+        ).count();
+    }
+
+    /*
+    * DB 합계 + 아직 flush 되지 않은 증감
+    * */
+    private long sum(Long boardId) {
+        LongAdder adder = pending.get(boardId);
+        return boardArticleCountStripeRepository.sum(boardId).orElse(0L) + (adder == null ? 0L : adder.sum());
+    }
+
+    /*
+    * 캐시를 거치지 않은 정확한 게시글 수
+    * coalesce 모드는 반영되지 않은 증감이 있을 수 있으므로 empty
+    * */
+    public Optional<Long> readExact(Long boardId) {
+        if (!isStriped()) {
+            return boardArticleCountRepository.findById(boardId)
+                    .map(BoardArticleCount::getArticleCount);
+        }
+        if (coalesce) {
+            return Optional.empty();
+        }
+        return boardArticleCountStripeRepository.sum(boardId);
+    }
+
+    /*
+    * 모아둔 증감을 게시판별 1회 update로 반영
+    * */
+    @Scheduled(fixedDelayString = "${board-article-count.flush-interval-millis:100}")
+    @PreDestroy
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((boardId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(boardId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        /*
+        * 게시판별 shard에서 각각 반영
+        * */
+        deltas.forEach((boardId, delta) -> {
+            try {
+                boardShardRouter.route(boardId, () -> transactionTemplate.executeWithoutResult(
+                        status -> boardArticleCountStripeRepository.add(boardId, selectStripe(), delta)
+                ));
+            } catch (Exception e) {
+                /*
+                * 반영 실패 시 다음 flush에서 재시도
+                * */
+                log.error("[BoardArticleCounter.flush] boardId={}, delta={}", boardId, delta, e);
+                pending.computeIfAbsent(boardId, key -> new LongAdder()).add(delta);
+            }
+        });
+    }
+
+    private boolean isStriped() {
+        return stripeCount > 0;
+    }
+}
@@ -0,0 +1,85 @@
+package kuke.board.article.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+* 페이징 쿼리의 count(limit = PageLimitCalculator.calculatePageLimit) 결과 캐시
+* - 같은 페이지 구간(movablePageCount) 안에서는 limit이 동일하므로 count 결과도 동일하다.
+* - key : (id, limit), ttl-millis 동안 유지하며 생성/삭제 커밋 후 해당 id의 캐시 제거
+*   커밋 전에 제거하면 그 사이 조회된 (이전)count가 다시 캐싱되므로 커밋 후 제거하고,
+*   원본 조회 도중 제거가 발생하면 조회한 count는 캐시에 저장하지 않는다.
+* - 최대 개수 초과 시 전체 제거(짧은 TTL 캐시이므로 단순하게 처리)
+* */
+@Component
+public class PageLimitCountCache {
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<Long, Map<Long, CachedCount>> cache = new ConcurrentHashMap<>();
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    private record CachedCount(Long count, long expiredAt) {
+    }
+
+    public PageLimitCountCache(
+            @Value("${page-limit-count-cache.ttl-millis:3000}") long ttlMillis,
+            @Value("${page-limit-count-cache.max-size:10000}") int maxSize
+    ) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    public Long getOrLoad(Long id, Long limit, Supplier<Long> originDataSupplier) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = cache.getOrDefault(id, Map.of()).get(limit);
+        if (cached != null && cached.expiredAt() > now) {
+            return cached.count();
+        }
+
+        long sequence = invalidationSequence.get();
+        Long count = originDataSupplier.get();
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+        /*
+        * evict는 순번 증가 후 제거하므로, 순번 확인과 저장을 같은 key의 compute 안에서 수행한다.
+        * */
+        cache.compute(id, (key, counts) -> {
+            if (invalidationSequence.get() != sequence) {
+                return counts;
+            }
+            Map<Long, CachedCount> updated = counts == null ? new ConcurrentHashMap<>() : counts;
+            updated.put(limit, new CachedCount(count, now + ttlMillis));
+            return updated;
+        });
+        return count;
+    }
+
+    /*
+    * 트랜잭션 안에서 호출하면 커밋 후 제거, 롤백 시에는 제거하지 않는다.
+    * */
+    public void evict(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(id);
+            }
+        });
+    }
+
+    private void remove(Long id) {
+        invalidationSequence.incrementAndGet();
+        cache.remove(id);
+    }
+}
@@ -0,0 +1,25 @@
+package kuke.board.article.service.request;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+public class ArticleBatchCreateRequest {
+    private List<ArticleCreateRequest> articles;
+
+    /*
+    * articles가 없으면 빈 목록
+    * */
+    public List<ArticleCreateRequest> getArticles() {
+        return articles == null ? List.of() : articles;
+    }
+
+    public static ArticleBatchCreateRequest of(List<ArticleCreateRequest> articles) {
+        ArticleBatchCreateRequest request = new ArticleBatchCreateRequest();
+        request.articles = articles;
+        return request;
+    }
+}
@@ -0,0 +1,29 @@
+package kuke.board.article.service.response;
+
+import kuke.board.article.cache.ArticleResponseCache;
+import lombok.Getter;
+import lombok.ToString;
+
+/*
+* 게시글 단건 조회 캐시 통계
+* */
+@Getter
+@ToString
+public class ArticleCacheStatsResponse {
+    private Integer size;
+    private Long hitCount;
+    private Long missCount;
+    private Long evictionCount;
+    private Double hitRatio;
+
+    public static ArticleCacheStatsResponse from(ArticleResponseCache articleResponseCache) {
+        ArticleCacheStatsResponse response = new ArticleCacheStatsResponse();
+        response.size = articleResponseCache.size();
+        response.hitCount = articleResponseCache.getHitCount();
+        response.missCount = articleResponseCache.getMissCount();
+        response.evictionCount = articleResponseCache.getEvictionCount();
+        long requestCount = response.hitCount + response.missCount;
+        response.hitRatio = requestCount == 0 ? 0.0 : (double) response.hitCount / requestCount;
+        return response;
+    }
+}
@@ -0,0 +1,23 @@
+package kuke.board.article.service.response;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+/*
+* 페이징 쿼리(view=summary) 결과를 담는 Response 객체
+* */
+public class ArticleSummaryPageResponse {
+    private List<ArticleSummaryResponse> articles;
+    private Long articleCount;
+
+    public static ArticleSummaryPageResponse of(List<ArticleSummaryResponse> articles, Long articleCount) {
+        ArticleSummaryPageResponse response = new ArticleSummaryPageResponse();
+        response.articles = articles;
+        response.articleCount = articleCount;
+        return response;
+    }
+}
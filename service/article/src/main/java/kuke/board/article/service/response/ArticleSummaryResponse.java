@@ -0,0 +1,32 @@
+package kuke.board.article.service.response;
+
+import kuke.board.article.repository.ArticleSummary;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/*
+* 목록 조회용 요약 Response(content 제외)
+* */
+@Getter
+@ToString
+public class ArticleSummaryResponse {
+    private Long articleId;
+    private String title;
+    private Long boardId;
+    private Long writerId;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+
+    public static ArticleSummaryResponse from(ArticleSummary articleSummary) {
+        ArticleSummaryResponse response = new ArticleSummaryResponse();
+        response.articleId = articleSummary.getArticleId();
+        response.title = articleSummary.getTitle();
+        response.boardId = articleSummary.getBoardId();
+        response.writerId = articleSummary.getWriterId();
+        response.createdAt = articleSummary.getCreatedAt();
+        response.modifiedAt = articleSummary.getModifiedAt();
+        return response;
+    }
+}
@@ -0,0 +1,181 @@
+package kuke.board.article.shard;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/*
+* board_id -> shard 번호 매핑 및 shard 지정 실행
+* - route : 게시판의 읽기/쓰기를 해당 게시판 shard에서 수행(트랜잭션 시작 전에 호출해야 한다)
+* - scatter : 모든 shard에서 병렬 수행 후 결과 수집(게시판을 가로지르는 조회)
+*   요청마다 shard 수만큼 virtual thread로 수행(고정 크기 pool을 공유하면 동시 요청이 서로의 shard 조회를 기다린다)
+*   동시 실행 수는 shard별 커넥션 pool 크기로 제한되며, scatter-timeout-millis 내에 끝나지 않으면 QueryTimeoutException
+* - article_id -> shard 캐시 : article_id로만 요청된 경우 매번 모든 shard를 탐색하지 않도록
+*   게시글은 shard를 이동하지 않으므로 만료 없이 개수 기반 LRU로 유지
+* shard 비활성화 시 shard는 1개(0번)이며 라우팅 없이 그대로 수행된다.
+* */
+@Component
+public class BoardShardRouter {
+    private final int shardCount;
+    private final long scatterTimeoutMillis;
+    private final ExecutorService executorService;
+    private final Map<Long, Integer> articleShards;
+
+    public BoardShardRouter(
+            @Value("${article.shard.enabled:false}") boolean enabled,
+            @Value("${article.shard.urls:}") List<String> urls,
+            @Value("${article.shard.article-cache-max-size:100000}") int articleCacheMaxSize,
+            @Value("${article.shard.scatter-timeout-millis:3000}") long scatterTimeoutMillis
+    ) {
+        if (enabled && urls.isEmpty()) {
+            throw new IllegalStateException("article.shard.urls must not be empty when article.shard.enabled=true");
+        }
+        this.shardCount = enabled ? urls.size() : 1;
+        this.scatterTimeoutMillis = scatterTimeoutMillis;
+        this.executorService = Executors.newVirtualThreadPerTaskExecutor();
+        this.articleShards = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+                return size() > articleCacheMaxSize;
+            }
+        };
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(Long boardId) {
+        return (int) Math.floorMod(boardId, (long) shardCount);
+    }
+
+    public <T> T route(Long boardId, Supplier<T> supplier) {
+        return routeToShard(shardOf(boardId), supplier);
+    }
+
+    public void route(Long boardId, Runnable runnable) {
+        route(boardId, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    public <T> T routeToShard(int shard, Supplier<T> supplier) {
+        Integer previous = ShardContext.get();
+        ShardContext.set(shard);
+        try {
+            return supplier.get();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    /*
+    * 모든 shard에서 병렬 수행, 결과는 shard 번호 순서
+    * */
+    public <T> List<T> scatter(Supplier<T> supplier) {
+        if (shardCount == 1) {
+            return List.of(routeToShard(0, supplier));
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> routeToShard(target, supplier), executorService));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(scatterTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new QueryTimeoutException("scatter timed out. timeoutMillis=" + scatterTimeoutMillis, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for shards", e);
+        } catch (ExecutionException e) {
+            /*
+            * shard에서 발생한 예외(요청 검증 실패 등)를 그대로 전달
+            * */
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /*
+    * board_id를 알 수 없는 경우(article_id로만 요청) 데이터가 존재하는 shard 탐색
+    * shard가 1개면 탐색하지 않는다.
+    * */
+    public OptionalInt findShard(BooleanSupplier existsOnShard) {
+        if (shardCount == 1) {
+            return OptionalInt.of(0);
+        }
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (routeToShard(shard, existsOnShard::getAsBoolean)) {
+                return OptionalInt.of(shard);
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    /*
+    * article_id가 저장된 shard(캐시에 없으면 탐색 후 저장)
+    * */
+    public OptionalInt findShardOfArticle(Long articleId, BooleanSupplier existsOnShard) {
+        if (shardCount == 1) {
+            return OptionalInt.of(0);
+        }
+        Integer cached;
+        synchronized (articleShards) {
+            cached = articleShards.get(articleId);
+        }
+        if (cached != null) {
+            return OptionalInt.of(cached);
+        }
+        OptionalInt shard = findShard(existsOnShard);
+        shard.ifPresent(found -> cacheArticleShard(articleId, found));
+        return shard;
+    }
+
+    /*
+    * 게시글 생성/조회로 shard를 알게 된 경우 캐시에 저장
+    * */
+    public void registerArticle(Long articleId, Long boardId) {
+        if (shardCount > 1) {
+            cacheArticleShard(articleId, shardOf(boardId));
+        }
+    }
+
+    private void cacheArticleShard(Long articleId, int shard) {
+        synchronized (articleShards) {
+            articleShards.put(articleId, shard);
+        }
+    }
+
+    public void unregisterArticle(Long articleId) {
+        synchronized (articleShards) {
+            articleShards.remove(articleId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+}
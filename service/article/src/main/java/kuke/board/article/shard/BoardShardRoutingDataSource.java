@@ -0,0 +1,15 @@
+package kuke.board.article.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/*
+* ShardContext의 shard 번호에 해당하는 DataSource로 커넥션 요청을 위임
+* shard가 지정되지 않은 경우 0번 shard(default)
+* */
+public class BoardShardRoutingDataSource extends AbstractRoutingDataSource {
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.get();
+        return shard == null ? 0 : shard;
+    }
+}
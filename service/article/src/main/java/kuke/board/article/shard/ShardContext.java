@@ -0,0 +1,25 @@
+package kuke.board.article.shard;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/*
+* 현재 스레드가 사용할 shard 번호
+* BoardShardRouter를 통해서만 설정/해제하며, BoardShardRoutingDataSource가 커넥션 획득 시점에 참조한다.
+* */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardContext {
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    public static Integer get() {
+        return CURRENT_SHARD.get();
+    }
+
+    static void set(Integer shard) {
+        if (shard == null) {
+            CURRENT_SHARD.remove();
+            return;
+        }
+        CURRENT_SHARD.set(shard);
+    }
+}
@@ -0,0 +1,23 @@
+package kuke.board.article.shard;
+
+import org.springframework.core.task.TaskDecorator;
+
+/*
+* 작업을 제출한 스레드의 shard 번호를 실행 스레드로 전달
+* 예) 게시글 트랜잭션 커밋 후 비동기로 실행되는 outbox 전송/삭제가 게시글과 같은 shard의 outbox를 삭제하도록
+* */
+public class ShardContextTaskDecorator implements TaskDecorator {
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Integer shard = ShardContext.get();
+        return () -> {
+            Integer previous = ShardContext.get();
+            ShardContext.set(shard);
+            try {
+                runnable.run();
+            } finally {
+                ShardContext.set(previous);
+            }
+        };
+    }
+}
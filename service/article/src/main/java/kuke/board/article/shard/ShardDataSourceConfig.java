@@ -0,0 +1,100 @@
+package kuke.board.article.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import kuke.board.common.outboxmessagerelay.batch.OutboxDatabaseRouter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+* article.shard.enabled = true 일 경우 board_id 기준 shard DataSource 구성
+* - article.shard.urls의 순서가 shard 번호(0..N-1)
+* - LazyConnectionDataSourceProxy : 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 커넥션을 획득하도록 하여
+*   ShardContext가 설정된 이후 shard가 결정되도록 한다.
+* - 요청 스레드가 아닌 스레드에서 동작하는 outbox 처리
+*   - 커밋 후 비동기 전송/삭제 : ThreadPoolTaskExecutor에 ShardContextTaskDecorator를 적용하여 제출한 스레드의 shard 전달
+*   - 미전송 outbox 재전송 : shard마다 조회해야 하므로 batch relay(outbox.relay.mode=batch)가 OutboxDatabaseRouter로 모든 shard 처리
+*     (기존 polling은 shard를 지정할 수 없어 0번 shard만 조회하므로 batch relay 필수)
+* 비활성화 시 기존 spring.datasource 단일 DataSource 사용
+* */
+@Configuration
+@ConditionalOnProperty(name = "article.shard.enabled", havingValue = "true")
+public class ShardDataSourceConfig {
+
+    @Bean
+    public DataSource dataSource(
+            @Value("${article.shard.urls:}") List<String> urls,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${spring.datasource.driver-class-name}") String driverClassName,
+            @Value("${outbox.relay.mode:}") String outboxRelayMode
+    ) {
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("article.shard.urls must not be empty when article.shard.enabled=true");
+        }
+        if (!"batch".equals(outboxRelayMode)) {
+            throw new IllegalStateException("outbox.relay.mode=batch is required when article.shard.enabled=true " +
+                    "(pending outbox on every shard must be relayed)");
+        }
+        Map<Object, Object> shardDataSources = new HashMap<>();
+        for (int shard = 0; shard < urls.size(); shard++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(urls.get(shard));
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            dataSource.setDriverClassName(driverClassName);
+            dataSource.setPoolName("article-shard-" + shard);
+            shardDataSources.put(shard, dataSource);
+        }
+
+        BoardShardRoutingDataSource routingDataSource = new BoardShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(shardDataSources);
+        routingDataSource.setDefaultTargetDataSource(shardDataSources.get(0));
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /*
+    * batch relay가 모든 shard의 outbox를 조회/삭제하도록 shard 지정
+    * */
+    @Bean
+    public OutboxDatabaseRouter outboxDatabaseRouter(BoardShardRouter boardShardRouter) {
+        return new OutboxDatabaseRouter() {
+            @Override
+            public int getDatabaseCount() {
+                return boardShardRouter.getShardCount();
+            }
+
+            @Override
+            public <T> T route(int database, Supplier<T> supplier) {
+                return boardShardRouter.routeToShard(database, supplier);
+            }
+        };
+    }
+
+    /*
+    * 비동기 작업(커밋 후 outbox 전송/삭제 등)에 제출한 스레드의 shard 전달
+    * */
+    @Bean
+    public static BeanPostProcessor shardContextTaskDecoratorPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof ThreadPoolTaskExecutor executor) {
+                    executor.setTaskDecorator(new ShardContextTaskDecorator());
+                }
+                return bean;
+            }
+        };
+    }
+}
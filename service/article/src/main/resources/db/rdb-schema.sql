@@ -9,12 +9,29 @@ create table article (
 );
 
 create index idx_board_id_article_id on article(board_id asc, article_id desc);
+create index idx_board_id_article_id_summary on article(board_id asc, article_id desc, title, writer_id, created_at, modified_at);
 
 create table board_article_count (
     board_id bigint not null primary key,
     article_count bigint not null
 );
 
+create table board_article_count_stripe (
+    board_id bigint not null,
+    stripe int not null,
+    article_count bigint not null,
+    primary key (board_id, stripe)
+);
+
+create table board_article_page_anchor (
+    article_id bigint not null primary key,
+    board_id bigint not null,
+    tail_rank bigint not null
+);
+
+create index idx_board_id_tail_rank on board_article_page_anchor(board_id asc, tail_rank asc);
+create index idx_board_id_article_id on board_article_page_anchor(board_id asc, article_id asc);
+
 create table outbox (
     outbox_id bigint not null primary key,
     shard_key bigint not null,
@@ -23,4 +40,11 @@ create table outbox (
     created_at datetime not null
 );
 
-create index idx_shard_key_created_at on outbox(shard_key asc, created_at asc);
\ No newline at end of file
+create index idx_shard_key_created_at on outbox(shard_key asc, created_at asc);
+
+-- batch relay(outbox.relay.mode = batch) shard lease : lease를 가진 서버만 해당 shard의 outbox를 relay
+create table outbox_relay_lease (
+    shard_key bigint not null primary key,
+    owner varchar(100) not null,
+    expires_at datetime not null
+);
\ No newline at end of file
@@ -2,12 +2,15 @@ package kuke.board.article.api;
 
 import kuke.board.article.service.response.ArticlePageResponse;
 import kuke.board.article.service.response.ArticleResponse;
+import kuke.board.article.service.response.ArticleSummaryPageResponse;
+import kuke.board.article.service.response.ArticleSummaryResponse;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.web.client.RestClient;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class ArticleApiTest {
@@ -39,6 +42,38 @@ public class ArticleApiTest {
                 .body(ArticleResponse.class);
     }
 
+    /*
+    * 게시글 1000건 생성 처리량 비교
+    * - 단건 생성 API 1000회 / 대량 생성 API 1회
+    * */
+    @Test
+    void createAllTest() {
+        int count = 1000;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            create(new ArticleCreateRequest("hi" + i, "my content" + i, 1L, 3L));
+        }
+        long singleMillis = (System.nanoTime() - start) / 1_000_000;
+
+        List<ArticleCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(new ArticleCreateRequest("hi" + i, "my content" + i, 1L, 3L));
+        }
+        start = System.nanoTime();
+        List<ArticleResponse> responses = restClient.post()
+                .uri("/v1/articles/batch")
+                .body(new ArticleBatchCreateRequest(requests))
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<ArticleResponse>>() {
+                });
+        long batchMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("responses.size() = " + responses.size());
+        System.out.println("single = " + singleMillis + "ms, " + (count * 1000L / Math.max(singleMillis, 1)) + " articles/s");
+        System.out.println("batch = " + batchMillis + "ms, " + (count * 1000L / Math.max(batchMillis, 1)) + " articles/s");
+    }
+
     @Test
     void readTest() {
         ArticleResponse response = read(228802790527574016L);
@@ -92,6 +127,47 @@ public class ArticleApiTest {
         }
     }
 
+    @Test
+    void readAllByIdsTest() {
+        /*
+        * 여러 게시글을 한번의 요청으로 조회한다(요청 순서 유지, 없는 게시글 제외).
+        * */
+        List<ArticleResponse> articles = restClient.get()
+                .uri("/v1/articles/batch?ids=%s,%s".formatted(228802790527574016L, 1L))
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<ArticleResponse>>() {
+                });
+
+        for (ArticleResponse article : articles) {
+            System.out.println("articleId = " + article.getArticleId());
+        }
+    }
+
+    @Test
+    void readAllSummaryTest() {
+        /*
+        * content를 제외한 목록 요약 조회
+        * */
+        ArticleSummaryPageResponse response = restClient.get()
+                .uri("/v1/articles?boardId=1&pageSize=30&page=1&view=summary")
+                .retrieve()
+                .body(ArticleSummaryPageResponse.class);
+
+        System.out.println("response.getArticleCount() = " + response.getArticleCount());
+        for (ArticleSummaryResponse article : response.getArticles()) {
+            System.out.println("articleId = " + article.getArticleId() + ", title = " + article.getTitle());
+        }
+
+        List<ArticleSummaryResponse> articles = restClient.get()
+                .uri("/v1/articles/infinite-scroll?boardId=1&pageSize=5&view=summary")
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<ArticleSummaryResponse>>() {
+                });
+        for (ArticleSummaryResponse article : articles) {
+            System.out.println("articleId = " + article.getArticleId());
+        }
+    }
+
     @Test
     void readAllInfiniteScrollTest() {
         List<ArticleResponse> articles1 = restClient.get()
@@ -159,6 +235,12 @@ public class ArticleApiTest {
         private Long boardId;
     }
 
+    @Getter
+    @AllArgsConstructor
+    static class ArticleBatchCreateRequest {
+        private List<ArticleCreateRequest> articles;
+    }
+
     @Getter
     @AllArgsConstructor
     static class ArticleUpdateRequest {
@@ -0,0 +1,101 @@
+package kuke.board.article.cache;
+
+import kuke.board.article.entity.Article;
+import kuke.board.article.service.response.ArticleResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleResponseCacheTest {
+
+    @Test
+    void getOrLoadTest() {
+        // given
+        ArticleResponseCache articleResponseCache = new ArticleResponseCache(10, 60_000L);
+
+        // when
+        articleResponseCache.getOrLoad(1L, () -> response(1L));
+        ArticleResponse result = articleResponseCache.getOrLoad(1L, () -> {
+            throw new IllegalStateException("must not load");
+        });
+
+        // then
+        assertThat(result.getArticleId()).isEqualTo(1L);
+        assertThat(articleResponseCache.getMissCount()).isEqualTo(1L);
+        assertThat(articleResponseCache.getHitCount()).isEqualTo(1L);
+    }
+
+    /*
+    * 최대 개수 초과 시 가장 오래 조회되지 않은 게시글 제거
+    * */
+    @Test
+    void lruEvictionTest() {
+        // given
+        ArticleResponseCache articleResponseCache = new ArticleResponseCache(2, 60_000L);
+        articleResponseCache.put(1L, response(1L));
+        articleResponseCache.put(2L, response(2L));
+        articleResponseCache.get(1L);
+
+        // when
+        articleResponseCache.put(3L, response(3L));
+
+        // then
+        assertThat(articleResponseCache.get(1L)).isPresent();
+        assertThat(articleResponseCache.get(2L)).isEmpty();
+        assertThat(articleResponseCache.get(3L)).isPresent();
+        assertThat(articleResponseCache.getEvictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void evictTest() {
+        // given
+        ArticleResponseCache articleResponseCache = new ArticleResponseCache(10, 60_000L);
+        articleResponseCache.put(1L, response(1L));
+
+        // when
+        articleResponseCache.evict(1L);
+
+        // then
+        assertThat(articleResponseCache.get(1L)).isEmpty();
+    }
+
+    /*
+    * 원본 조회 도중 evict가 발생하면 이전 데이터는 캐싱하지 않는다.
+    * */
+    @Test
+    void evictDuringLoadTest() {
+        // given
+        ArticleResponseCache articleResponseCache = new ArticleResponseCache(10, 60_000L);
+
+        // when
+        articleResponseCache.getOrLoad(1L, () -> {
+            articleResponseCache.evict(1L);
+            return response(1L);
+        });
+
+        // then
+        assertThat(articleResponseCache.size()).isZero();
+    }
+
+    /*
+    * ttl이 지난 게시글은 miss로 처리하고 제거
+    * */
+    @Test
+    void expireTest() {
+        // given
+        ArticleResponseCache articleResponseCache = new ArticleResponseCache(10, 0L);
+        articleResponseCache.put(1L, response(1L));
+
+        // when
+        ArticleResponse result = articleResponseCache.getOrLoad(1L, () -> response(1L));
+
+        // then
+        assertThat(result.getArticleId()).isEqualTo(1L);
+        assertThat(articleResponseCache.getHitCount()).isZero();
+        assertThat(articleResponseCache.getMissCount()).isEqualTo(1L);
+    }
+
+    ArticleResponse response(Long articleId) {
+        return ArticleResponse.from(Article.create(articleId, "title", "content", 1L, 1L));
+    }
+}
@@ -0,0 +1,60 @@
+package kuke.board.article.service;
+
+import kuke.board.article.entity.Article;
+import kuke.board.article.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+/*
+* 깊은 페이지(5000 page) 조회 지연시간 비교
+* - 기존 : covering index + offset 전체 탐색
+* - 기준점 : 기준점부터 range scan + 짧은 offset (최초 1회는 기준점 생성 비용 포함)
+* DataInitializer로 생성한 데이터는 board_article_count를 갱신하지 않으므로, 실행 전 게시글 수를 맞춰둔다.
+* */
+class ArticlePageAnchorBenchmarkTest {
+    @Autowired
+    ArticleRepository articleRepository;
+    @Autowired
+    ArticlePageAnchorManager articlePageAnchorManager;
+
+    static final Long BOARD_ID = 1L;
+    static final Long PAGE = 5000L;
+    static final Long PAGE_SIZE = 30L;
+    static final int REPEAT = 10;
+
+    @Test
+    void deepPageLatencyTest() {
+        Long offset = (PAGE - 1) * PAGE_SIZE;
+
+        long start = System.nanoTime();
+        List<Article> expected = articleRepository.findAll(BOARD_ID, offset, PAGE_SIZE);
+        log.info("offset first = {}ms", (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        List<Article> actual = articlePageAnchorManager.findAll(BOARD_ID, offset, PAGE_SIZE);
+        log.info("anchor first(with anchor creation) = {}ms", (System.nanoTime() - start) / 1_000_000);
+
+        assertThat(actual).extracting(Article::getArticleId)
+                .containsExactlyElementsOf(expected.stream().map(Article::getArticleId).toList());
+
+        start = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            articleRepository.findAll(BOARD_ID, offset, PAGE_SIZE);
+        }
+        log.info("offset avg = {}ms", (System.nanoTime() - start) / 1_000_000 / REPEAT);
+
+        start = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            articlePageAnchorManager.findAll(BOARD_ID, offset, PAGE_SIZE);
+        }
+        log.info("anchor avg = {}ms", (System.nanoTime() - start) / 1_000_000 / REPEAT);
+    }
+}
@@ -0,0 +1,107 @@
+package kuke.board.article.service;
+
+import kuke.board.article.entity.BoardArticleCount;
+import kuke.board.article.repository.BoardArticleCountRepository;
+import kuke.board.article.repository.BoardArticleCountStripeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+/*
+* 하나의 게시판에 게시글이 몰리는 상황에서 게시글 수 증가 처리량 비교
+* - 단일 row update / stripe row update / coalesce(메모리에 모아서 flush)
+* 게시판 id는 매 실행마다 새로 할당하여 기존 데이터에 영향을 주지 않는다.
+* */
+class BoardArticleCounterBenchmarkTest {
+    @Autowired
+    BoardArticleCountRepository boardArticleCountRepository;
+    @Autowired
+    BoardArticleCountStripeRepository boardArticleCountStripeRepository;
+    @Autowired
+    BoardArticleCounter boardArticleCounter;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    static final int THREAD_COUNT = 10;
+    static final int EXECUTE_COUNT = 3000;
+    static final int STRIPE_COUNT = 16;
+
+    @Test
+    void singleRowTest() throws InterruptedException {
+        Long boardId = newBoardId();
+        boardArticleCountRepository.save(BoardArticleCount.init(boardId, 0L));
+
+        long elapsed = execute(() -> transactionTemplate.executeWithoutResult(
+                status -> boardArticleCountRepository.increase(boardId)
+        ));
+
+        log.info("single row = {}ms", elapsed);
+        assertThat(boardArticleCountRepository.findById(boardId).orElseThrow().getArticleCount())
+                .isEqualTo(EXECUTE_COUNT);
+    }
+
+    @Test
+    void stripeTest() throws InterruptedException {
+        Long boardId = newBoardId();
+
+        long elapsed = execute(() -> transactionTemplate.executeWithoutResult(
+                status -> boardArticleCountStripeRepository.add(boardId, ThreadLocalRandom.current().nextInt(STRIPE_COUNT), 1L)
+        ));
+
+        log.info("stripe({}) = {}ms", STRIPE_COUNT, elapsed);
+        assertThat(boardArticleCountStripeRepository.sum(boardId).orElseThrow()).isEqualTo(EXECUTE_COUNT);
+    }
+
+    @Test
+    void coalesceTest() throws InterruptedException {
+        Long boardId = newBoardId();
+        ReflectionTestUtils.setField(boardArticleCounter, "stripeCount", STRIPE_COUNT);
+        ReflectionTestUtils.setField(boardArticleCounter, "coalesce", true);
+
+        try {
+            long elapsed = execute(() -> boardArticleCounter.increase(boardId));
+            boardArticleCounter.flush();
+
+            log.info("coalesce = {}ms", elapsed);
+            assertThat(boardArticleCountStripeRepository.sum(boardId).orElseThrow()).isEqualTo(EXECUTE_COUNT);
+        } finally {
+            ReflectionTestUtils.setField(boardArticleCounter, "stripeCount", 0);
+            ReflectionTestUtils.setField(boardArticleCounter, "coalesce", false);
+        }
+    }
+
+    long execute(Runnable runnable) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(EXECUTE_COUNT);
+        long start = System.nanoTime();
+        for (int i = 0; i < EXECUTE_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        executorService.shutdown();
+        return elapsed;
+    }
+
+    Long newBoardId() {
+        return ThreadLocalRandom.current().nextLong(1_000_000L, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,106 @@
+package kuke.board.article.service;
+
+import kuke.board.article.repository.BoardArticleCountRepository;
+import kuke.board.article.repository.BoardArticleCountStripeRepository;
+import kuke.board.article.shard.BoardShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BoardArticleCounterTest {
+    @Mock
+    BoardArticleCountRepository boardArticleCountRepository;
+    @Mock
+    BoardArticleCountStripeRepository boardArticleCountStripeRepository;
+    @Mock
+    TransactionTemplate transactionTemplate;
+    @Mock
+    BoardShardRouter boardShardRouter;
+
+    BoardArticleCounter boardArticleCounter;
+
+    @BeforeEach
+    void setUp() {
+        boardArticleCounter = new BoardArticleCounter(
+                boardArticleCountRepository, boardArticleCountStripeRepository, transactionTemplate, boardShardRouter
+        );
+        ReflectionTestUtils.setField(boardArticleCounter, "stripeCount", 4);
+        ReflectionTestUtils.setField(boardArticleCounter, "cacheTtlMillis", 60_000L);
+    }
+
+    /*
+    * 이벤트 발행용 반환값은 캐싱된 합계가 아닌 증감 후 누적값
+    * */
+    @Test
+    void increaseReturnsRunningCountTest() {
+        given(boardArticleCountStripeRepository.sum(1L)).willReturn(Optional.of(10L));
+
+        assertThat(boardArticleCounter.increase(1L)).isEqualTo(11L);
+        assertThat(boardArticleCounter.increase(1L, 3L)).isEqualTo(14L);
+        assertThat(boardArticleCounter.decrease(1L)).isEqualTo(13L);
+        assertThat(boardArticleCounter.count(1L)).isEqualTo(13L);
+        verify(boardArticleCountStripeRepository, times(1)).sum(1L);
+    }
+
+    /*
+    * 롤백되면 누적값 되돌림
+    * */
+    @Test
+    void increaseRollbackTest() {
+        given(boardArticleCountStripeRepository.sum(1L)).willReturn(Optional.of(10L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(boardArticleCounter.increase(1L)).isEqualTo(11L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(boardArticleCounter.count(1L)).isEqualTo(10L);
+    }
+
+    /*
+    * coalesce 모드는 커밋된 증감만 모아두었다가 flush
+    * */
+    @Test
+    void coalesceRollbackTest() {
+        ReflectionTestUtils.setField(boardArticleCounter, "coalesce", true);
+        given(boardArticleCountStripeRepository.sum(1L)).willReturn(Optional.of(10L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            boardArticleCounter.increase(1L);
+            boardArticleCounter.flush();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        boardArticleCounter.flush();
+
+        assertThat(boardArticleCounter.count(1L)).isEqualTo(10L);
+        verify(boardShardRouter, never()).route(eq(1L), any(Runnable.class));
+        verify(boardArticleCountStripeRepository, never()).add(anyLong(), anyInt(), anyLong());
+    }
+}
@@ -0,0 +1,88 @@
+package kuke.board.article.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageLimitCountCacheTest {
+
+    @Test
+    void getOrLoadTest() {
+        PageLimitCountCache cache = new PageLimitCountCache(60_000L, 100);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        Long first = cache.getOrLoad(1L, 301L, () -> (long) loadCount.incrementAndGet());
+        Long second = cache.getOrLoad(1L, 301L, () -> (long) loadCount.incrementAndGet());
+        Long otherLimit = cache.getOrLoad(1L, 601L, () -> (long) loadCount.incrementAndGet());
+
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(1L);
+        assertThat(otherLimit).isEqualTo(2L);
+    }
+
+    @Test
+    void evictTest() {
+        PageLimitCountCache cache = new PageLimitCountCache(60_000L, 100);
+        cache.getOrLoad(1L, 301L, () -> 10L);
+        cache.getOrLoad(2L, 301L, () -> 20L);
+
+        cache.evict(1L);
+
+        assertThat(cache.getOrLoad(1L, 301L, () -> 11L)).isEqualTo(11L);
+        assertThat(cache.getOrLoad(2L, 301L, () -> 21L)).isEqualTo(20L);
+    }
+
+    @Test
+    void expireTest() {
+        PageLimitCountCache cache = new PageLimitCountCache(0L, 100);
+        cache.getOrLoad(1L, 301L, () -> 10L);
+
+        assertThat(cache.getOrLoad(1L, 301L, () -> 11L)).isEqualTo(11L);
+    }
+
+    /*
+    * 트랜잭션 안에서는 커밋 후 제거, 롤백 시 유지
+    * */
+    @Test
+    void evictAfterCommitTest() {
+        PageLimitCountCache cache = new PageLimitCountCache(60_000L, 100);
+        cache.getOrLoad(1L, 301L, () -> 10L);
+        cache.getOrLoad(2L, 301L, () -> 20L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(1L);
+            cache.evict(2L);
+            assertThat(cache.getOrLoad(1L, 301L, () -> 11L)).isEqualTo(10L);
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.get(0).afterCommit();
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.getOrLoad(1L, 301L, () -> 11L)).isEqualTo(11L);
+        assertThat(cache.getOrLoad(2L, 301L, () -> 21L)).isEqualTo(20L);
+    }
+
+    /*
+    * 원본 조회 도중 제거가 발생하면 조회한 count는 캐싱하지 않는다.
+    * */
+    @Test
+    void evictDuringLoadTest() {
+        PageLimitCountCache cache = new PageLimitCountCache(60_000L, 100);
+
+        cache.getOrLoad(1L, 301L, () -> {
+            cache.evict(1L);
+            return 10L;
+        });
+
+        assertThat(cache.getOrLoad(1L, 301L, () -> 11L)).isEqualTo(11L);
+    }
+}
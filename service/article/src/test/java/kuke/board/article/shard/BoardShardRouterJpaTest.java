@@ -0,0 +1,143 @@
+package kuke.board.article.shard;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import kuke.board.article.entity.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+* JPA(JpaTransactionManager + 공유 EntityManager)로 shard 라우팅 검증
+* - 트랜잭션 시작 전에 route 해야 트랜잭션의 커넥션이 해당 shard에서 획득된다.
+* - scatter의 각 shard 작업은 별도 스레드에서 각자의 트랜잭션/EntityManager로 수행된다.
+* */
+class BoardShardRouterJpaTest {
+    static final int SHARD_COUNT = 3;
+
+    List<JdbcTemplate> shardJdbcTemplates;
+    LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    EntityManager entityManager;
+    TransactionTemplate transactionTemplate;
+    BoardShardRouter boardShardRouter;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = UUID.randomUUID().toString();
+        List<String> urls = List.of(
+                "jdbc:h2:mem:" + prefix + "-0;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "jdbc:h2:mem:" + prefix + "-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "jdbc:h2:mem:" + prefix + "-2;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+        );
+
+        Map<Object, Object> shardDataSources = new HashMap<>();
+        shardJdbcTemplates = urls.stream()
+                .map(DriverManagerDataSource::new)
+                .map(JdbcTemplate::new)
+                .toList();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            JdbcTemplate jdbcTemplate = shardJdbcTemplates.get(shard);
+            jdbcTemplate.execute("create table article (" +
+                    "article_id bigint not null primary key, title varchar(100) not null, content varchar(3000) not null, " +
+                    "board_id bigint not null, writer_id bigint not null, created_at datetime not null, modified_at datetime not null)");
+            shardDataSources.put(shard, jdbcTemplate.getDataSource());
+        }
+
+        BoardShardRoutingDataSource routingDataSource = new BoardShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(shardDataSources);
+        routingDataSource.setDefaultTargetDataSource(shardDataSources.get(0));
+        routingDataSource.afterPropertiesSet();
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(new LazyConnectionDataSourceProxy(routingDataSource));
+        entityManagerFactoryBean.setPackagesToScan(Article.class.getPackageName());
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of("hibernate.dialect", "org.hibernate.dialect.H2Dialect"));
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        boardShardRouter = new BoardShardRouter(true, urls, 1000, 3000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardShardRouter.shutdown();
+        entityManagerFactoryBean.destroy();
+    }
+
+    @Test
+    void routeTest() {
+        // when
+        for (long boardId = 1; boardId <= 6; boardId++) {
+            Article article = Article.create(boardId * 100, "title", "content", boardId, 1L);
+            boardShardRouter.route(boardId, () -> transactionTemplate.executeWithoutResult(
+                    status -> entityManager.persist(article)
+            ));
+        }
+
+        // then : board_id % 3 번 shard에만 저장
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            List<Long> boardIds = shardJdbcTemplates.get(shard).queryForList("select board_id from article", Long.class);
+            int target = shard;
+            assertThat(boardIds).hasSize(2).allMatch(boardId -> boardId % SHARD_COUNT == target);
+        }
+        assertThat(ShardContext.get()).isNull();
+    }
+
+    @Test
+    void scatterTest() {
+        // given
+        for (long boardId = 1; boardId <= 6; boardId++) {
+            Article article = Article.create(boardId * 100, "title", "content", boardId, 1L);
+            boardShardRouter.route(boardId, () -> transactionTemplate.executeWithoutResult(
+                    status -> entityManager.persist(article)
+            ));
+        }
+
+        // when
+        List<List<Long>> boardIds = boardShardRouter.scatter(() -> transactionTemplate.execute(
+                status -> entityManager.createQuery("select a.boardId from Article a order by a.boardId", Long.class)
+                        .getResultList()
+        ));
+
+        // then
+        assertThat(boardIds).containsExactly(List.of(3L, 6L), List.of(1L, 4L), List.of(2L, 5L));
+    }
+
+    /*
+    * 읽은 게시글을 같은 shard에서 수정
+    * */
+    @Test
+    void routeUpdateTest() {
+        // given
+        Article article = Article.create(500L, "title", "content", 5L, 1L);
+        boardShardRouter.route(5L, () -> transactionTemplate.executeWithoutResult(status -> entityManager.persist(article)));
+
+        // when
+        boardShardRouter.route(5L, () -> transactionTemplate.executeWithoutResult(
+                status -> entityManager.find(Article.class, 500L).update("updated", "content")
+        ));
+
+        // then
+        String title = shardJdbcTemplates.get(boardShardRouter.shardOf(5L))
+                .queryForObject("select title from article where article_id = ?", String.class, 500L);
+        assertThat(title).isEqualTo("updated");
+    }
+}
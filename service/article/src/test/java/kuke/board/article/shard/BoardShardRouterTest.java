@@ -0,0 +1,236 @@
+package kuke.board.article.shard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+* in-memory DB(H2) 3개를 shard로 구성하여 라우팅 검증
+* */
+class BoardShardRouterTest {
+    static final int SHARD_COUNT = 3;
+
+    List<String> urls;
+    List<JdbcTemplate> shardJdbcTemplates;
+    JdbcTemplate routingJdbcTemplate;
+    BoardShardRouter boardShardRouter;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = UUID.randomUUID().toString();
+        urls = List.of(
+                "jdbc:h2:mem:" + prefix + "-0;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "jdbc:h2:mem:" + prefix + "-1;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "jdbc:h2:mem:" + prefix + "-2;MODE=MySQL;DB_CLOSE_DELAY=-1"
+        );
+
+        Map<Object, Object> shardDataSources = new HashMap<>();
+        shardJdbcTemplates = urls.stream()
+                .map(DriverManagerDataSource::new)
+                .map(JdbcTemplate::new)
+                .toList();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            JdbcTemplate jdbcTemplate = shardJdbcTemplates.get(shard);
+            jdbcTemplate.execute("create table article (article_id bigint not null primary key, board_id bigint not null)");
+            shardDataSources.put(shard, jdbcTemplate.getDataSource());
+        }
+
+        BoardShardRoutingDataSource routingDataSource = new BoardShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(shardDataSources);
+        routingDataSource.setDefaultTargetDataSource(shardDataSources.get(0));
+        routingDataSource.afterPropertiesSet();
+        routingJdbcTemplate = new JdbcTemplate(new LazyConnectionDataSourceProxy(routingDataSource));
+
+        boardShardRouter = new BoardShardRouter(true, urls, 1000, 3000);
+    }
+
+    @Test
+    void routeTest() {
+        // when
+        for (long boardId = 1; boardId <= 6; boardId++) {
+            long articleId = boardId * 100;
+            long targetBoardId = boardId;
+            boardShardRouter.route(boardId, () -> routingJdbcTemplate.update(
+                    "insert into article(article_id, board_id) values (?, ?)", articleId, targetBoardId
+            ));
+        }
+
+        // then : board_id % 3 번 shard에만 저장
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            List<Long> boardIds = shardJdbcTemplates.get(shard).queryForList("select board_id from article", Long.class);
+            int target = shard;
+            assertThat(boardIds).hasSize(2).allMatch(boardId -> boardId % SHARD_COUNT == target);
+        }
+        assertThat(ShardContext.get()).isNull();
+    }
+
+    @Test
+    void scatterTest() {
+        // given
+        for (long boardId = 1; boardId <= 6; boardId++) {
+            long targetBoardId = boardId;
+            boardShardRouter.route(boardId, () -> routingJdbcTemplate.update(
+                    "insert into article(article_id, board_id) values (?, ?)", targetBoardId, targetBoardId
+            ));
+        }
+
+        // when
+        List<Long> counts = boardShardRouter.scatter(
+                () -> routingJdbcTemplate.queryForObject("select count(*) from article", Long.class)
+        );
+
+        // then
+        assertThat(counts).containsExactly(2L, 2L, 2L);
+    }
+
+    /*
+    * shard에서 발생한 예외는 CompletionException으로 감싸지 않고 그대로 전달
+    * */
+    @Test
+    void scatterExceptionTest() {
+        assertThatThrownBy(() -> boardShardRouter.scatter(() -> {
+            throw new IllegalStateException("shard failure");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("shard failure");
+    }
+
+    /*
+    * 동시 요청의 scatter가 서로를 기다리지 않는다.
+    * 모든 요청의 모든 shard 작업이 동시에 실행되어야 latch가 열린다(고정 크기 pool 공유 시 timeout)
+    * */
+    @Test
+    void scatterConcurrentRequestsTest() {
+        // given
+        int requestCount = 10;
+        CountDownLatch allRunning = new CountDownLatch(requestCount * SHARD_COUNT);
+
+        // when
+        ExecutorService requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        List<CompletableFuture<List<Boolean>>> requests = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            requests.add(CompletableFuture.supplyAsync(() -> boardShardRouter.scatter(() -> {
+                allRunning.countDown();
+                try {
+                    return allRunning.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }), requestExecutor));
+        }
+
+        // then
+        assertThat(requests).allSatisfy(request -> assertThat(request.join()).containsOnly(true));
+        requestExecutor.shutdown();
+    }
+
+    @Test
+    void scatterTimeoutTest() {
+        // given
+        BoardShardRouter router = new BoardShardRouter(true, urls, 1000, 100);
+
+        // when, then
+        assertThatThrownBy(() -> router.scatter(() -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 1L;
+        })).isInstanceOf(QueryTimeoutException.class);
+        router.shutdown();
+    }
+
+    @Test
+    void findShardTest() {
+        // given
+        boardShardRouter.route(5L, () -> routingJdbcTemplate.update(
+                "insert into article(article_id, board_id) values (?, ?)", 500L, 5L
+        ));
+
+        // when
+        int shard = boardShardRouter.findShard(() -> routingJdbcTemplate.queryForObject(
+                "select count(*) from article where article_id = ?", Long.class, 500L
+        ) > 0).orElseThrow();
+
+        // then
+        assertThat(shard).isEqualTo(boardShardRouter.shardOf(5L));
+    }
+
+    /*
+    * article_id -> shard는 한번 탐색 후 캐시(생성 시 등록된 경우 탐색 없음)
+    * */
+    @Test
+    void findShardOfArticleTest() {
+        // given
+        boardShardRouter.route(5L, () -> routingJdbcTemplate.update(
+                "insert into article(article_id, board_id) values (?, ?)", 500L, 5L
+        ));
+        AtomicInteger probeCount = new AtomicInteger();
+
+        // when
+        int first = boardShardRouter.findShardOfArticle(500L, () -> {
+            probeCount.incrementAndGet();
+            return routingJdbcTemplate.queryForObject("select count(*) from article where article_id = ?", Long.class, 500L) > 0;
+        }).orElseThrow();
+        int second = boardShardRouter.findShardOfArticle(500L, () -> {
+            probeCount.incrementAndGet();
+            return false;
+        }).orElseThrow();
+        boardShardRouter.registerArticle(600L, 6L);
+        int registered = boardShardRouter.findShardOfArticle(600L, () -> {
+            probeCount.incrementAndGet();
+            return false;
+        }).orElseThrow();
+        int probeCountAfterCache = probeCount.get();
+
+        // then
+        assertThat(first).isEqualTo(boardShardRouter.shardOf(5L));
+        assertThat(second).isEqualTo(first);
+        assertThat(registered).isEqualTo(boardShardRouter.shardOf(6L));
+        assertThat(probeCountAfterCache).isEqualTo(boardShardRouter.shardOf(5L) + 1);
+    }
+
+    @Test
+    void emptyUrlsTest() {
+        assertThatThrownBy(() -> new BoardShardRouter(true, List.of(), 1000, 3000))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("article.shard.urls");
+    }
+
+    /*
+    * 비동기 작업에 제출한 스레드의 shard 전달
+    * */
+    @Test
+    void taskDecoratorTest() throws InterruptedException {
+        // given
+        AtomicInteger executedShard = new AtomicInteger(-1);
+        Runnable decorated = boardShardRouter.routeToShard(2, () -> new ShardContextTaskDecorator().decorate(
+                () -> executedShard.set(ShardContext.get())
+        ));
+
+        // when
+        Thread.ofVirtual().start(decorated).join();
+
+        // then
+        assertThat(executedShard.get()).isEqualTo(2);
+        assertThat(ShardContext.get()).isNull();
+    }
+}
@@ -0,0 +1,80 @@
+package kuke.board.comment.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+* CommentPath 연산 비교(기존 문자열 연산 / CommentPathCodec)
+* 할당량 비교는 gc profiler(gc.alloc.rate.norm)로 확인
+* ./gradlew :service:comment:jmh
+* */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommentPathBenchmark {
+    private static final String LEGACY_CHARSET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    CommentPath commentPath = CommentPath.create("0000zabcd");
+    String path = "0000zabcd";
+    String descendantsTopPath = "0000zabcdzzzzzzzzzzz";
+
+    @Benchmark
+    public CommentPath createChildCommentPath() {
+        return commentPath.createChildCommentPath(descendantsTopPath);
+    }
+
+    @Benchmark
+    public String legacyCreateChildCommentPath() {
+        String childrenTopPath = descendantsTopPath.substring(0, (path.length() / 5 + 1) * 5);
+        return legacyIncrease(childrenTopPath);
+    }
+
+    @Benchmark
+    public CommentPath createFirstChildCommentPath() {
+        return commentPath.createChildCommentPath(null);
+    }
+
+    @Benchmark
+    public String getParentPath() {
+        return commentPath.getParentPath();
+    }
+
+    @Benchmark
+    public int getDepth() {
+        return commentPath.getDepth();
+    }
+
+    /*
+    * 기존 CommentPath.increase
+    * */
+    private static String legacyIncrease(String path) {
+        String lastChunk = path.substring(path.length() - 5);
+        if ("zzzzz".equals(lastChunk)) {
+            throw new IllegalStateException("chunk overflowed");
+        }
+        int charsetLength = LEGACY_CHARSET.length();
+        int value = 0;
+        for (char ch : lastChunk.toCharArray()) {
+            value = value * charsetLength + LEGACY_CHARSET.indexOf(ch);
+        }
+        value = value + 1;
+        String result = "";
+        for (int i = 0; i < 5; i++) {
+            result = LEGACY_CHARSET.charAt(value % charsetLength) + result;
+            value /= charsetLength;
+        }
+        return path.substring(0, path.length() - 5) + result;
+    }
+}
@@ -37,13 +37,17 @@ public class CommentController {
     /*
      * RequestParam -> URI에 해당 식별자 명시하지 않음
      * */
+    /*
+    * cursor : 이전 페이지 응답의 nextCursor(없으면 page 번호로 조회)
+    * */
     @GetMapping("/v1/comments")
     public CommentPageResponse readAll(
             @RequestParam("articleId") Long articleId,
             @RequestParam("page") Long page,
-            @RequestParam("pageSize") Long pageSize
+            @RequestParam("pageSize") Long pageSize,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        return commentService.readAll(articleId, page, pageSize);
+        return commentService.readAll(articleId, page, pageSize, cursor);
     }
 
     @GetMapping("/v1/comments/infinite-scroll")
@@ -4,10 +4,13 @@ import kuke.board.comment.service.CommentService;
 import kuke.board.comment.service.CommentServiceV2;
 import kuke.board.comment.service.request.CommentCreateRequest;
 import kuke.board.comment.service.request.CommentCreateRequestV2;
+import kuke.board.comment.service.response.CommentFirstPageCacheStatsResponse;
 import kuke.board.comment.service.response.CommentPageResponse;
 import kuke.board.comment.service.response.CommentResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -42,13 +45,17 @@ public class CommentControllerV2 {
         commentService.delete(commentId);
     }
 
+    /*
+    * cursor : 이전 페이지 응답의 nextCursor(없으면 page 번호로 조회)
+    * */
     @GetMapping("/v2/comments")
     public CommentPageResponse readAll(
             @RequestParam("articleId") Long articleId,
             @RequestParam("page") Long page,
-            @RequestParam("pageSize") Long pageSize
+            @RequestParam("pageSize") Long pageSize,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        return commentService.readAll(articleId, page, pageSize);
+        return commentService.readAll(articleId, page, pageSize, cursor);
     }
 
     @GetMapping("/v2/comments/infinite-scroll")
@@ -60,6 +67,33 @@ public class CommentControllerV2 {
         return commentService.readAllInfiniteScroll(articleId, lastPath, pageSize);
     }
 
+    /*
+    * 무한 스크롤 첫 페이지 캐시 hit/miss 통계
+    * */
+    @GetMapping("/v2/comments/infinite-scroll/cache/stats")
+    public CommentFirstPageCacheStatsResponse readFirstPageCacheStats() {
+        return commentService.readFirstPageCacheStats();
+    }
+
+    /*
+    * 댓글 트리 조회(root 댓글 path 기준, JSON streaming)
+    * - maxDepth : root로부터 조회할 하위 단계 수
+    * - limit : root 포함 최대 댓글 수
+    * */
+    @GetMapping(value = "/v2/comments/tree", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody readTree(
+            @RequestParam("articleId") Long articleId,
+            @RequestParam("path") String path,
+            @RequestParam(value = "maxDepth", defaultValue = "5") Integer maxDepth,
+            @RequestParam(value = "limit", defaultValue = "1000") Long limit
+    ) {
+        /*
+        * streaming 응답이 시작된 뒤에는 400으로 응답할 수 없으므로 먼저 검증
+        * */
+        commentService.validateTree(path, maxDepth, limit);
+        return outputStream -> commentService.readTree(articleId, path, maxDepth, limit, outputStream);
+    }
+
     /*
     * 댓글 수 count API
     * */
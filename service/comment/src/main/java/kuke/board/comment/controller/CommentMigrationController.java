@@ -0,0 +1,51 @@
+package kuke.board.comment.controller;
+
+import kuke.board.comment.service.CommentMigrator;
+import kuke.board.comment.service.CommentPathKeyBackfill;
+import kuke.board.comment.service.response.CommentMigrationStatusResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+* V1 -> V2 댓글 이관(관리자용)
+* */
+@RestController
+@RequiredArgsConstructor
+public class CommentMigrationController {
+    private final CommentMigrator commentMigrator;
+    private final CommentPathKeyBackfill commentPathKeyBackfill;
+
+    /*
+    * 이관 시작(진행 위치부터 이어서), 이미 실행 중이면 무시
+    * */
+    @PostMapping("/v1/admin/comment-migration/start")
+    public CommentMigrationStatusResponse start() {
+        commentMigrator.start();
+        return commentMigrator.readStatus();
+    }
+
+    @PostMapping("/v1/admin/comment-migration/stop")
+    public CommentMigrationStatusResponse stop() {
+        commentMigrator.stop();
+        return commentMigrator.readStatus();
+    }
+
+    /*
+    * 진행 상황(이관 건수, 초당 처리량, 진행중인 게시글)
+    * */
+    @GetMapping("/v1/admin/comment-migration")
+    public CommentMigrationStatusResponse read() {
+        return commentMigrator.readStatus();
+    }
+
+    /*
+    * path_key 컬럼 추가 전 생성된 댓글의 path_key 채우기
+    * @return path_key를 채운 댓글 수
+    * */
+    @PostMapping("/v1/admin/comment-path-key-backfill")
+    public Long backfillPathKey() {
+        return commentPathKeyBackfill.run();
+    }
+}
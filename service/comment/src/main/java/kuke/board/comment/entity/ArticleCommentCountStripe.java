@@ -0,0 +1,40 @@
+package kuke.board.comment.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/*
+* 댓글 수(분할 저장)
+* 하나의 게시글 댓글 수를 stripe 개수만큼의 row로 나누어 저장하여, 쓰기 시 row lock 경합을 분산한다.
+* 댓글 수 = article_comment_count(stripe 적용 이전 값) + 게시글의 모든 stripe comment_count 합
+* */
+@Table(name = "article_comment_count_stripe")
+@Entity
+@Getter
+@ToString
+@IdClass(ArticleCommentCountStripe.StripeId.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleCommentCountStripe {
+    @Id
+    private Long articleId; // shard key
+    @Id
+    private Integer stripe;
+    private Long commentCount;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class StripeId implements Serializable {
+        private Long articleId;
+        private Integer stripe;
+    }
+}
@@ -0,0 +1,93 @@
+package kuke.board.comment.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/*
+* V1(comment) -> V2(comment_v2) 이관 진행 위치
+* - 게시글 단위로 (parent_comment_id, comment_id) 순서대로 이관
+* - articleId보다 작은 게시글은 이관 완료, articleId 게시글은 (parentCommentId, commentId)까지 이관 완료
+* */
+@Table(name = "comment_migration_checkpoint")
+@Getter
+@Entity
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommentMigrationCheckpoint {
+    @Id
+    private String migrationName;
+    private Long articleId;
+    private Long parentCommentId;
+    private Long commentId;
+    private Long migratedCount;
+    private Boolean completed;
+    private LocalDateTime updatedAt;
+
+    public static CommentMigrationCheckpoint init(String migrationName) {
+        CommentMigrationCheckpoint checkpoint = new CommentMigrationCheckpoint();
+        checkpoint.migrationName = migrationName;
+        checkpoint.migratedCount = 0L;
+        checkpoint.completed = false;
+        checkpoint.updatedAt = LocalDateTime.now();
+        return checkpoint;
+    }
+
+    public void advance(Long parentCommentId, Long commentId, long migratedCount) {
+        this.parentCommentId = parentCommentId;
+        this.commentId = commentId;
+        this.migratedCount += migratedCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void nextArticle(Long articleId) {
+        this.articleId = articleId;
+        this.parentCommentId = null;
+        this.commentId = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /*
+    * 진행 위치가 같은지(batch 조회 이후 다른 이관 작업이 진행 위치를 옮겼는지 확인)
+    * */
+    public boolean isAt(CommentMigrationCheckpoint other) {
+        return Objects.equals(articleId, other.articleId) &&
+                Objects.equals(parentCommentId, other.parentCommentId) &&
+                Objects.equals(commentId, other.commentId) &&
+                Objects.equals(completed, other.completed);
+    }
+
+    /*
+    * 해당 게시글의 이관이 끝났는지(이후 생성되는 댓글은 V2에도 작성해야 함)
+    * */
+    public boolean isMigrated(Long articleId) {
+        return completed || (this.articleId != null && articleId < this.articleId);
+    }
+
+    /*
+    * 해당 댓글이 이관되었는지(이후 변경은 V2에도 반영해야 함)
+    * 이관이 끝난 게시글이거나, 이관중인 게시글에서 (parentCommentId, commentId)가 진행 위치 이하
+    * */
+    public boolean isMigrated(Long articleId, Long parentCommentId, Long commentId) {
+        if (isMigrated(articleId)) {
+            return true;
+        }
+        if (!articleId.equals(this.articleId) || this.commentId == null) {
+            return false;
+        }
+        int compared = parentCommentId.compareTo(this.parentCommentId);
+        return compared < 0 || (compared == 0 && commentId <= this.commentId);
+    }
+}
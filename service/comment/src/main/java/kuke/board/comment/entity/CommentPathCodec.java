@@ -0,0 +1,166 @@
+package kuke.board.comment.entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+* 댓글 path의 chunk(5자리, 62진수) 변환
+* - 문자 -> 숫자 변환은 128개 크기의 decode table로 처리(CHARSET.indexOf 탐색 제거)
+* - 결과 path는 char[] 하나에 바로 채워서 String 1개만 생성(중간 문자열 생성 없음)
+* */
+public final class CommentPathCodec {
+    /*
+    * path가 가질 수 있는 캐릭터 셋 정의
+    * */
+    static final char[] CHARSET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    static final int RADIX = CHARSET.length;
+
+    /*
+    * 1 depth 당 경로정보를 나타내는 최대 문자열의 개수(청크사이즈)
+    * */
+    public static final int CHUNK_SIZE = 5;
+
+    /*
+    * chunk가 가질 수 있는 최대값(zzzzz) = 62^5 - 1
+    * */
+    public static final long MAX_CHUNK_VALUE = pow(RADIX, CHUNK_SIZE) - 1;
+
+    /*
+    * ascii 문자 -> 62진수 값, CHARSET에 없는 문자는 -1
+    * */
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        for (int i = 0; i < RADIX; i++) {
+            DECODE_TABLE[CHARSET[i]] = (byte) i;
+        }
+    }
+
+    private CommentPathCodec() {
+    }
+
+    /*
+    * 비어있지 않고, chunk 단위 길이이며, CHARSET 문자로만 구성된 path인지
+    * */
+    public static boolean isValid(String path) {
+        if (path == null || path.isEmpty() || path.length() % CHUNK_SIZE != 0) {
+            return false;
+        }
+        for (int i = 0; i < path.length(); i++) {
+            char ch = path.charAt(i);
+            if (ch >= DECODE_TABLE.length || DECODE_TABLE[ch] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static int depth(String path) {
+        return path.length() / CHUNK_SIZE;
+    }
+
+    /*
+    * 부모 path(마지막 chunk 제거)
+    * */
+    public static String parent(String path) {
+        return path.substring(0, path.length() - CHUNK_SIZE);
+    }
+
+    /*
+    * 조상 path 목록(가까운 부모부터 root까지)
+    * */
+    public static List<String> ancestors(String path) {
+        List<String> ancestors = new ArrayList<>(depth(path));
+        for (int length = path.length() - CHUNK_SIZE; length > 0; length -= CHUNK_SIZE) {
+            ancestors.add(path.substring(0, length));
+        }
+        return ancestors;
+    }
+
+    /*
+    * 두 path의 공통 조상 depth(앞에서부터 일치하는 chunk 수)
+    * */
+    public static int commonDepth(String path1, String path2) {
+        int length = Math.min(path1.length(), path2.length());
+        int mismatch = 0;
+        while (mismatch < length && path1.charAt(mismatch) == path2.charAt(mismatch)) {
+            mismatch++;
+        }
+        return mismatch / CHUNK_SIZE;
+    }
+
+    /*
+    * path의 depth번째(1부터) chunk 값
+    * */
+    public static long decodeChunk(String path, int depth) {
+        int end = depth * CHUNK_SIZE;
+        long value = 0;
+        for (int i = end - CHUNK_SIZE; i < end; i++) {
+            value = value * RADIX + decode(path.charAt(i));
+        }
+        return value;
+    }
+
+    /*
+    * 부모 path + value를 encoding한 chunk
+    * */
+    public static String child(String parentPath, long value) {
+        if (value < 0 || value > MAX_CHUNK_VALUE) {
+            throw new IllegalStateException("chunk overflowed");
+        }
+        int length = parentPath.length();
+        char[] result = new char[length + CHUNK_SIZE];
+        parentPath.getChars(0, length, result, 0);
+        for (int i = result.length - 1; i >= length; i--) {
+            result[i] = CHARSET[(int) (value % RADIX)];
+            value /= RADIX;
+        }
+        return new String(result);
+    }
+
+    /*
+    * 첫 번째 자식 path(부모 path + 00000)
+    * */
+    public static String firstChild(String parentPath) {
+        return child(parentPath, 0);
+    }
+
+    /*
+    * 자손 중 가장 큰 path(descendantsTopPath)에서 childDepth 까지만 잘라 마지막 chunk + 1
+    * 예) childDepth = 2, 0000zabcdzzzzzz -> 0000zabce0
+    * 마지막 chunk가 zzzzz일 경우 chunk overflowed
+    * */
+    public static String nextSibling(String descendantsTopPath, int childDepth) {
+        int length = childDepth * CHUNK_SIZE;
+        char[] result = new char[length];
+        descendantsTopPath.getChars(0, length, result, 0);
+
+        for (int i = length - 1; i >= length - CHUNK_SIZE; i--) {
+            int value = decode(result[i]) + 1;
+            if (value < RADIX) {
+                result[i] = CHARSET[value];
+                return new String(result);
+            }
+            result[i] = CHARSET[0];
+        }
+        throw new IllegalStateException("chunk overflowed");
+    }
+
+    private static int decode(char ch) {
+        int value = ch < DECODE_TABLE.length ? DECODE_TABLE[ch] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("invalid path character. ch=" + ch);
+        }
+        return value;
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
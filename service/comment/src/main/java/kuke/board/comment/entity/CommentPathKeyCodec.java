@@ -0,0 +1,50 @@
+package kuke.board.comment.entity;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/*
+* 댓글 path <-> path_key(binary(20)) 변환
+* - chunk(5자리, 62진수) 하나를 4byte 정수(big endian)로 저장, 최대 depth 5 -> 20byte 고정 길이
+* - chunk 값 + 1을 저장하여 0(빈 chunk)과 구분 -> byte 비교 순서 = path 문자열 순서(부모가 자식보다 앞)
+*   예) 00000 -> 00000001 00000000 ..., 0000000000 -> 00000001 00000001 00000000 ...
+* - 하위 댓글 조회는 like 대신 [path_key, upperBound] 범위 조회
+*   upperBound : path의 chunk 이후를 모두 0xFF로 채운 값(어떤 chunk 값 + 1 보다 크다)
+* */
+public final class CommentPathKeyCodec {
+    public static final int KEY_SIZE = CommentPath.MAX_DEPTH * Integer.BYTES;
+
+    private CommentPathKeyCodec() {
+    }
+
+    public static byte[] encode(String path) {
+        ByteBuffer key = ByteBuffer.allocate(KEY_SIZE);
+        int depth = CommentPathCodec.depth(path);
+        for (int i = 1; i <= depth; i++) {
+            key.putInt((int) (CommentPathCodec.decodeChunk(path, i) + 1));
+        }
+        return key.array();
+    }
+
+    public static String decode(byte[] key) {
+        ByteBuffer buffer = ByteBuffer.wrap(key);
+        String path = "";
+        while (buffer.remaining() >= Integer.BYTES) {
+            int value = buffer.getInt();
+            if (value == 0) {
+                break;
+            }
+            path = CommentPathCodec.child(path, value - 1L);
+        }
+        return path;
+    }
+
+    /*
+    * path 하위 댓글 path_key의 상한(포함)
+    * */
+    public static byte[] upperBound(String path) {
+        byte[] key = encode(path);
+        Arrays.fill(key, CommentPathCodec.depth(path) * Integer.BYTES, KEY_SIZE, (byte) 0xFF);
+        return key;
+    }
+}
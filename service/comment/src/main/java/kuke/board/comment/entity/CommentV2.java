@@ -46,6 +46,21 @@ public class CommentV2 {
         return comment;
     }
 
+    /*
+    * V1 댓글(comment) 이관, id/작성시각/삭제여부 유지
+    * */
+    public static CommentV2 migrate(Comment comment, CommentPath commentPath) {
+        CommentV2 commentV2 = new CommentV2();
+        commentV2.commentId = comment.getCommentId();
+        commentV2.content = comment.getContent();
+        commentV2.articleId = comment.getArticleId();
+        commentV2.writerId = comment.getWriterId();
+        commentV2.commentPath = commentPath;
+        commentV2.deleted = comment.getDeleted();
+        commentV2.createdAt = comment.getCreatedAt();
+        return commentV2;
+    }
+
     public boolean isRoot() {
         return commentPath.isRoot();
     }
@@ -19,10 +19,30 @@ public interface ArticleCommentCountRepository extends JpaRepository<ArticleComm
     @Modifying
     int increase(@Param("articleId") Long articleId);
 
+    /*
+    * 여러 댓글을 한번에 생성(V1 이관)할 때 한번의 update로 증가
+    * */
+    @Query(
+            value = "update article_comment_count set comment_count = comment_count + :delta where article_id = :articleId",
+            nativeQuery = true
+    )
+    @Modifying
+    int increase(@Param("articleId") Long articleId, @Param("delta") Long delta);
+
     @Query(
             value = "update article_comment_count set comment_count = comment_count - 1 where article_id = :articleId",
             nativeQuery = true
     )
     @Modifying
     int decrease(@Param("articleId") Long articleId);
+
+    /*
+    * 여러 댓글을 한번에 물리적 삭제할 때 한번의 update로 감소
+    * */
+    @Query(
+            value = "update article_comment_count set comment_count = comment_count - :delta where article_id = :articleId",
+            nativeQuery = true
+    )
+    @Modifying
+    int decrease(@Param("articleId") Long articleId, @Param("delta") Long delta);
 }
@@ -0,0 +1,41 @@
+package kuke.board.comment.repository;
+
+import kuke.board.comment.entity.ArticleCommentCountStripe;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArticleCommentCountStripeRepository extends JpaRepository<ArticleCommentCountStripe, ArticleCommentCountStripe.StripeId> {
+
+    /*
+    * 선택된 stripe row에만 lock
+    * 최초 없을 경우 insert, 있을 경우 update(init 분기 불필요)
+    * */
+    @Query(
+            value = "insert into article_comment_count_stripe(article_id, stripe, comment_count) " +
+                    "values (:articleId, :stripe, :delta) " +
+                    "on duplicate key update comment_count = comment_count + :delta",
+            nativeQuery = true
+    )
+    @Modifying
+    int add(
+            @Param("articleId") Long articleId,
+            @Param("stripe") Integer stripe,
+            @Param("delta") Long delta
+    );
+
+    /*
+    * stripe 적용 이전 댓글 수(article_comment_count) + stripe 합
+    * */
+    @Query(
+            value = "select cast(" +
+                    "   coalesce((select comment_count from article_comment_count where article_id = :articleId), 0) + " +
+                    "   coalesce((select sum(comment_count) from article_comment_count_stripe where article_id = :articleId), 0) " +
+                    "as signed)",
+            nativeQuery = true
+    )
+    Long sum(@Param("articleId") Long articleId);
+}
@@ -0,0 +1,90 @@
+package kuke.board.comment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+* 댓글 path 별 하위 댓글 수(답글 n개 더보기)
+* - 게시글 단위 Redis Hash, field = 댓글 path, value = 하위 댓글 수
+* */
+@Repository
+@RequiredArgsConstructor
+public class CommentDescendantCountRepository {
+    private final StringRedisTemplate redisTemplate;
+
+    // comment::article::{article_id}::descendant_count
+    private static final String KEY_FORMAT = "comment::article::%s::descendant_count";
+
+    /*
+    * 초기화(init)된 field만 증감
+    * 초기화되지 않은 field를 증감하면 기존 하위 댓글이 누락된 값이 되므로, 조회 시 초기화한다.
+    * */
+    private static final String INCREASE_IF_EXISTS_SCRIPT = """
+            if redis.call('hexists', KEYS[1], ARGV[1]) == 0 then
+                return nil
+            end
+            return redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2])
+            """;
+
+    /*
+    * path 별 증감(delta)을 pipeline으로 한번에 전송
+    * */
+    public void increase(Long articleId, Map<String, Long> deltaByPath) {
+        if (deltaByPath.isEmpty()) {
+            return;
+        }
+        String key = generateKey(articleId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            deltaByPath.forEach((path, delta) -> conn.eval(
+                    INCREASE_IF_EXISTS_SCRIPT, ReturnType.INTEGER, 1, key, path, String.valueOf(delta)
+            ));
+            return null;
+        });
+    }
+
+    /*
+    * 초기화되지 않은 path는 결과에 포함하지 않는다.
+    * */
+    public Map<String, Long> read(Long articleId, List<String> paths) {
+        Map<String, Long> result = new HashMap<>();
+        if (paths.isEmpty()) {
+            return result;
+        }
+        List<Object> values = redisTemplate.opsForHash().multiGet(generateKey(articleId), new ArrayList<>(paths));
+        for (int i = 0; i < paths.size(); i++) {
+            if (values.get(i) != null) {
+                result.put(paths.get(i), Long.valueOf((String) values.get(i)));
+            }
+        }
+        return result;
+    }
+
+    /*
+    * DB에서 집계한 하위 댓글 수로 초기화(이미 초기화되었다면 무시)
+    * */
+    public void init(Long articleId, Map<String, Long> countByPath) {
+        if (countByPath.isEmpty()) {
+            return;
+        }
+        String key = generateKey(articleId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            countByPath.forEach((path, count) -> conn.hSetNX(key, path, String.valueOf(count)));
+            return null;
+        });
+    }
+
+    private String generateKey(Long articleId) {
+        return KEY_FORMAT.formatted(articleId);
+    }
+}
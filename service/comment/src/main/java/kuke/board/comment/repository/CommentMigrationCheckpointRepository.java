@@ -0,0 +1,29 @@
+package kuke.board.comment.repository;
+
+import jakarta.persistence.LockModeType;
+import kuke.board.comment.entity.CommentMigrationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CommentMigrationCheckpointRepository extends JpaRepository<CommentMigrationCheckpoint, String> {
+    /*
+    * 이관 작업 : 진행 위치 비교/저장 구간 잠금(select for update)
+    * */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from CommentMigrationCheckpoint c where c.migrationName = :migrationName")
+    Optional<CommentMigrationCheckpoint> findLockedForUpdate(@Param("migrationName") String migrationName);
+
+    /*
+    * 이중 쓰기 : 진행 위치 공유 잠금(select for share)
+    * 이관 작업이 다음 게시글로 넘어가는 시점과 V1 댓글 생성이 겹치지 않도록 한다.
+    * */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select c from CommentMigrationCheckpoint c where c.migrationName = :migrationName")
+    Optional<CommentMigrationCheckpoint> findLockedForShare(@Param("migrationName") String migrationName);
+}
@@ -0,0 +1,70 @@
+package kuke.board.comment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/*
+* (게시글, 부모 path) 별 마지막으로 채번한 자식 chunk 값
+* Redis INCR로 원자적으로 증가하므로 동시에 같은 부모에 답글을 작성해도 같은 값을 받지 않는다.
+* */
+@Repository
+@RequiredArgsConstructor
+public class CommentPathSequenceRepository {
+    private final StringRedisTemplate redisTemplate;
+
+    // comment::article::{article_id}::path::{parent_path}::child_sequence
+    private static final String KEY_FORMAT = "comment::article::%s::path::%s::child_sequence";
+
+    /*
+    * key가 있을 때만 delta만큼 증가(+ TTL 연장)
+    * key가 없는데 INCR 하면 1부터 시작하므로, 초기화(init) 여부를 같이 확인해야 한다.
+    * */
+    private static final RedisScript<Long> INCREASE_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            """
+            if redis.call('exists', KEYS[1]) == 0 then
+                return nil
+            end
+            local value = redis.call('incrby', KEYS[1], ARGV[2])
+            redis.call('pexpire', KEYS[1], ARGV[1])
+            return value
+            """,
+            Long.class
+    );
+
+    public Optional<Long> increaseIfExists(Long articleId, String parentPath, Duration ttl) {
+        return increaseIfExists(articleId, parentPath, 1L, ttl);
+    }
+
+    /*
+    * @return 증가 후 값(delta개의 연속된 값 중 마지막)
+    * */
+    public Optional<Long> increaseIfExists(Long articleId, String parentPath, Long delta, Duration ttl) {
+        return Optional.ofNullable(
+                redisTemplate.execute(
+                        INCREASE_IF_EXISTS_SCRIPT,
+                        List.of(generateKey(articleId, parentPath)),
+                        String.valueOf(ttl.toMillis()),
+                        String.valueOf(delta)
+                )
+        );
+    }
+
+    /*
+    * DB에서 조회한 마지막 자식 chunk 값으로 초기화
+    * 이미 다른 요청이 초기화했다면 무시(set If Absent)
+    * */
+    public boolean init(Long articleId, String parentPath, Long value, Duration ttl) {
+        return redisTemplate.opsForValue().setIfAbsent(generateKey(articleId, parentPath), String.valueOf(value), ttl);
+    }
+
+    private String generateKey(Long articleId, String parentPath) {
+        return KEY_FORMAT.formatted(articleId, parentPath);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /*
 * 댓글 기능 구축을 위한 JPA Repository 생성
@@ -51,6 +52,32 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             @Param("limit") Long limit
     );
 
+    /*
+    * cursor(마지막으로 조회한 댓글) 이후 페이징
+    * offset 전체를 건너뛰지 않고 (parent_comment_id, comment_id) 기준으로 seek + 짧은 offset
+    * */
+    @Query(
+            value = "select comment.comment_id, comment.content, comment.parent_comment_id, comment.article_id, " +
+                    "comment.writer_id, comment.deleted, comment.created_at " +
+                    "from (" +
+                    "   select comment_id from comment " +
+                    "   where article_id = :articleId and (" +
+                    "       parent_comment_id > :lastParentCommentId or " +
+                    "       (parent_comment_id = :lastParentCommentId and comment_id > :lastCommentId) " +
+                    "   ) " +
+                    "   order by parent_comment_id asc, comment_id asc " +
+                    "   limit :limit offset :offset " +
+                    ") t left join comment on t.comment_id = comment.comment_id",
+            nativeQuery = true
+    )
+    List<Comment> findAll(
+            @Param("articleId") Long articleId,
+            @Param("lastParentCommentId") Long lastParentCommentId,
+            @Param("lastCommentId") Long lastCommentId,
+            @Param("offset") Long offset,
+            @Param("limit") Long limit
+    );
+
     /*
     * Covering Index를 활용하여
     * 조회 성능을 향상할 수 있는 방향으로 전체 댓글 수를 산출
@@ -104,4 +131,43 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             @Param("lastCommentId") Long lastCommentId,
             @Param("limit") Long limit
     );
+
+    /*
+    * V1 -> V2 이관 대상 다음 게시글
+    * */
+    @Query(
+            value = "select article_id from comment where article_id > :articleId order by article_id asc limit 1",
+            nativeQuery = true
+    )
+    Optional<Long> findNextArticleId(@Param("articleId") Long articleId);
+
+    /*
+    * V2(comment_v2)로 이관되지 않은 댓글(이관 중 생성된 댓글)
+    * */
+    @Query(
+            value = "select comment.comment_id, comment.content, comment.parent_comment_id, comment.article_id, " +
+                    "comment.writer_id, comment.deleted, comment.created_at " +
+                    "from comment left join comment_v2 on comment.comment_id = comment_v2.comment_id " +
+                    "where comment.article_id = :articleId and comment_v2.comment_id is null " +
+                    "order by comment.parent_comment_id asc, comment.comment_id asc",
+            nativeQuery = true
+    )
+    List<Comment> findAllNotMigrated(@Param("articleId") Long articleId);
+
+    /*
+    * 이관 batch 댓글 중 남아있는 댓글 / 삭제표시된 댓글
+    * 잠금 조회(for share)는 batch 조회 시점(snapshot)이 아닌 최신 커밋 값을 읽으므로,
+    * batch를 조회한 뒤 진행 위치를 잠그기 전까지 커밋된 삭제를 확인할 수 있다.
+    * */
+    @Query(
+            value = "select comment_id from comment where comment_id in (:commentIds) for share",
+            nativeQuery = true
+    )
+    List<Long> findExistingIdsForShare(@Param("commentIds") List<Long> commentIds);
+
+    @Query(
+            value = "select comment_id from comment where comment_id in (:commentIds) and deleted = true for share",
+            nativeQuery = true
+    )
+    List<Long> findDeletedIdsForShare(@Param("commentIds") List<Long> commentIds);
 }
@@ -1,13 +1,18 @@
 package kuke.board.comment.repository;
 
+import kuke.board.comment.entity.CommentPathKeyCodec;
 import kuke.board.comment.entity.CommentV2;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CommentRepositoryV2 extends JpaRepository<CommentV2, Long> {
@@ -18,26 +23,107 @@ public interface CommentRepositoryV2 extends JpaRepository<CommentV2, Long> {
     @Query("select c from CommentV2 c where c.commentPath.path = :path")
     Optional<CommentV2> findByPath(@Param("path") String path);
 
+    /*
+    * 여러 path의 댓글을 한번에 조회(조상 댓글 조회)
+    * */
+    @Query("select c from CommentV2 c where c.articleId = :articleId and c.commentPath.path in :paths")
+    List<CommentV2> findAllByPaths(
+            @Param("articleId") Long articleId,
+            @Param("paths") List<String> paths
+    );
+
+    /*
+    * topPath 하위 댓글 중 path 기준으로 바로 앞/뒤 댓글(excludedPaths 제외)
+    * path 정렬 상 가장 가까운 댓글이 공통 조상이 가장 깊으므로,
+    * 두 댓글만으로 삭제 대상 조상 중 다른 자식이 남아있는 가장 깊은 조상을 알 수 있다.
+    * */
+    default List<String> findNearestPaths(Long articleId, String topPath, String path, List<String> excludedPaths) {
+        return findNearestPathsByKey(
+                articleId,
+                CommentPathKeyCodec.encode(topPath),
+                CommentPathKeyCodec.upperBound(topPath),
+                CommentPathKeyCodec.encode(path),
+                excludedPaths
+        );
+    }
+
+    /*
+    * topKey <= path_key <= topUpperKey 범위에서 pathKey 바로 앞/뒤(idx_article_id_path_key range scan)
+    * path_key 순서 = path 순서
+    * */
+    @Query(
+            value = "(select path from comment_v2 " +
+                    "where article_id = :articleId and path_key >= :topKey and path_key < :pathKey and path not in (:excludedPaths) " +
+                    "order by path_key desc limit 1) " +
+                    "union all " +
+                    "(select path from comment_v2 " +
+                    "where article_id = :articleId and path_key > :pathKey and path_key <= :topUpperKey " +
+                    "order by path_key asc limit 1)",
+            nativeQuery = true
+    )
+    List<String> findNearestPathsByKey(
+            @Param("articleId") Long articleId,
+            @Param("topKey") byte[] topKey,
+            @Param("topUpperKey") byte[] topUpperKey,
+            @Param("pathKey") byte[] pathKey,
+            @Param("excludedPaths") List<String> excludedPaths
+    );
+
     /*
     * 댓글 생성 시 path 추출을 위한 최근자식댓글 추출
-    * path > pathPrefix (*본인댓글 제외)
+    * (*본인댓글 제외)
+    * */
+    default Optional<String> findDescendantsTopPath(Long articleId, String pathPrefix) {
+        return findDescendantsTopPathByKey(
+                articleId, CommentPathKeyCodec.encode(pathPrefix), CommentPathKeyCodec.upperBound(pathPrefix)
+        );
+    }
+
+    /*
+    * 최근자식댓글 추출(path_key 범위 조회)
+    * pathKey < path_key <= upperKey (*본인댓글 제외), like 없이 idx_article_id_path_key range scan
     * */
     @Query(
             value = "select path from comment_v2 " +
-                    "where article_id = :articleId and path > :pathPrefix and path like :pathPrefix% " +
-                    "order by path desc limit 1",
+                    "where article_id = :articleId and path_key > :pathKey and path_key <= :upperKey " +
+                    "order by path_key desc limit 1",
+            nativeQuery = true
+    )
+    Optional<String> findDescendantsTopPathByKey(
+            @Param("articleId") Long articleId,
+            @Param("pathKey") byte[] pathKey,
+            @Param("upperKey") byte[] upperKey
+    );
+
+    /*
+    * 하위 댓글 수(본인댓글 제외)
+    * 하위 댓글 수 캐시(Redis) 초기화 시에만 사용
+    * */
+    default Long countDescendants(Long articleId, String pathPrefix) {
+        return countDescendantsByKey(
+                articleId, CommentPathKeyCodec.encode(pathPrefix), CommentPathKeyCodec.upperBound(pathPrefix)
+        );
+    }
+
+    /*
+    * 하위 댓글 수(path_key 범위 조회, 본인댓글 제외)
+    * */
+    @Query(
+            value = "select count(*) from comment_v2 " +
+                    "where article_id = :articleId and path_key > :pathKey and path_key <= :upperKey",
             nativeQuery = true
     )
-    Optional<String> findDescendantsTopPath(
+    Long countDescendantsByKey(
             @Param("articleId") Long articleId,
-            @Param("pathPrefix") String pathPrefix
+            @Param("pathKey") byte[] pathKey,
+            @Param("upperKey") byte[] upperKey
     );
 
     /*
     * 게시판 댓글 모두 조회
     * */
     @Query(
-            value = "select comment_v2.comment_id, comment_v2.content, comment_v2.path, comment_v2.article_id, " +
+            value = "select comment_v2.comment_id, comment_v2.content, comment_v2.path, comment_v2.path_key, comment_v2.article_id, " +
                     "comment_v2.writer_id, comment_v2.deleted, comment_v2.created_at " +
                     "from (" +
                     "   select comment_id from comment_v2 where article_id = :articleId " +
@@ -52,6 +138,27 @@ public interface CommentRepositoryV2 extends JpaRepository<CommentV2, Long> {
             @Param("limit") Long limit
     );
 
+    /*
+    * cursor(마지막으로 조회한 path) 이후 페이징
+    * offset 전체를 건너뛰지 않고 path 기준으로 seek + 짧은 offset
+    * */
+    @Query(
+            value = "select comment_v2.comment_id, comment_v2.content, comment_v2.path, comment_v2.path_key, comment_v2.article_id, " +
+                    "comment_v2.writer_id, comment_v2.deleted, comment_v2.created_at " +
+                    "from (" +
+                    "   select comment_id from comment_v2 where article_id = :articleId and path > :lastPath " +
+                    "   order by path asc " +
+                    "   limit :limit offset :offset " +
+                    ") t left join comment_v2 on t.comment_id = comment_v2.comment_id",
+            nativeQuery = true
+    )
+    List<CommentV2> findAll(
+            @Param("articleId") Long articleId,
+            @Param("lastPath") String lastPath,
+            @Param("offset") Long offset,
+            @Param("limit") Long limit
+    );
+
     /*
     * 댓글 목록 조회
     * - 페이징
@@ -72,7 +179,7 @@ public interface CommentRepositoryV2 extends JpaRepository<CommentV2, Long> {
     * - 무한스크롤(첫페이지)
     * */
     @Query(
-            value = "select comment_v2.comment_id, comment_v2.content, comment_v2.path, comment_v2.article_id, " +
+            value = "select comment_v2.comment_id, comment_v2.content, comment_v2.path, comment_v2.path_key, comment_v2.article_id, " +
                     "comment_v2.writer_id, comment_v2.deleted, comment_v2.created_at " +
                     "from comment_v2 " +
                     "where article_id = :articleId " +
@@ -90,7 +197,7 @@ public interface CommentRepositoryV2 extends JpaRepository<CommentV2, Long> {
      * - 무한스크롤(첫페이지 이후)
      * */
     @Query(
-            value = "select comment_v2.comment_id, comment_v2.content, comment_v2.path, comment_v2.article_id, " +
+            value = "select comment_v2.comment_id, comment_v2.content, comment_v2.path, comment_v2.path_key, comment_v2.article_id, " +
                     "comment_v2.writer_id, comment_v2.deleted, comment_v2.created_at " +
                     "from comment_v2 " +
                     "where article_id = :articleId and path > :lastPath " +
@@ -103,4 +210,35 @@ public interface CommentRepositoryV2 extends JpaRepository<CommentV2, Long> {
             @Param("lastPath") String lastPath,
             @Param("limit") Long limit
     );
+
+    /*
+     * 댓글 트리(root 댓글 + 하위 댓글) 조회
+     * - idx_article_id_path_key 하나의 range scan(rootKey <= path_key <= upperKey)으로 path 순서(= 트리 전위순회 순서)대로 조회
+     * - maxPathLength로 depth 제한
+     * - fetch size = Integer.MIN_VALUE : MySQL driver가 결과를 한번에 메모리에 올리지 않고 row 단위로 전달(streaming)
+     * */
+    default Stream<CommentV2> streamTree(Long articleId, String rootPath, Integer maxPathLength, Long limit) {
+        return streamTreeByKey(
+                articleId, CommentPathKeyCodec.encode(rootPath), CommentPathKeyCodec.upperBound(rootPath), maxPathLength, limit
+        );
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query(
+            value = "select comment_v2.comment_id, comment_v2.content, comment_v2.path, comment_v2.path_key, comment_v2.article_id, " +
+                    "comment_v2.writer_id, comment_v2.deleted, comment_v2.created_at " +
+                    "from comment_v2 " +
+                    "where article_id = :articleId and path_key >= :rootKey and path_key <= :upperKey " +
+                    "and length(path) <= :maxPathLength " +
+                    "order by path_key asc " +
+                    "limit :limit",
+            nativeQuery = true
+    )
+    Stream<CommentV2> streamTreeByKey(
+            @Param("articleId") Long articleId,
+            @Param("rootKey") byte[] rootKey,
+            @Param("upperKey") byte[] upperKey,
+            @Param("maxPathLength") Integer maxPathLength,
+            @Param("limit") Long limit
+    );
 }
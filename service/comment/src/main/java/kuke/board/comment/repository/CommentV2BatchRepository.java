@@ -0,0 +1,114 @@
+package kuke.board.comment.repository;
+
+import kuke.board.comment.entity.CommentPathKeyCodec;
+import kuke.board.comment.entity.CommentV2;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+* V1 -> V2 이관을 위한 JDBC batch insert
+* - 이관 댓글은 id가 이미 할당되어 있으므로 JPA save(merge) 대신 JDBC 사용
+* - insert ignore : 이미 이관된 댓글(재시작, 이중 쓰기)은 무시
+* - rewriteBatchedStatements=true 설정 시 MySQL 드라이버가 multi-row insert로 재작성한다.
+* - path_key 컬럼 추가 전 생성된 댓글의 path_key 채우기(CommentPathKeyBackfill)
+* */
+@Repository
+@RequiredArgsConstructor
+public class CommentV2BatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int BATCH_SIZE = 500;
+
+    /*
+    * @return insert 여부(이미 이관된 댓글이면 false)
+    * */
+    public boolean insertIgnore(CommentV2 comment) {
+        return jdbcTemplate.update(
+                "insert ignore into comment_v2(comment_id, content, article_id, writer_id, path, path_key, deleted, created_at) " +
+                        "values (?, ?, ?, ?, ?, ?, ?, ?)",
+                comment.getCommentId(),
+                comment.getContent(),
+                comment.getArticleId(),
+                comment.getWriterId(),
+                comment.getCommentPath().getPath(),
+                comment.getCommentPath().getPathKey(),
+                comment.getDeleted(),
+                Timestamp.valueOf(comment.getCreatedAt())
+        ) == 1;
+    }
+
+    public void insertIgnoreAll(List<CommentV2> comments) {
+        jdbcTemplate.batchUpdate(
+                "insert ignore into comment_v2(comment_id, content, article_id, writer_id, path, path_key, deleted, created_at) " +
+                        "values (?, ?, ?, ?, ?, ?, ?, ?)",
+                comments,
+                BATCH_SIZE,
+                (ps, comment) -> {
+                    ps.setLong(1, comment.getCommentId());
+                    ps.setString(2, comment.getContent());
+                    ps.setLong(3, comment.getArticleId());
+                    ps.setLong(4, comment.getWriterId());
+                    ps.setString(5, comment.getCommentPath().getPath());
+                    ps.setBytes(6, comment.getCommentPath().getPathKey());
+                    ps.setBoolean(7, comment.getDeleted());
+                    ps.setTimestamp(8, Timestamp.valueOf(comment.getCreatedAt()));
+                }
+        );
+    }
+
+    /*
+    * 이관 후 V1에서 삭제된 댓글 반영
+    * */
+    public void deleteAll(List<Long> commentIds) {
+        jdbcTemplate.batchUpdate(
+                "delete from comment_v2 where comment_id = ?",
+                commentIds,
+                BATCH_SIZE,
+                (ps, commentId) -> ps.setLong(1, commentId)
+        );
+    }
+
+    public void markDeletedAll(List<Long> commentIds) {
+        jdbcTemplate.batchUpdate(
+                "update comment_v2 set deleted = true where comment_id = ?",
+                commentIds,
+                BATCH_SIZE,
+                (ps, commentId) -> ps.setLong(1, commentId)
+        );
+    }
+
+    /*
+    * path_key가 채워지지 않은 댓글(comment_id 순서, PK range scan)
+    * @return comment_id -> path
+    * */
+    public Map<Long, String> findPathsWithoutPathKey(Long lastCommentId, int limit) {
+        Map<Long, String> paths = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "select comment_id, path from comment_v2 where comment_id > ? and path_key is null " +
+                        "order by comment_id asc limit ?",
+                rs -> {
+                    paths.put(rs.getLong("comment_id"), rs.getString("path"));
+                },
+                lastCommentId, limit
+        );
+        return paths;
+    }
+
+    public void updatePathKeys(Map<Long, String> paths) {
+        jdbcTemplate.batchUpdate(
+                "update comment_v2 set path_key = ? where comment_id = ?",
+                List.copyOf(paths.entrySet()),
+                BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setBytes(1, CommentPathKeyCodec.encode(entry.getValue()));
+                    ps.setLong(2, entry.getKey());
+                }
+        );
+    }
+}
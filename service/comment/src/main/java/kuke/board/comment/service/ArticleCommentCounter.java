@@ -0,0 +1,215 @@
+package kuke.board.comment.service;
+
+import jakarta.annotation.PreDestroy;
+import kuke.board.comment.entity.ArticleCommentCount;
+import kuke.board.comment.repository.ArticleCommentCountRepository;
+import kuke.board.comment.repository.ArticleCommentCountStripeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/*
+* 게시글 댓글 수 처리
+* - stripe-count = 0 : 기존 방식, article_comment_count 단일 row update(게시글 단위 row lock)
+* - stripe-count > 0 : article_comment_count_stripe의 N개 row 중 임의의 row update
+*   조회 시 합산(기존 article_comment_count 값 포함)한 값을 기준으로 메모리에서 증감을 누적하고, cache-ttl-millis 마다 다시 합산
+*   -> 이벤트 payload의 댓글 수를 매번 select 하지 않고 누적값으로 발행
+* - coalesce = true(stripe 모드) : 증감을 메모리에 모아두었다가 flush 주기마다 게시글별 1회 update
+*   (flush 이전 장애 시 모아둔 증감은 유실될 수 있으므로 댓글 수 정확성이 덜 중요한 경우에만 사용)
+* - 호출하는 쪽의 트랜잭션이 롤백되면 누적값의 증감도 되돌리고, coalesce 증감은 커밋된 경우에만 모아둔다.
+* */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleCommentCounter {
+    private final ArticleCommentCountRepository articleCommentCountRepository;
+    private final ArticleCommentCountStripeRepository articleCommentCountStripeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${article-comment-count.stripe-count:0}")
+    private int stripeCount;
+    @Value("${article-comment-count.coalesce:false}")
+    private boolean coalesce;
+    @Value("${article-comment-count.cache-ttl-millis:1000}")
+    private long cacheTtlMillis;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<Long, RunningCount> runningCounts = new ConcurrentHashMap<>();
+
+    /*
+    * 합산 시점의 댓글 수 + 이후 이 인스턴스에서 발생한 증감
+    * (다른 인스턴스의 증감은 만료 후 다시 합산할 때 반영되는 근사값)
+    * */
+    private record RunningCount(AtomicLong count, long expiredAt) {
+    }
+
+    /*
+    * 호출하는 쪽의 트랜잭션 안에서 수행(coalesce 모드 제외)
+    * @return 증가 후 댓글 수(이벤트 발행용)
+    * */
+    public Long increase(Long articleId) {
+        if (!isStriped()) {
+            int result = articleCommentCountRepository.increase(articleId);
+            if (result == 0) {
+                articleCommentCountRepository.save(
+                        ArticleCommentCount.init(articleId, 1L)
+                );
+            }
+            return readExact(articleId);
+        }
+        return add(articleId, 1L);
+    }
+
+    /*
+    * 여러 댓글을 한번에 생성(V1 이관)할 때 한번에 증가
+    * @return 증가 후 댓글 수
+    * */
+    public Long increase(Long articleId, Long delta) {
+        if (!isStriped()) {
+            int result = articleCommentCountRepository.increase(articleId, delta);
+            if (result == 0) {
+                articleCommentCountRepository.save(
+                        ArticleCommentCount.init(articleId, delta)
+                );
+            }
+            return readExact(articleId);
+        }
+        return add(articleId, delta);
+    }
+
+    /*
+    * 여러 댓글을 한번에 물리적 삭제할 때 한번에 감소
+    * @return 감소 후 댓글 수(이벤트 발행용)
+    * */
+    public Long decrease(Long articleId, Long delta) {
+        if (!isStriped()) {
+            articleCommentCountRepository.decrease(articleId, delta);
+            return readExact(articleId);
+        }
+        return add(articleId, -delta);
+    }
+
+    /*
+    * 누적값을 먼저 확보(필요시 합산)한 뒤 반영해야 이번 증감이 두 번 더해지지 않는다.
+    * */
+    private Long add(Long articleId, Long delta) {
+        AtomicLong runningCount = runningCount(articleId);
+        if (!coalesce) {
+            articleCommentCountStripeRepository.add(articleId, selectStripe(), delta);
+        }
+        long count = runningCount.addAndGet(delta);
+        afterCompletion(committed -> {
+            if (!committed) {
+                runningCount.addAndGet(-delta);
+            } else if (coalesce) {
+                pending.computeIfAbsent(articleId, key -> new LongAdder()).add(delta);
+            }
+        });
+        return count;
+    }
+
+    /*
+    * 트랜잭션이 없으면 바로 커밋된 것으로 처리
+    * */
+    private void afterCompletion(Consumer<Boolean> callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private int selectStripe() {
+        return ThreadLocalRandom.current().nextInt(stripeCount);
+    }
+
+    /*
+    * 댓글 수 반환(stripe 모드에서는 누적값)
+    * */
+    public Long count(Long articleId) {
+        if (!isStriped()) {
+            return readExact(articleId);
+        }
+        return runningCount(articleId).get();
+    }
+
+    /*
+    * 만료된 경우 다시 합산, 게시글별로 한번만 합산하도록 compute 안에서 처리
+    * (check-then-put이면 동시에 합산한 누적값 중 하나의 증감이 유실된다)
+    * */
+    private AtomicLong runningCount(Long articleId) {
+        long now = System.currentTimeMillis();
+        return runningCounts.compute(articleId, (key, cached) -> cached != null && cached.expiredAt() > now ?
+                cached :
+                new RunningCount(new AtomicLong(sum(articleId)), now + cacheTtlMillis)
+        ).count();
+    }
+
+    /*
+    * DB 합계 + 아직 flush 되지 않은 증감
+    * */
+    private long sum(Long articleId) {
+        LongAdder adder = pending.get(articleId);
+        return articleCommentCountStripeRepository.sum(articleId) + (adder == null ? 0L : adder.sum());
+    }
+
+    private Long readExact(Long articleId) {
+        return articleCommentCountRepository.findById(articleId)
+                .map(ArticleCommentCount::getCommentCount)
+                .orElse(0L);
+    }
+
+    /*
+    * 모아둔 증감을 게시글별 1회 update로 반영
+    * */
+    @Scheduled(fixedDelayString = "${article-comment-count.flush-interval-millis:10}")
+    @PreDestroy
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((articleId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(articleId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        deltas.forEach((articleId, delta) -> {
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> articleCommentCountStripeRepository.add(articleId, selectStripe(), delta)
+                );
+            } catch (Exception e) {
+                /*
+                * 반영 실패 시 다음 flush에서 재시도
+                * */
+                log.error("[ArticleCommentCounter.flush] articleId={}, delta={}", articleId, delta, e);
+                pending.computeIfAbsent(articleId, key -> new LongAdder()).add(delta);
+            }
+        });
+    }
+
+    private boolean isStriped() {
+        return stripeCount > 0;
+    }
+}
@@ -0,0 +1,91 @@
+package kuke.board.comment.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+* 댓글 목록 조회 위치(마지막으로 조회한 댓글)
+* - V1 : (parent_comment_id, comment_id)
+* - V2 : path
+* 클라이언트에는 내부 값을 노출하지 않도록 base64(url) 문자열(token)로 전달한다.
+* */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentCursor {
+    private static final String V1_PREFIX = "1:";
+    private static final String V2_PREFIX = "2:";
+
+    private Long parentCommentId;
+    private Long commentId;
+    private String path;
+
+    public static CommentCursor of(Long parentCommentId, Long commentId) {
+        CommentCursor cursor = new CommentCursor();
+        cursor.parentCommentId = parentCommentId;
+        cursor.commentId = commentId;
+        return cursor;
+    }
+
+    public static CommentCursor of(String path) {
+        CommentCursor cursor = new CommentCursor();
+        cursor.path = path;
+        return cursor;
+    }
+
+    public String encode() {
+        String value = path == null ? V1_PREFIX + parentCommentId + ":" + commentId : V2_PREFIX + path;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (value.startsWith(V2_PREFIX)) {
+                return of(value.substring(V2_PREFIX.length()));
+            }
+            if (value.startsWith(V1_PREFIX)) {
+                String[] ids = value.substring(V1_PREFIX.length()).split(":");
+                return of(Long.valueOf(ids[0]), Long.valueOf(ids[1]));
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("invalid cursor. token=" + token, e);
+        }
+        throw new IllegalArgumentException("invalid cursor. token=" + token);
+    }
+
+    /*
+    * 요청으로 받은 cursor 검증
+    * 잘못된 token이거나 다른 버전(V1 <-> V2)의 cursor면 400
+    * */
+    public static CommentCursor decodeV1(String token) {
+        CommentCursor cursor = decodeRequest(token);
+        if (cursor.path != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "not a v1 cursor. token=" + token);
+        }
+        return cursor;
+    }
+
+    public static CommentCursor decodeV2(String token) {
+        CommentCursor cursor = decodeRequest(token);
+        if (cursor.path == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "not a v2 cursor. token=" + token);
+        }
+        return cursor;
+    }
+
+    private static CommentCursor decodeRequest(String token) {
+        try {
+            return decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
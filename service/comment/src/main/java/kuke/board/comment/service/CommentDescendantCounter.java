@@ -0,0 +1,126 @@
+package kuke.board.comment.service;
+
+import kuke.board.comment.entity.CommentV2;
+import kuke.board.comment.repository.CommentDescendantCountRepository;
+import kuke.board.comment.repository.CommentRepositoryV2;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+* 댓글별 하위 댓글 수 관리
+* - 댓글 생성/물리적 삭제 커밋 후 모든 조상 path의 하위 댓글 수를 증감(Redis Hash, pipeline)
+* - 삭제표시(soft delete)된 댓글은 목록에 남아있으므로 하위 댓글 수에 포함한다.
+* - 조회 시 초기화되지 않은 path(기존 데이터)만 DB에서 1회 집계하여 초기화
+*   초기화 도중 생성/삭제된 댓글은 반영되지 않을 수 있다(표시용 수치).
+* */
+@Component
+@RequiredArgsConstructor
+public class CommentDescendantCounter {
+    private final CommentRepositoryV2 commentRepository;
+    private final CommentDescendantCountRepository commentDescendantCountRepository;
+
+    /*
+    * 생성된 댓글의 모든 조상 +1, 생성된 댓글은 0으로 초기화
+    * */
+    public void increase(CommentV2 comment) {
+        Map<String, Long> deltaByPath = new LinkedHashMap<>();
+        for (String ancestorPath : comment.getCommentPath().getAncestorPaths()) {
+            deltaByPath.put(ancestorPath, 1L);
+        }
+        afterCommit(() -> {
+            commentDescendantCountRepository.increase(comment.getArticleId(), deltaByPath);
+            commentDescendantCountRepository.init(comment.getArticleId(), Map.of(comment.getCommentPath().getPath(), 0L));
+        });
+    }
+
+    /*
+    * 여러 댓글 생성(V1 이관) 시 조상 path 별 증감을 합쳐서 한번에 반영
+    * - 같이 생성된 댓글의 path는 그 안의 하위 댓글 수로 초기화((parent_comment_id, comment_id) 순서로 부모가 먼저 생성)
+    * - 이미 이관되어 초기화된 부모 path는 증가
+    * */
+    public void increaseAll(Long articleId, List<CommentV2> comments) {
+        Map<String, Long> initialized = new LinkedHashMap<>();
+        for (CommentV2 comment : comments) {
+            initialized.put(comment.getCommentPath().getPath(), 0L);
+        }
+        Map<String, Long> deltaByPath = new LinkedHashMap<>();
+        for (CommentV2 comment : comments) {
+            for (String ancestorPath : comment.getCommentPath().getAncestorPaths()) {
+                if (initialized.containsKey(ancestorPath)) {
+                    initialized.merge(ancestorPath, 1L, Long::sum);
+                } else {
+                    deltaByPath.merge(ancestorPath, 1L, Long::sum);
+                }
+            }
+        }
+        afterCommit(() -> {
+            commentDescendantCountRepository.increase(articleId, deltaByPath);
+            commentDescendantCountRepository.init(articleId, initialized);
+        });
+    }
+
+    /*
+    * comment와 함께 삭제된 가까운 조상 (removedCount - 1)개를 포함하여 감소
+    * 각 조상은 자신보다 깊은 삭제 댓글 수만큼 감소한다.
+    * */
+    public void decrease(CommentV2 comment, int removedCount) {
+        Map<String, Long> deltaByPath = new LinkedHashMap<>();
+        List<String> ancestorPaths = comment.getCommentPath().getAncestorPaths();
+        for (int i = 0; i < ancestorPaths.size(); i++) {
+            deltaByPath.put(ancestorPaths.get(i), -(1L + Math.min(i, removedCount - 1)));
+        }
+        afterCommit(() -> commentDescendantCountRepository.increase(comment.getArticleId(), deltaByPath));
+    }
+
+    /*
+    * path -> 하위 댓글 수
+    * */
+    public Map<String, Long> read(Long articleId, List<CommentV2> comments) {
+        List<String> paths = comments.stream()
+                .map(comment -> comment.getCommentPath().getPath())
+                .toList();
+        Map<String, Long> result = commentDescendantCountRepository.read(articleId, paths);
+
+        Map<String, Long> initialized = new HashMap<>();
+        for (String path : paths) {
+            if (!result.containsKey(path)) {
+                initialized.put(path, commentRepository.countDescendants(articleId, path));
+            }
+        }
+        commentDescendantCountRepository.init(articleId, initialized);
+        result.putAll(initialized);
+        return result;
+    }
+
+    /*
+    * 호출하는 쪽 트랜잭션의 connection이 streaming 조회 중일 때(readTree) 사용
+    * streaming 결과를 모두 읽기 전에는 같은 connection으로 다른 쿼리를 실행할 수 없으므로
+    * 초기화 집계는 별도 트랜잭션(connection)에서 수행한다.
+    * */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<String, Long> readInNewTransaction(Long articleId, List<CommentV2> comments) {
+        return read(articleId, comments);
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
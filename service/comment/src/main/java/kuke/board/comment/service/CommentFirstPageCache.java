@@ -0,0 +1,267 @@
+package kuke.board.comment.service;
+
+import kuke.board.comment.entity.CommentV2;
+import kuke.board.comment.service.response.CommentResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/*
+* 게시글별 댓글 첫 페이지(무한 스크롤 lastPath == null) JVM 내부 캐시
+* - path 순서대로 최대 page-size개의 CommentResponse 보관, 요청 pageSize만큼 앞에서부터 반환
+* - 생성/삭제 커밋 후 캐시를 버리지 않고 직접 반영
+*   생성 : 캐시된 범위 안(마지막 path보다 앞, 또는 게시글의 전체 댓글이 캐시된 경우)이면 순서에 맞게 추가, 조상 댓글의 하위 댓글 수 +1
+*   삭제표시 : 해당 댓글 교체
+*   물리적 삭제 : 함께 삭제된 조상 댓글까지 제거, 남은 조상 댓글의 하위 댓글 수 감소
+*   생성 댓글이 이미 캐시에 있으면(커밋 후 다시 조회된 경우) 반영하지 않고,
+*   변경 이후 조회된 캐시는 이미 반영되었는지 알 수 없으므로 제거한다.
+* - 이 캐시를 거치지 않은 변경(다른 인스턴스, V1 이관)은 ttl-millis 이후 다시 조회하여 반영
+* - 개수 기반 LRU(max-size), hit/miss 횟수 집계
+* */
+@Component
+public class CommentFirstPageCache {
+    private final int pageSize;
+    private final long ttlMillis;
+    private final Map<Long, FirstPage> cache;
+    /*
+    * 원본 조회 도중 해당 게시글에 생성/삭제가 반영되면, 조회한 (이전)데이터는 캐시에 저장하지 않는다.
+    * */
+    private final Map<Long, Object> loadingTokens = new HashMap<>();
+    private long loadSequence;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /*
+    * complete : 게시글의 전체 댓글이 캐시되어 있음(댓글 수 < page-size)
+    * loadSequence : 캐시에 저장된 순서(원본 조회가 끝난 순서)
+    * */
+    private record FirstPage(List<CommentResponse> comments, boolean complete, long loadSequence, long expiredAt) {
+        private String lastPath() {
+            return comments.isEmpty() ? null : comments.getLast().getPath();
+        }
+
+        /*
+        * path 순서로 정렬되어 있으므로 이분 탐색, 없으면 -(삽입 위치) - 1
+        * */
+        private int indexOf(String path) {
+            int low = 0;
+            int high = comments.size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int compared = comments.get(mid).getPath().compareTo(path);
+                if (compared < 0) {
+                    low = mid + 1;
+                } else if (compared > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+
+    public CommentFirstPageCache(
+            @Value("${comment-first-page-cache.max-size:10000}") int maxSize,
+            @Value("${comment-first-page-cache.page-size:50}") int pageSize,
+            @Value("${comment-first-page-cache.ttl-millis:5000}") long ttlMillis
+    ) {
+        this.pageSize = pageSize;
+        this.ttlMillis = ttlMillis;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, FirstPage> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /*
+    * 캐시에 없을 경우 originDataLoader(limit)로 원본 데이터 조회 후 저장
+    * 캐시 크기보다 큰 pageSize는 캐시하지 않고 바로 조회
+    * */
+    public List<CommentResponse> getOrLoad(Long articleId, Long requestPageSize, Function<Long, List<CommentResponse>> originDataLoader) {
+        if (requestPageSize > pageSize) {
+            missCount.increment();
+            return originDataLoader.apply(requestPageSize);
+        }
+
+        long now = System.currentTimeMillis();
+        Object token = new Object();
+        synchronized (cache) {
+            FirstPage cached = cache.get(articleId);
+            if (cached != null && cached.expiredAt() > now &&
+                    (cached.complete() || cached.comments().size() >= requestPageSize)) {
+                hitCount.increment();
+                return head(cached.comments(), requestPageSize);
+            }
+            loadingTokens.put(articleId, token);
+        }
+        missCount.increment();
+
+        List<CommentResponse> comments = originDataLoader.apply((long) pageSize);
+        synchronized (cache) {
+            if (loadingTokens.remove(articleId, token)) {
+                cache.put(articleId, new FirstPage(
+                        List.copyOf(comments), comments.size() < pageSize, ++loadSequence, now + ttlMillis
+                ));
+            }
+        }
+        return head(comments, requestPageSize);
+    }
+
+    private List<CommentResponse> head(List<CommentResponse> comments, Long requestPageSize) {
+        return comments.subList(0, (int) Math.min(comments.size(), requestPageSize));
+    }
+
+    /*
+    * 생성된 댓글 반영(커밋 후)
+    * 이미 캐시에 있으면 커밋 후 조회된 데이터이므로 하위 댓글 수까지 반영되어 있다.
+    * */
+    public void create(CommentV2 comment) {
+        CommentResponse created = CommentResponse.from(comment, 0L);
+        List<String> ancestorPaths = comment.getCommentPath().getAncestorPaths();
+        long changedSequence = currentLoadSequence();
+        afterCommit(() -> update(comment.getArticleId(), firstPage -> {
+            if (firstPage.indexOf(created.getPath()) >= 0) {
+                return firstPage;
+            }
+            if (firstPage.loadSequence() > changedSequence) {
+                return null;
+            }
+            List<CommentResponse> comments = new ArrayList<>(firstPage.comments());
+            for (String ancestorPath : ancestorPaths) {
+                addDescendantCount(firstPage, comments, ancestorPath, 1L);
+            }
+
+            boolean complete = firstPage.complete();
+            String lastPath = firstPage.lastPath();
+            if (complete || (lastPath != null && created.getPath().compareTo(lastPath) < 0)) {
+                comments.add(-firstPage.indexOf(created.getPath()) - 1, created);
+                if (comments.size() > pageSize) {
+                    comments.removeLast();
+                    complete = false;
+                }
+            }
+            return new FirstPage(List.copyOf(comments), complete, firstPage.loadSequence(), firstPage.expiredAt());
+        }));
+    }
+
+    /*
+    * 삭제표시된 댓글 반영(커밋 후)
+    * */
+    public void markDeleted(CommentV2 comment) {
+        String path = comment.getCommentPath().getPath();
+        afterCommit(() -> update(comment.getArticleId(), firstPage -> {
+            int index = firstPage.indexOf(path);
+            if (index < 0) {
+                return firstPage;
+            }
+            List<CommentResponse> comments = new ArrayList<>(firstPage.comments());
+            comments.set(index, CommentResponse.from(comment, comments.get(index).getDescendantCount()));
+            return new FirstPage(List.copyOf(comments), firstPage.complete(), firstPage.loadSequence(), firstPage.expiredAt());
+        }));
+    }
+
+    /*
+    * comment와 함께 물리적 삭제된 가까운 조상 (removedCount - 1)개 반영(커밋 후)
+    * 남은 조상은 자신보다 깊은 삭제 댓글 수만큼 감소한다.
+    * */
+    public void delete(CommentV2 comment, int removedCount) {
+        String path = comment.getCommentPath().getPath();
+        List<String> ancestorPaths = comment.getCommentPath().getAncestorPaths();
+        long changedSequence = currentLoadSequence();
+        afterCommit(() -> update(comment.getArticleId(), firstPage -> {
+            if (firstPage.loadSequence() > changedSequence) {
+                return null;
+            }
+            List<CommentResponse> comments = new ArrayList<>(firstPage.comments());
+            for (int i = 0; i < ancestorPaths.size(); i++) {
+                addDescendantCount(firstPage, comments, ancestorPaths.get(i), -(1L + Math.min(i, removedCount - 1)));
+            }
+
+            List<String> removedPaths = new ArrayList<>();
+            removedPaths.add(path);
+            removedPaths.addAll(ancestorPaths.subList(0, Math.min(removedCount - 1, ancestorPaths.size())));
+            comments.removeIf(response -> removedPaths.contains(response.getPath()));
+            return new FirstPage(List.copyOf(comments), firstPage.complete(), firstPage.loadSequence(), firstPage.expiredAt());
+        }));
+    }
+
+    private void addDescendantCount(FirstPage firstPage, List<CommentResponse> comments, String path, long delta) {
+        int index = firstPage.indexOf(path);
+        if (index >= 0) {
+            CommentResponse response = comments.get(index);
+            comments.set(index, CommentResponse.of(response, response.getDescendantCount() + delta));
+        }
+    }
+
+    private long currentLoadSequence() {
+        synchronized (cache) {
+            return loadSequence;
+        }
+    }
+
+    /*
+    * updater가 null을 반환하면 캐시 제거
+    * */
+    private void update(Long articleId, Function<FirstPage, FirstPage> updater) {
+        synchronized (cache) {
+            loadingTokens.remove(articleId);
+            FirstPage firstPage = cache.get(articleId);
+            if (firstPage == null) {
+                return;
+            }
+            FirstPage updated = updater.apply(firstPage);
+            if (updated == null) {
+                cache.remove(articleId);
+            } else {
+                cache.put(articleId, updated);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    public void evict(Long articleId) {
+        synchronized (cache) {
+            loadingTokens.remove(articleId);
+            cache.remove(articleId);
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+}
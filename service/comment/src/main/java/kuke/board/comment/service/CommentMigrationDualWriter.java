@@ -0,0 +1,87 @@
+package kuke.board.comment.service;
+
+import kuke.board.comment.entity.Comment;
+import kuke.board.comment.entity.CommentPath;
+import kuke.board.comment.entity.CommentV2;
+import kuke.board.comment.repository.CommentMigrationCheckpointRepository;
+import kuke.board.comment.repository.CommentRepositoryV2;
+import kuke.board.comment.repository.CommentV2BatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+* V1 -> V2 이관 기간 동안 V1 댓글 변경을 V2에도 반영(이중 쓰기)
+* - 이관된 댓글만 반영 : 이관이 끝난 게시글, 또는 이관중인 게시글에서 (parent_comment_id, comment_id)가 진행 위치 이하
+*   (진행 위치 이후의 댓글은 이관 작업이 현재 상태(삭제표시 포함)로 이관한다.)
+* - V1 댓글 생성/삭제 트랜잭션 안에서 진행 위치를 공유 잠금으로 조회하므로,
+*   진행 위치를 갱신하는 구간(이관 작업 batch의 진행 위치 비교/저장, catch up)과 겹치지 않는다.
+*   이관 작업은 batch insert 이후에만 진행 위치를 잠그므로 batch 처리 동안에는 기다리지 않는다.
+* - V2 하위 댓글 수(CommentDescendantCounter), 게시글 댓글 수(ArticleCommentCounter)도 함께 증감
+* */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentMigrationDualWriter {
+    private final CommentRepositoryV2 commentRepositoryV2;
+    private final CommentV2BatchRepository commentV2BatchRepository;
+    private final CommentMigrationCheckpointRepository commentMigrationCheckpointRepository;
+    private final CommentPathAllocator commentPathAllocator;
+    private final CommentDescendantCounter commentDescendantCounter;
+    private final ArticleCommentCounter articleCommentCounter;
+
+    @Value("${comment-migration.dual-write-enabled:false}")
+    private boolean enabled;
+
+    public void create(Comment comment) {
+        if (!isMigrated(comment)) {
+            return;
+        }
+        CommentPath parentPath = comment.isRoot() ?
+                CommentPath.create("") :
+                commentRepositoryV2.findById(comment.getParentCommentId())
+                        .map(CommentV2::getCommentPath)
+                        .orElse(null);
+        if (parentPath == null) {
+            log.warn("[CommentMigrationDualWriter.create] parent comment not migrated. commentId={}", comment.getCommentId());
+            return;
+        }
+        CommentV2 migrated = CommentV2.migrate(comment, commentPathAllocator.allocate(comment.getArticleId(), parentPath));
+        if (commentV2BatchRepository.insertIgnore(migrated)) {
+            commentDescendantCounter.increase(migrated);
+            articleCommentCounter.increase(migrated.getArticleId());
+        }
+    }
+
+    /*
+    * 삭제표시(soft delete)
+    * */
+    public void markDeleted(Comment comment) {
+        if (!isMigrated(comment)) {
+            return;
+        }
+        commentRepositoryV2.findById(comment.getCommentId()).ifPresent(CommentV2::delete);
+    }
+
+    /*
+    * 물리적 삭제
+    * V1은 댓글 단위로 삭제(부모 삭제는 별도 호출)하므로 조상의 하위 댓글 수는 1씩 감소
+    * */
+    public void delete(Comment comment) {
+        if (!isMigrated(comment)) {
+            return;
+        }
+        commentRepositoryV2.findById(comment.getCommentId()).ifPresent(migrated -> {
+            commentRepositoryV2.delete(migrated);
+            commentDescendantCounter.decrease(migrated, 1);
+            articleCommentCounter.decrease(migrated.getArticleId(), 1L);
+        });
+    }
+
+    private boolean isMigrated(Comment comment) {
+        return enabled && commentMigrationCheckpointRepository.findLockedForShare(CommentMigrator.MIGRATION_NAME)
+                .map(checkpoint -> checkpoint.isMigrated(comment.getArticleId(), comment.getParentCommentId(), comment.getCommentId()))
+                .orElse(false);
+    }
+}
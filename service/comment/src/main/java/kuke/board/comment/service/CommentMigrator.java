@@ -0,0 +1,337 @@
+package kuke.board.comment.service;
+
+import jakarta.annotation.PreDestroy;
+import kuke.board.comment.entity.Comment;
+import kuke.board.comment.entity.CommentMigrationCheckpoint;
+import kuke.board.comment.entity.CommentPath;
+import kuke.board.comment.entity.CommentV2;
+import kuke.board.comment.repository.CommentMigrationCheckpointRepository;
+import kuke.board.comment.repository.CommentRepository;
+import kuke.board.comment.repository.CommentRepositoryV2;
+import kuke.board.comment.repository.CommentV2BatchRepository;
+import kuke.board.comment.service.response.CommentMigrationStatusResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/*
+* V1(comment, 인접 리스트) -> V2(comment_v2, 경로 열거) 온라인 이관
+* - 게시글 단위로 (parent_comment_id, comment_id) 순서(idx_article_id_parent_comment_id_comment_id)로 batchSize개씩 조회
+* - path는 메모리에서 할당 : root 댓글/부모 댓글별 sequence(CommentPathAllocator)에서 batch 단위로 한번에 채번
+*   (V2 API로 동시에 생성되는 댓글과 path가 겹치지 않는다)
+* - comment_v2 batch insert와 진행 위치(checkpoint) 저장을 하나의 트랜잭션으로 처리하여 중단 후 이어서 진행
+*   진행 위치 이하의 댓글 변경은 CommentMigrationDualWriter가 이중 쓰기(진행 위치 공유 잠금)
+* - 진행 위치 잠금(select for update)은 batch insert 이후 진행 위치 비교/저장 구간에만 잡는다.
+*   (V1 댓글 변경이 batch 전체를 기다리지 않도록)
+*   잠금 이후 batch 댓글의 최신 상태를 잠금 조회하여 batch 조회 이후 커밋된 삭제/삭제표시를 V2에 반영하고,
+*   batch 조회 이후 생성된 댓글은 게시글 이관이 끝날 때 catch up으로 이관한다.
+* - 게시글 이관이 끝나면 별도 트랜잭션에서 진행 위치를 먼저 잠근 뒤 누락된 V1 댓글을 한번 더 이관(catch up)
+* - 이관한 댓글 수만큼 V2 하위 댓글 수(CommentDescendantCounter)와 게시글 댓글 수(ArticleCommentCounter) 증가
+* - rows-per-second 예산만큼만 처리하도록 batch 사이에 대기
+* */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentMigrator {
+    public static final String MIGRATION_NAME = "comment-v1-to-v2";
+
+    private final CommentRepository commentRepository;
+    private final CommentRepositoryV2 commentRepositoryV2;
+    private final CommentV2BatchRepository commentV2BatchRepository;
+    private final CommentMigrationCheckpointRepository commentMigrationCheckpointRepository;
+    private final CommentPathAllocator commentPathAllocator;
+    private final CommentDescendantCounter commentDescendantCounter;
+    private final ArticleCommentCounter articleCommentCounter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${comment-migration.batch-size:1000}")
+    private long batchSize;
+    @Getter
+    @Value("${comment-migration.rows-per-second:5000}")
+    private long rowsPerSecond;
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /*
+    * 이번 실행 기준 지표
+    * */
+    private final LongAdder migratedCount = new LongAdder();
+    private final LongAdder caughtUpCount = new LongAdder();
+    private volatile long startedAtMillis;
+    private volatile long elapsedMillis;
+    @Getter
+    private volatile Long currentArticleId;
+    @Getter
+    private volatile String lastError;
+    private long nextAllowedNanos;
+
+    /*
+    * articleFinished : 진행중인 게시글에 더 이관할 댓글이 없음(다음 게시글로 이동 필요)
+    * */
+    private record BatchResult(int migratedCount, boolean articleFinished) {
+    }
+
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executorService.submit(this::run);
+        return true;
+    }
+
+    public void stop() {
+        running.set(false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop();
+        executorService.shutdown();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    void run() {
+        migratedCount.reset();
+        caughtUpCount.reset();
+        startedAtMillis = System.currentTimeMillis();
+        nextAllowedNanos = System.nanoTime();
+        lastError = null;
+        try {
+            while (running.get()) {
+                CommentMigrationCheckpoint expected = readCheckpoint();
+                if (expected.getCompleted()) {
+                    break;
+                }
+                BatchResult result = transactionTemplate.execute(status -> migrateBatch(status, expected));
+                if (result.articleFinished()) {
+                    transactionTemplate.executeWithoutResult(status -> nextArticle(status, expected));
+                }
+                elapsedMillis = System.currentTimeMillis() - startedAtMillis;
+                throttle(result.migratedCount());
+            }
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            log.error("[CommentMigrator.run] articleId={}", currentArticleId, e);
+        } finally {
+            elapsedMillis = System.currentTimeMillis() - startedAtMillis;
+            running.set(false);
+        }
+    }
+
+    /*
+    * 트랜잭션 밖에서 조회(batch 트랜잭션에서 잠금 조회한 진행 위치와 비교)
+    * */
+    private CommentMigrationCheckpoint readCheckpoint() {
+        return commentMigrationCheckpointRepository.findById(MIGRATION_NAME)
+                .orElseGet(() -> commentMigrationCheckpointRepository.save(CommentMigrationCheckpoint.init(MIGRATION_NAME)));
+    }
+
+    private BatchResult migrateBatch(TransactionStatus status, CommentMigrationCheckpoint expected) {
+        Long articleId = expected.getArticleId();
+        if (articleId == null) {
+            return new BatchResult(0, true);
+        }
+        currentArticleId = articleId;
+        List<Comment> comments = expected.getCommentId() == null ?
+                commentRepository.findAllInfiniteScroll(articleId, batchSize) :
+                commentRepository.findAllInfiniteScroll(articleId, expected.getParentCommentId(), expected.getCommentId(), batchSize);
+        if (comments.isEmpty()) {
+            return new BatchResult(0, true);
+        }
+
+        List<CommentV2> migrated = assignPaths(articleId, comments);
+        commentV2BatchRepository.insertIgnoreAll(migrated);
+
+        Optional<CommentMigrationCheckpoint> checkpoint = lockCheckpoint(expected);
+        if (checkpoint.isEmpty()) {
+            status.setRollbackOnly();
+            return new BatchResult(0, false);
+        }
+        increaseCounts(articleId, syncDeleted(migrated));
+        Comment last = comments.getLast();
+        checkpoint.get().advance(last.getParentCommentId(), last.getCommentId(), comments.size());
+        migratedCount.add(comments.size());
+        return new BatchResult(comments.size(), false);
+    }
+
+    /*
+    * 진행 위치 잠금(select for update) 후 batch 조회 시점의 진행 위치와 비교
+    * 다른 이관 작업(다른 서버)이 진행 위치를 옮겼으면 empty(이번 batch는 롤백)
+    * */
+    private Optional<CommentMigrationCheckpoint> lockCheckpoint(CommentMigrationCheckpoint expected) {
+        return commentMigrationCheckpointRepository.findLockedForUpdate(MIGRATION_NAME)
+                .filter(checkpoint -> checkpoint.isAt(expected));
+    }
+
+    /*
+    * batch 조회 이후 진행 위치 잠금 전까지 커밋된 V1 삭제/삭제표시는
+    * 이중 쓰기 시점에 이관되지 않은 댓글이었으므로 여기서 V2에 반영한다.
+    * @return V2에 남은 이관 댓글
+    * */
+    private List<CommentV2> syncDeleted(List<CommentV2> migrated) {
+        List<Long> commentIds = migrated.stream()
+                .map(CommentV2::getCommentId)
+                .toList();
+        Set<Long> existingIds = new HashSet<>(commentRepository.findExistingIdsForShare(commentIds));
+        Set<Long> deletedIds = new HashSet<>(commentRepository.findDeletedIdsForShare(commentIds));
+
+        List<Long> removedIds = commentIds.stream()
+                .filter(not(existingIds::contains))
+                .toList();
+        List<Long> markedIds = migrated.stream()
+                .filter(comment -> !comment.getDeleted() && deletedIds.contains(comment.getCommentId()))
+                .map(CommentV2::getCommentId)
+                .toList();
+        if (!removedIds.isEmpty()) {
+            commentV2BatchRepository.deleteAll(removedIds);
+        }
+        if (!markedIds.isEmpty()) {
+            commentV2BatchRepository.markDeletedAll(markedIds);
+        }
+        return migrated.stream()
+                .filter(comment -> existingIds.contains(comment.getCommentId()))
+                .toList();
+    }
+
+    /*
+    * 다음 게시글로 이동, 없으면 완료
+    * 진행 위치를 먼저 잠근 뒤 조회하므로, 잠금 전에 이관되지 않은 것으로 판단하고 생성된 V1 댓글(이중 쓰기 공유 잠금)은
+    * 모두 커밋된 이후의 snapshot으로 catch up 한다.
+    * */
+    private void nextArticle(TransactionStatus status, CommentMigrationCheckpoint expected) {
+        Optional<CommentMigrationCheckpoint> locked = lockCheckpoint(expected);
+        if (locked.isEmpty()) {
+            status.setRollbackOnly();
+            return;
+        }
+        CommentMigrationCheckpoint checkpoint = locked.get();
+        Long finishedArticleId = checkpoint.getArticleId();
+        if (finishedArticleId != null) {
+            catchUp(finishedArticleId);
+        }
+        commentRepository.findNextArticleId(finishedArticleId == null ? 0L : finishedArticleId)
+                .ifPresentOrElse(checkpoint::nextArticle, checkpoint::complete);
+    }
+
+    /*
+    * 이관 중 누락된 댓글 이관
+    * */
+    private void catchUp(Long articleId) {
+        List<Comment> comments = commentRepository.findAllNotMigrated(articleId);
+        if (comments.isEmpty()) {
+            return;
+        }
+        List<CommentV2> migrated = assignPaths(articleId, comments);
+        commentV2BatchRepository.insertIgnoreAll(migrated);
+        increaseCounts(articleId, migrated);
+        caughtUpCount.add(comments.size());
+    }
+
+    private void increaseCounts(Long articleId, List<CommentV2> migrated) {
+        if (migrated.isEmpty()) {
+            return;
+        }
+        commentDescendantCounter.increaseAll(articleId, migrated);
+        articleCommentCounter.increase(articleId, (long) migrated.size());
+    }
+
+    /*
+    * (parent_comment_id, comment_id) 순서의 댓글에 path 할당
+    * - root 댓글 : 게시글의 root sequence에서 한번에 채번
+    * - 자식 댓글 : 부모 댓글별로 한번에 채번, 부모 path는 같은 batch 또는 이미 이관된 comment_v2에서 조회
+    * */
+    List<CommentV2> assignPaths(Long articleId, List<Comment> comments) {
+        Map<Long, CommentPath> paths = new HashMap<>();
+
+        List<Comment> roots = comments.stream()
+                .filter(Comment::isRoot)
+                .toList();
+        assign(paths, roots, articleId, CommentPath.create(""));
+
+        Map<Long, List<Comment>> childrenByParent = comments.stream()
+                .filter(not(Comment::isRoot))
+                .collect(groupingBy(Comment::getParentCommentId, LinkedHashMap::new, toList()));
+        childrenByParent.forEach((parentCommentId, children) -> {
+            CommentPath parentPath = Optional.ofNullable(paths.get(parentCommentId))
+                    .or(() -> commentRepositoryV2.findById(parentCommentId).map(CommentV2::getCommentPath))
+                    .orElseThrow(() -> new IllegalStateException("parent comment not migrated. parentCommentId=" + parentCommentId));
+            assign(paths, children, articleId, parentPath);
+        });
+
+        return comments.stream()
+                .map(comment -> CommentV2.migrate(comment, paths.get(comment.getCommentId())))
+                .toList();
+    }
+
+    private void assign(Map<Long, CommentPath> paths, List<Comment> comments, Long articleId, CommentPath parentPath) {
+        if (comments.isEmpty()) {
+            return;
+        }
+        Iterator<CommentPath> allocated = commentPathAllocator.allocateAll(articleId, parentPath, comments.size()).iterator();
+        for (Comment comment : comments) {
+            paths.put(comment.getCommentId(), allocated.next());
+        }
+    }
+
+    /*
+    * rows-per-second 예산 : 처리한 row 수만큼 다음 batch 시작 시각을 뒤로 미룬다.
+    * 예산보다 느리게 처리된 시간은 누적하지 않는다(몰아서 처리하지 않도록).
+    * */
+    private void throttle(int rows) throws InterruptedException {
+        nextAllowedNanos += rows * TimeUnit.SECONDS.toNanos(1) / rowsPerSecond;
+        long sleepNanos = nextAllowedNanos - System.nanoTime();
+        if (sleepNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(sleepNanos);
+        } else {
+            nextAllowedNanos = System.nanoTime();
+        }
+    }
+
+    public long getMigratedCount() {
+        return migratedCount.sum();
+    }
+
+    public long getCaughtUpCount() {
+        return caughtUpCount.sum();
+    }
+
+    /*
+    * 이번 실행 기준 초당 이관 건수
+    * */
+    public double getThroughputPerSecond() {
+        return elapsedMillis <= 0 ? 0 : getMigratedCount() * 1000.0 / elapsedMillis;
+    }
+
+    public CommentMigrationStatusResponse readStatus() {
+        return CommentMigrationStatusResponse.of(
+                this,
+                commentMigrationCheckpointRepository.findById(MIGRATION_NAME).orElse(null)
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package kuke.board.comment.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/*
+* 페이지 번호 -> 해당 페이지 마지막 댓글 cursor
+* - (articleId, pageSize) 별로 조회했던 페이지의 마지막 cursor를 저장해두고
+*   page N 요청 시 N보다 앞선 가장 가까운 페이지의 cursor부터 seek + 짧은 offset으로 조회한다.
+* - 서버가 page 번호로 직접 조회한 결과만 저장한다.(클라이언트가 보낸 cursor는 page 번호와 맞는지 알 수 없음)
+* - ttl-millis 동안 유지, 댓글 생성/삭제 시 해당 게시글의 cursor 제거(페이지 경계가 밀리므로)
+*   다른 서버에서 생성/삭제된 경우에는 ttl 동안만 어긋날 수 있다.
+* - 최대 개수 초과 시 전체 제거
+* - V1/V2는 cursor 형식이 다르므로 버전별로 따로 저장하고, 요청한 버전과 다른 형식의 cursor는 사용하지 않는다.
+*   이관 기간에는 V1 쓰기가 V2에도 반영(이중 쓰기)되므로 제거는 버전 구분 없이 게시글 단위로 한다.
+* */
+@Component
+class CommentPageCursorCache {
+    private final long ttlMillis;
+    private final int maxSize;
+
+    /*
+    * articleId -> (version, pageSize) -> page -> cursor
+    * */
+    private final Map<Long, Map<PageKey, NavigableMap<Long, CachedCursor>>> cache = new ConcurrentHashMap<>();
+
+    enum Version {
+        V1, V2;
+
+        static Version of(CommentCursor cursor) {
+            return cursor.getPath() == null ? V1 : V2;
+        }
+    }
+
+    private record PageKey(Version version, Long pageSize) {
+    }
+
+    private record CachedCursor(CommentCursor cursor, long expiredAt) {
+    }
+
+    /*
+    * page의 시작 위치
+    * cursor가 null이면 처음부터 offset
+    * */
+    record PageStart(CommentCursor cursor, Long offset) {
+    }
+
+    CommentPageCursorCache(
+            @Value("${comment-page-cursor-cache.ttl-millis:3000}") long ttlMillis,
+            @Value("${comment-page-cursor-cache.max-size:10000}") int maxSize
+    ) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    PageStart find(Version version, Long articleId, Long page, Long pageSize) {
+        NavigableMap<Long, CachedCursor> pages = cache.getOrDefault(articleId, Map.of()).get(new PageKey(version, pageSize));
+        if (pages != null) {
+            long now = System.currentTimeMillis();
+            for (Map.Entry<Long, CachedCursor> entry : pages.headMap(page - 1, true).descendingMap().entrySet()) {
+                if (entry.getValue().expiredAt() > now && Version.of(entry.getValue().cursor()) == version) {
+                    return new PageStart(entry.getValue().cursor(), (page - 1 - entry.getKey()) * pageSize);
+                }
+                pages.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        return new PageStart(null, (page - 1) * pageSize);
+    }
+
+    void put(Long articleId, Long page, Long pageSize, CommentCursor lastCursor) {
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+        cache.computeIfAbsent(articleId, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(new PageKey(Version.of(lastCursor), pageSize), key -> new ConcurrentSkipListMap<>())
+                .put(page, new CachedCursor(lastCursor, System.currentTimeMillis() + ttlMillis));
+    }
+
+    void evict(Long articleId) {
+        cache.remove(articleId);
+    }
+}
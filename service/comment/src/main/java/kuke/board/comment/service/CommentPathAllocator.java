@@ -0,0 +1,64 @@
+package kuke.board.comment.service;
+
+import kuke.board.comment.entity.CommentPath;
+import kuke.board.comment.entity.CommentPathCodec;
+import kuke.board.comment.repository.CommentPathSequenceRepository;
+import kuke.board.comment.repository.CommentRepositoryV2;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+* 자식 댓글 path 채번
+* - (게시글, 부모 path) 별 sequence를 Redis에서 원자적으로 증가시켜 다음 chunk를 발급
+* - sequence가 없을 때(최초 또는 TTL 만료)만 findDescendantsTopPath로 마지막 자식 chunk를 조회하여 초기화
+*   = 댓글 생성 시 매번 range scan을 하지 않고, 동시 답글도 unique key(idx_article_id_path) 충돌 없이 채번
+* - 롤백된 요청의 chunk는 재사용하지 않는다(path 정렬에만 사용하므로 빈 번호는 문제 없음).
+* */
+@Component
+@RequiredArgsConstructor
+public class CommentPathAllocator {
+    private final CommentRepositoryV2 commentRepository;
+    private final CommentPathSequenceRepository commentPathSequenceRepository;
+
+    private static final Duration SEQUENCE_TTL = Duration.ofDays(1);
+    /*
+    * 자식 댓글이 없을 때의 초기값, 첫 자식은 0(00000)
+    * */
+    private static final long EMPTY_SEQUENCE = -1L;
+
+    public CommentPath allocate(Long articleId, CommentPath parentCommentPath) {
+        return allocateAll(articleId, parentCommentPath, 1).getFirst();
+    }
+
+    /*
+    * 같은 부모의 자식 path count개를 한번에 채번(INCRBY, 연속된 chunk)
+    * */
+    public List<CommentPath> allocateAll(Long articleId, CommentPath parentCommentPath, int count) {
+        String parentPath = parentCommentPath.getPath();
+        long last = commentPathSequenceRepository.increaseIfExists(articleId, parentPath, (long) count, SEQUENCE_TTL)
+                .orElseGet(() -> {
+                    commentPathSequenceRepository.init(articleId, parentPath, seed(articleId, parentCommentPath), SEQUENCE_TTL);
+                    return commentPathSequenceRepository.increaseIfExists(articleId, parentPath, (long) count, SEQUENCE_TTL)
+                            .orElseThrow();
+                });
+
+        List<CommentPath> commentPaths = new ArrayList<>(count);
+        for (long value = last - count + 1; value <= last; value++) {
+            commentPaths.add(CommentPath.create(CommentPathCodec.child(parentPath, value)));
+        }
+        return commentPaths;
+    }
+
+    /*
+    * 현재 저장된 마지막 자식 댓글의 chunk 값
+    * */
+    private long seed(Long articleId, CommentPath parentCommentPath) {
+        return commentRepository.findDescendantsTopPath(articleId, parentCommentPath.getPath())
+                .map(descendantsTopPath -> CommentPathCodec.decodeChunk(descendantsTopPath, parentCommentPath.getDepth() + 1))
+                .orElse(EMPTY_SEQUENCE);
+    }
+}
@@ -0,0 +1,47 @@
+package kuke.board.comment.service;
+
+import kuke.board.comment.repository.CommentV2BatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/*
+* 기존 comment_v2 테이블의 path_key 채우기(rdb-schema.sql 참고)
+* 1. alter table comment_v2 add column path_key binary(20) (null 허용, 이후 생성되는 댓글은 path_key를 함께 저장)
+* 2. backfill : path_key가 없는 댓글을 comment_id 순서로 batchSize개씩 CommentPathKeyCodec.encode(path)로 채운다.
+* 3. alter table comment_v2 modify path_key binary(20) not null + idx_article_id_path_key 생성
+* 하위 댓글 조회가 path_key 범위 조회이므로 3번까지 끝난 뒤 트래픽을 받는다.
+* */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentPathKeyBackfill {
+    private final CommentV2BatchRepository commentV2BatchRepository;
+
+    @Value("${comment-path-key-backfill.batch-size:1000}")
+    private int batchSize;
+
+    /*
+    * @return path_key를 채운 댓글 수
+    * */
+    public long run() {
+        long backfilledCount = 0;
+        Long lastCommentId = 0L;
+        while (true) {
+            Map<Long, String> paths = commentV2BatchRepository.findPathsWithoutPathKey(lastCommentId, batchSize);
+            if (paths.isEmpty()) {
+                break;
+            }
+            commentV2BatchRepository.updatePathKeys(paths);
+            backfilledCount += paths.size();
+            for (Long commentId : paths.keySet()) {
+                lastCommentId = commentId;
+            }
+        }
+        log.info("[CommentPathKeyBackfill.run] backfilledCount={}", backfilledCount);
+        return backfilledCount;
+    }
+}
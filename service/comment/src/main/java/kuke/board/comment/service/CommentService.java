@@ -5,7 +5,7 @@ import kuke.board.comment.repository.CommentRepository;
 import kuke.board.comment.service.request.CommentCreateRequest;
 import kuke.board.comment.service.response.CommentPageResponse;
 import kuke.board.comment.service.response.CommentResponse;
-import kuke.board.common.snowflake.Snowflake;
+import kuke.board.common.snowflake.AtomicSnowflake;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,8 +21,16 @@ import static java.util.function.Predicate.not;
 * RequiredArgsConstructor로 인해 생성자 주입을 진행한다(*AutoWired은 권장사항이 아니며, 독립적인 테스트 환경 사용 권장)
 * */
 public class CommentService {
-    private final Snowflake snowflake = new Snowflake();
+    private final AtomicSnowflake snowflake = new AtomicSnowflake();
     private final CommentRepository commentRepository;
+    /*
+    * 페이지 번호별 cursor
+    * */
+    private final CommentPageCursorCache commentPageCursorCache;
+    /*
+    * V1 -> V2 이관 기간 동안 이중 쓰기
+    * */
+    private final CommentMigrationDualWriter commentMigrationDualWriter;
 
     @Transactional
     public CommentResponse create(CommentCreateRequest request) {
@@ -36,6 +44,8 @@ public class CommentService {
                         request.getWriterId()
                 )
         );
+        commentPageCursorCache.evict(comment.getArticleId());
+        commentMigrationDualWriter.create(comment);
         return CommentResponse.from(comment);
     }
 
@@ -84,6 +94,7 @@ public class CommentService {
                 .ifPresent(comment -> {
                     if (hasChildren(comment)) {
                         comment.delete();
+                        commentMigrationDualWriter.markDeleted(comment);
                     } else {
                         delete(comment);
                     }
@@ -107,6 +118,8 @@ public class CommentService {
         * 상위 댓글이라면 바로 삭제 가능
         * */
         commentRepository.delete(comment);
+        commentPageCursorCache.evict(comment.getArticleId());
+        commentMigrationDualWriter.delete(comment);
         /*
         * 상위 댓글이 아니라면 상위댓글까지 자식여부를 조회하여
         * 재귀적으로 삭제해야 함(상위 댓글이 기삭제된 건에 대해 자식존재여부 확인 후 최종 삭제함)
@@ -124,11 +137,40 @@ public class CommentService {
     * 페이징
     * */
     public CommentPageResponse readAll(Long articleId, Long page, Long pageSize) {
+        return readAll(articleId, page, pageSize, null);
+    }
+
+    /*
+    * 페이징(cursor)
+    * - cursor(이전 페이지의 nextCursor)가 있으면 해당 위치부터 seek
+    * - 없으면 이전에 조회된 가장 가까운 앞 페이지의 cursor부터 seek + 짧은 offset(없으면 기존 offset 쿼리)
+    * */
+    public CommentPageResponse readAll(Long articleId, Long page, Long pageSize, String cursor) {
+        CommentPageCursorCache.PageStart start = cursor == null ?
+                commentPageCursorCache.find(CommentPageCursorCache.Version.V1, articleId, page, pageSize) :
+                new CommentPageCursorCache.PageStart(CommentCursor.decodeV1(cursor), 0L);
+        List<Comment> comments = start.cursor() == null ?
+                commentRepository.findAll(articleId, start.offset(), pageSize) :
+                commentRepository.findAll(
+                        articleId, start.cursor().getParentCommentId(), start.cursor().getCommentId(), start.offset(), pageSize
+                );
+
+        String nextCursor = null;
+        if (!comments.isEmpty()) {
+            Comment last = comments.getLast();
+            CommentCursor lastCursor = CommentCursor.of(last.getParentCommentId(), last.getCommentId());
+            if (cursor == null) {
+                commentPageCursorCache.put(articleId, page, pageSize, lastCursor);
+            }
+            nextCursor = lastCursor.encode();
+        }
+
         return CommentPageResponse.of(
-                commentRepository.findAll(articleId, (page - 1) * pageSize, pageSize).stream()
+                comments.stream()
                         .map(CommentResponse::from)
                         .toList(),
-                commentRepository.count(articleId, PageLimitCalculator.calculatePageLimit(page, pageSize, 10L))
+                commentRepository.count(articleId, PageLimitCalculator.calculatePageLimit(page, pageSize, 10L)),
+                nextCursor
         );
     }
 
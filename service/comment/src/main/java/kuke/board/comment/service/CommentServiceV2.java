@@ -1,36 +1,79 @@
 package kuke.board.comment.service;
 
-import kuke.board.comment.entity.ArticleCommentCount;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import kuke.board.comment.entity.CommentPath;
+import kuke.board.comment.entity.CommentPathCodec;
 import kuke.board.comment.entity.CommentV2;
-import kuke.board.comment.repository.ArticleCommentCountRepository;
 import kuke.board.comment.repository.CommentRepositoryV2;
 import kuke.board.comment.service.request.CommentCreateRequestV2;
+import kuke.board.comment.service.response.CommentFirstPageCacheStatsResponse;
 import kuke.board.comment.service.response.CommentPageResponse;
 import kuke.board.comment.service.response.CommentResponse;
+import kuke.board.comment.service.response.CommentTreeWriter;
 import kuke.board.common.event.EventType;
 import kuke.board.common.event.payload.CommentCreatedEventPayload;
 import kuke.board.common.event.payload.CommentDeletedEventPayload;
 import kuke.board.common.outboxmessagerelay.OutboxEventPublisher;
-import kuke.board.common.snowflake.Snowflake;
+import kuke.board.common.snowflake.AtomicSnowflake;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
+import static java.util.function.Function.identity;
 import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toMap;
 
 @Service
 @RequiredArgsConstructor
 public class CommentServiceV2 {
-    private final Snowflake snowflake = new Snowflake();
+    private final AtomicSnowflake snowflake = new AtomicSnowflake();
     private final CommentRepositoryV2 commentRepository;
+    /*
+    * 자식 댓글 path 채번(findDescendantsTopPath range scan 대체)
+    * */
+    private final CommentPathAllocator commentPathAllocator;
     /*
      * outbox pattern 로직 추가
      * */
     private final OutboxEventPublisher outboxEventPublisher;
-    private final ArticleCommentCountRepository articleCommentCountRepository;
+    /*
+    * 게시글 댓글 수(단일 row / stripe / coalesce)
+    * */
+    private final ArticleCommentCounter articleCommentCounter;
+    private final PageLimitCountCache pageLimitCountCache;
+    /*
+    * 페이지 번호별 cursor
+    * */
+    private final CommentPageCursorCache commentPageCursorCache;
+    /*
+    * 댓글별 하위 댓글 수
+    * */
+    private final CommentDescendantCounter commentDescendantCounter;
+    /*
+    * 무한 스크롤 첫 페이지
+    * */
+    private final CommentFirstPageCache commentFirstPageCache;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /*
+    * 댓글 트리 조회 최대 댓글 수
+    * */
+    private static final long TREE_MAX_LIMIT = 10000L;
+    /*
+    * 댓글 트리 조회 시 하위 댓글 수를 한번에 조회할 댓글 수
+    * */
+    private static final int TREE_DESCENDANT_COUNT_CHUNK_SIZE = 100;
 
     /*
     * 경로열거에 의한 댓글 생성
@@ -50,23 +93,19 @@ public class CommentServiceV2 {
                         request.getContent(),
                         request.getArticleId(),
                         request.getWriterId(),
-                        parentCommentPath.createChildCommentPath(
-                                commentRepository.findDescendantsTopPath(request.getArticleId(), parentCommentPath.getPath())
-                                        .orElse(null)
-                        )
+                        commentPathAllocator.allocate(request.getArticleId(), parentCommentPath)
                 )
         );
 
         /*
         * 댓글 생성시점에 댓글 수 증가
-        * 최초 생성 시 데이터 없으면 1로 초기화(save 명기)
+        * 증가 후 댓글 수를 그대로 이벤트에 사용(추가 select 없음)
         * */
-        int result = articleCommentCountRepository.increase(request.getArticleId());
-        if (result == 0) {
-            articleCommentCountRepository.save(
-                    ArticleCommentCount.init(request.getArticleId(), 1L)
-            );
-        }
+        Long articleCommentCount = articleCommentCounter.increase(request.getArticleId());
+        pageLimitCountCache.evict(request.getArticleId());
+        commentPageCursorCache.evict(request.getArticleId());
+        commentDescendantCounter.increase(comment);
+        commentFirstPageCache.create(comment);
 
         /*
          * outbox pattern 로직 추가
@@ -80,12 +119,12 @@ public class CommentServiceV2 {
                         .writerId(comment.getWriterId())
                         .deleted(comment.getDeleted())
                         .createdAt(comment.getCreatedAt())
-                        .articleCommentCount(count(comment.getArticleId()))
+                        .articleCommentCount(articleCommentCount)
                         .build(),
                 comment.getArticleId()
         );
 
-        return CommentResponse.from(comment);
+        return CommentResponse.from(comment, 0L);
     }
 
     private CommentV2 findParent(CommentCreateRequestV2 request) {
@@ -106,9 +145,8 @@ public class CommentServiceV2 {
     * 댓글내용 불러오기
     * */
     public CommentResponse read(Long commentId) {
-        return CommentResponse.from(
-                commentRepository.findById(commentId).orElseThrow()
-        );
+        CommentV2 comment = commentRepository.findById(commentId).orElseThrow();
+        return toResponses(comment.getArticleId(), List.of(comment)).getFirst();
     }
 
     /*
@@ -121,16 +159,21 @@ public class CommentServiceV2 {
         commentRepository.findById(commentId)
                 .filter(not(CommentV2::getDeleted))
                 .ifPresent(comment -> {
+                    pageLimitCountCache.evict(comment.getArticleId());
+                    Long articleCommentCount;
                     if(hasChildren(comment)) {
                         /*
                         * 삭제표시(soft delete) 시 댓글 수 감소처리 하지 않는다.
                         * */
                         comment.delete();
+                        commentFirstPageCache.markDeleted(comment);
+                        articleCommentCount = count(comment.getArticleId());
                     } else {
                         /*
                         * 물리적 삭제 시에만 감소 처리한다.
+                        * 감소 후 댓글 수를 그대로 이벤트에 사용(추가 select 없음)
                         * */
-                        delete(comment);
+                        articleCommentCount = delete(comment);
                     }
 
                     /*
@@ -145,7 +188,7 @@ public class CommentServiceV2 {
                                     .writerId(comment.getWriterId())
                                     .deleted(comment.getDeleted())
                                     .createdAt(comment.getCreatedAt())
-                                    .articleCommentCount(count(comment.getArticleId()))
+                                    .articleCommentCount(articleCommentCount)
                                     .build(),
                             comment.getArticleId()
                     );
@@ -164,57 +207,218 @@ public class CommentServiceV2 {
     }
 
     /*
-    * 삭제, root 댓글이 아니라면 상위 댓글을 찾아서 재귀적 삭제
+    * 삭제, root 댓글이 아니라면 함께 삭제할 상위 댓글을 찾아서 한번에 삭제
+    * - 조상 댓글은 path에서 추출하여 한번에 조회(IN)
+    * - 삭제표시된 조상 중 더 이상 자식이 없게 되는 조상을 메모리에서 판단
+    * - 한번의 delete, 한번의 댓글 수 감소
+    * - 감소 후 댓글 수 반환
     * */
-    private void delete(CommentV2 comment) {
-        commentRepository.delete(comment);
+    private Long delete(CommentV2 comment) {
+        List<Long> commentIds = new ArrayList<>();
+        commentIds.add(comment.getCommentId());
+        for (CommentV2 ancestor : findRemovableAncestors(comment)) {
+            commentIds.add(ancestor.getCommentId());
+        }
+
+        commentRepository.deleteAllByIdInBatch(commentIds);
+        commentPageCursorCache.evict(comment.getArticleId());
+        commentDescendantCounter.decrease(comment, commentIds.size());
+        commentFirstPageCache.delete(comment, commentIds.size());
         /*
          * 댓글 물리적 삭제시점에 댓글 수 감소
          * */
-        articleCommentCountRepository.decrease(comment.getArticleId());
-        if (!comment.isRoot()) {
-            commentRepository.findByPath(comment.getCommentPath().getParentPath())
-                    .filter(CommentV2::getDeleted)
-                    .filter(not(this::hasChildren))
-                    .ifPresent(this::delete);
+        return articleCommentCounter.decrease(comment.getArticleId(), (long) commentIds.size());
+    }
+
+    /*
+    * 함께 삭제될 조상 댓글(가까운 부모부터)
+    * 1. 가까운 부모부터 연속으로 삭제표시된 조상이 후보
+    * 2. 후보 중 가장 위 조상의 하위 댓글에서 삭제 댓글과 path가 가장 가까운 댓글을 조회
+    *    -> 해당 댓글과의 공통 조상(및 그 위)은 자식이 남아있으므로 삭제하지 않는다.
+    * */
+    private List<CommentV2> findRemovableAncestors(CommentV2 comment) {
+        CommentPath commentPath = comment.getCommentPath();
+        List<String> ancestorPaths = commentPath.getAncestorPaths();
+        if (ancestorPaths.isEmpty()) {
+            return List.of();
         }
+
+        Map<String, CommentV2> ancestors = commentRepository.findAllByPaths(comment.getArticleId(), ancestorPaths).stream()
+                .collect(toMap(ancestor -> ancestor.getCommentPath().getPath(), identity()));
+
+        List<CommentV2> candidates = new ArrayList<>();
+        for (String ancestorPath : ancestorPaths) {
+            CommentV2 ancestor = ancestors.get(ancestorPath);
+            if (ancestor == null || !ancestor.getDeleted()) {
+                break;
+            }
+            candidates.add(ancestor);
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> candidatePaths = candidates.stream()
+                .map(candidate -> candidate.getCommentPath().getPath())
+                .toList();
+        int remainingDepth = commentRepository.findNearestPaths(
+                        comment.getArticleId(), candidatePaths.getLast(), commentPath.getPath(), candidatePaths
+                ).stream()
+                .mapToInt(path -> CommentPathCodec.commonDepth(path, commentPath.getPath()))
+                .max()
+                .orElse(0);
+
+        return candidates.stream()
+                .filter(candidate -> candidate.getCommentPath().getDepth() > remainingDepth)
+                .toList();
     }
 
     /*
     * 페이징 쿼리
     * */
     public CommentPageResponse readAll(Long articleId, Long page, Long pageSize) {
+        return readAll(articleId, page, pageSize, null);
+    }
+
+    /*
+    * 페이징 쿼리(cursor)
+    * - cursor(이전 페이지의 nextCursor)가 있으면 해당 path부터 seek
+    * - 없으면 이전에 조회된 가장 가까운 앞 페이지의 cursor부터 seek + 짧은 offset(없으면 기존 offset 쿼리)
+    * */
+    public CommentPageResponse readAll(Long articleId, Long page, Long pageSize, String cursor) {
+        CommentPageCursorCache.PageStart start = cursor == null ?
+                commentPageCursorCache.find(CommentPageCursorCache.Version.V2, articleId, page, pageSize) :
+                new CommentPageCursorCache.PageStart(CommentCursor.decodeV2(cursor), 0L);
+        List<CommentV2> comments = start.cursor() == null ?
+                commentRepository.findAll(articleId, start.offset(), pageSize) :
+                commentRepository.findAll(articleId, start.cursor().getPath(), start.offset(), pageSize);
+
+        String nextCursor = null;
+        if (!comments.isEmpty()) {
+            CommentCursor lastCursor = CommentCursor.of(comments.getLast().getCommentPath().getPath());
+            if (cursor == null) {
+                commentPageCursorCache.put(articleId, page, pageSize, lastCursor);
+            }
+            nextCursor = lastCursor.encode();
+        }
+
         return CommentPageResponse.of(
-                commentRepository.findAll(articleId, (page - 1) * pageSize, pageSize).stream()
-                        .map(CommentResponse::from)
-                        .toList(),
-                commentRepository.count(articleId, PageLimitCalculator.calculatePageLimit(page, pageSize, 10L))
+                toResponses(articleId, comments),
+                count(articleId, PageLimitCalculator.calculatePageLimit(page, pageSize, 10L)),
                 /*
                 * 필요시 count 바로 호출 가능
                 * */
                 //count(articleId);
+                nextCursor
         );
     }
 
+    /*
+    * 페이지 구간별 댓글 수(limit)는 짧은 시간 캐싱
+    * */
+    private Long count(Long articleId, Long limit) {
+        return pageLimitCountCache.getOrLoad(articleId, limit, () -> commentRepository.count(articleId, limit));
+    }
+
     /*
     * 무한 스크롤
+    * 첫 페이지(lastPath == null)는 게시글별 캐시에서 반환
     * */
     public List<CommentResponse> readAllInfiniteScroll(Long articleId, String lastPath, Long pageSize) {
-        List<CommentV2> comments = lastPath == null ?
-                commentRepository.findAllInfiniteScroll(articleId, pageSize) :
-                commentRepository.findAllInfiniteScroll(articleId, lastPath, pageSize);
+        if (lastPath == null) {
+            return commentFirstPageCache.getOrLoad(
+                    articleId,
+                    pageSize,
+                    limit -> toResponses(articleId, commentRepository.findAllInfiniteScroll(articleId, limit))
+            );
+        }
+        return toResponses(articleId, commentRepository.findAllInfiniteScroll(articleId, lastPath, pageSize));
+    }
+
+    public CommentFirstPageCacheStatsResponse readFirstPageCacheStats() {
+        return CommentFirstPageCacheStatsResponse.from(commentFirstPageCache);
+    }
 
+    /*
+    * 하위 댓글 수를 포함한 응답(Redis 1회 조회)
+    * */
+    private List<CommentResponse> toResponses(Long articleId, List<CommentV2> comments) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Long> descendantCounts = commentDescendantCounter.read(articleId, comments);
         return comments.stream()
-                .map(CommentResponse::from)
+                .map(comment -> CommentResponse.from(
+                        comment, descendantCounts.getOrDefault(comment.getCommentPath().getPath(), 0L)
+                ))
                 .toList();
     }
 
+    /*
+    * 댓글 트리 조회(root 댓글 + 최대 limit개, root로부터 maxDepth 단계까지)
+    * - 하나의 range scan 결과를 row 단위로 받아 바로 JSON으로 중첩 출력(streaming)
+    * - 하위 댓글 수는 TREE_DESCENDANT_COUNT_CHUNK_SIZE개씩 모아서 조회(streaming 중인 connection은 사용할 수 없으므로 별도 트랜잭션)
+    * - 출력한 댓글은 영속성 컨텍스트에서 분리(detach)하여 메모리 사용량을 일정하게 유지
+    * */
+    @Transactional(readOnly = true)
+    public void readTree(Long articleId, String path, Integer maxDepth, Long limit, OutputStream outputStream) throws IOException {
+        validateTree(path, maxDepth, limit);
+        CommentPath rootCommentPath = CommentPath.create(path);
+        int maxPathLength = Math.min(rootCommentPath.getDepth() + maxDepth, CommentPath.MAX_DEPTH) * CommentPathCodec.CHUNK_SIZE;
+
+        try (
+                Stream<CommentV2> comments = commentRepository.streamTree(
+                        articleId, path, maxPathLength, Math.min(limit, TREE_MAX_LIMIT)
+                );
+                CommentTreeWriter writer = CommentTreeWriter.start(objectMapper, outputStream, articleId, path)
+        ) {
+            List<CommentV2> chunk = new ArrayList<>(TREE_DESCENDANT_COUNT_CHUNK_SIZE);
+            for (CommentV2 comment : (Iterable<CommentV2>) comments::iterator) {
+                chunk.add(comment);
+                if (chunk.size() == TREE_DESCENDANT_COUNT_CHUNK_SIZE) {
+                    writeTreeChunk(articleId, chunk, writer);
+                }
+            }
+            writeTreeChunk(articleId, chunk, writer);
+        }
+    }
+
+    private void writeTreeChunk(Long articleId, List<CommentV2> chunk, CommentTreeWriter writer) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Map<String, Long> descendantCounts = commentDescendantCounter.readInNewTransaction(articleId, chunk);
+        for (CommentV2 comment : chunk) {
+            writer.write(CommentResponse.from(
+                    comment, descendantCounts.getOrDefault(comment.getCommentPath().getPath(), 0L)
+            ));
+            entityManager.detach(comment);
+        }
+        chunk.clear();
+    }
+
+    /*
+    * 댓글 트리 조회 요청 검증(streaming 응답을 시작하기 전에 호출), 잘못된 요청이면 400
+    * - path : 비어있지 않은 chunk 단위 path(CHARSET 문자만), 최대 depth 이하
+    * - maxDepth : 0 이상(0이면 root만)
+    * - limit : 1 이상(root 포함)
+    * */
+    public void validateTree(String path, Integer maxDepth, Long limit) {
+        if (!CommentPathCodec.isValid(path) || CommentPathCodec.depth(path) > CommentPath.MAX_DEPTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid path. path=" + path);
+        }
+        if (maxDepth == null || maxDepth < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid maxDepth. maxDepth=" + maxDepth);
+        }
+        if (limit == null || limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid limit. limit=" + limit);
+        }
+    }
+
     /*
     * 전체 댓글 수 없으면 0을 반환
     * */
     public Long count(Long articleId) {
-        return articleCommentCountRepository.findById(articleId)
-                .map(ArticleCommentCount::getCommentCount)
-                .orElse(0L);
+        return articleCommentCounter.count(articleId);
     }
 }
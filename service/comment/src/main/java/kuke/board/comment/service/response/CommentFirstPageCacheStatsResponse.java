@@ -0,0 +1,27 @@
+package kuke.board.comment.service.response;
+
+import kuke.board.comment.service.CommentFirstPageCache;
+import lombok.Getter;
+import lombok.ToString;
+
+/*
+* 댓글 첫 페이지 캐시 통계
+* */
+@Getter
+@ToString
+public class CommentFirstPageCacheStatsResponse {
+    private Integer size;
+    private Long hitCount;
+    private Long missCount;
+    private Double hitRatio;
+
+    public static CommentFirstPageCacheStatsResponse from(CommentFirstPageCache commentFirstPageCache) {
+        CommentFirstPageCacheStatsResponse response = new CommentFirstPageCacheStatsResponse();
+        response.size = commentFirstPageCache.size();
+        response.hitCount = commentFirstPageCache.getHitCount();
+        response.missCount = commentFirstPageCache.getMissCount();
+        long requestCount = response.hitCount + response.missCount;
+        response.hitRatio = requestCount == 0 ? 0.0 : (double) response.hitCount / requestCount;
+        return response;
+    }
+}
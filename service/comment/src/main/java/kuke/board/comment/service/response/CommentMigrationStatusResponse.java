@@ -0,0 +1,41 @@
+package kuke.board.comment.service.response;
+
+import kuke.board.comment.entity.CommentMigrationCheckpoint;
+import kuke.board.comment.service.CommentMigrator;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/*
+* V1 -> V2 댓글 이관 진행 상황
+* */
+@Getter
+@ToString
+public class CommentMigrationStatusResponse {
+    private Boolean running;
+    private Boolean completed;
+    private Long articleId;
+    private Long totalMigratedCount;
+    private Long migratedCount;
+    private Long caughtUpCount;
+    private Double throughputPerSecond;
+    private Long rowsPerSecondBudget;
+    private String lastError;
+    private LocalDateTime updatedAt;
+
+    public static CommentMigrationStatusResponse of(CommentMigrator migrator, CommentMigrationCheckpoint checkpoint) {
+        CommentMigrationStatusResponse response = new CommentMigrationStatusResponse();
+        response.running = migrator.isRunning();
+        response.migratedCount = migrator.getMigratedCount();
+        response.caughtUpCount = migrator.getCaughtUpCount();
+        response.throughputPerSecond = migrator.getThroughputPerSecond();
+        response.rowsPerSecondBudget = migrator.getRowsPerSecond();
+        response.lastError = migrator.getLastError();
+        response.completed = checkpoint != null && checkpoint.getCompleted();
+        response.articleId = checkpoint == null ? null : checkpoint.getArticleId();
+        response.totalMigratedCount = checkpoint == null ? 0L : checkpoint.getMigratedCount();
+        response.updatedAt = checkpoint == null ? null : checkpoint.getUpdatedAt();
+        return response;
+    }
+}
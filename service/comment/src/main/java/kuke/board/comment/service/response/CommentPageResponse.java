@@ -9,6 +9,10 @@ public class CommentPageResponse {
     private List<CommentResponse> comments;
     private Long commentCount;
     /*
+    * 다음 페이지 조회용 cursor(token), 다음 페이지 요청 시 cursor로 전달하면 offset 없이 seek
+    * */
+    private String nextCursor;
+    /*
     * 페이징 전용 Response
     * */
     public static CommentPageResponse of(List<CommentResponse> comments, Long commentCount) {
@@ -17,4 +21,10 @@ public class CommentPageResponse {
         response.commentCount = commentCount;
         return response;
     }
+
+    public static CommentPageResponse of(List<CommentResponse> comments, Long commentCount, String nextCursor) {
+        CommentPageResponse response = of(comments, commentCount);
+        response.nextCursor = nextCursor;
+        return response;
+    }
 }
@@ -22,6 +22,10 @@ public class CommentResponse {
     private Boolean deleted;
     private String path;
     private LocalDateTime createdAt;
+    /*
+    * 하위 댓글 수(V2, 답글 n개 더보기)
+    * */
+    private Long descendantCount;
 
     public static CommentResponse from(Comment comment) {
         CommentResponse response = new CommentResponse();
@@ -46,4 +50,27 @@ public class CommentResponse {
         response.createdAt = comment.getCreatedAt();
         return response;
     }
+
+    public static CommentResponse from(CommentV2 comment, Long descendantCount) {
+        CommentResponse response = from(comment);
+        response.descendantCount = descendantCount;
+        return response;
+    }
+
+    /*
+    * 하위 댓글 수만 변경된 응답(첫 페이지 캐시 반영용)
+    * */
+    public static CommentResponse of(CommentResponse source, Long descendantCount) {
+        CommentResponse response = new CommentResponse();
+        response.commentId = source.commentId;
+        response.content = source.content;
+        response.parentCommentId = source.parentCommentId;
+        response.articleId = source.articleId;
+        response.writerId = source.writerId;
+        response.deleted = source.deleted;
+        response.path = source.path;
+        response.createdAt = source.createdAt;
+        response.descendantCount = descendantCount;
+        return response;
+    }
 }
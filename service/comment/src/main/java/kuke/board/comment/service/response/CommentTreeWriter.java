@@ -0,0 +1,75 @@
+package kuke.board.comment.service.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import kuke.board.comment.entity.CommentPathCodec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+/*
+* 댓글 트리 JSON streaming 출력
+* - path 순서(전위순회)로 전달받은 댓글을 depth 기준으로 바로 중첩하여 출력한다.
+* - 열려있는 조상 댓글의 depth만 stack으로 유지하므로 전체 목록을 메모리에 올리지 않는다.
+*
+* {"articleId":1,"path":"00000","comments":[{"commentId":..., "path":"00000", "children":[{...,"children":[]}]}]}
+* */
+public class CommentTreeWriter implements AutoCloseable {
+    private final ObjectMapper objectMapper;
+    private final JsonGenerator generator;
+    private final Deque<Integer> openDepths = new ArrayDeque<>();
+
+    private CommentTreeWriter(ObjectMapper objectMapper, JsonGenerator generator) {
+        this.objectMapper = objectMapper;
+        this.generator = generator;
+    }
+
+    public static CommentTreeWriter start(ObjectMapper objectMapper, OutputStream outputStream, Long articleId, String path) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.writeStartObject();
+        generator.writeNumberField("articleId", articleId);
+        generator.writeStringField("path", path);
+        generator.writeArrayFieldStart("comments");
+        return new CommentTreeWriter(objectMapper, generator);
+    }
+
+    /*
+    * 같은 depth 이상으로 열려있는 댓글은 모두 닫은 뒤, 가장 가까운 조상의 children에 추가
+    * */
+    public void write(CommentResponse comment) throws IOException {
+        int depth = CommentPathCodec.depth(comment.getPath());
+        while (!openDepths.isEmpty() && openDepths.peek() >= depth) {
+            closeComment();
+        }
+
+        generator.writeStartObject();
+        ObjectNode node = objectMapper.valueToTree(comment);
+        for (Map.Entry<String, JsonNode> field : node.properties()) {
+            generator.writeFieldName(field.getKey());
+            generator.writeTree(field.getValue());
+        }
+        generator.writeArrayFieldStart("children");
+        openDepths.push(depth);
+    }
+
+    private void closeComment() throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        openDepths.pop();
+    }
+
+    @Override
+    public void close() throws IOException {
+        while (!openDepths.isEmpty()) {
+            closeComment();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.close();
+    }
+}
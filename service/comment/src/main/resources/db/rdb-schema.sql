@@ -16,17 +16,40 @@ create table comment_v2 (
     article_id bigint not null,
     writer_id bigint not null,
     path varchar(25) character set utf8mb4 collate utf8mb4_bin not null,
+    path_key binary(20) not null,
     deleted bool not null,
     created_at datetime not null
 );
 
 create unique index idx_article_id_path on comment_v2(article_id asc, path asc);
 
+-- 기존 테이블 : 1. alter table comment_v2 add column path_key binary(20);
+--             2. POST /v1/admin/comment-path-key-backfill (CommentPathKeyBackfill, path_key가 없는 댓글을 CommentPathKeyCodec.encode(path)로 채움)
+--             3. alter table comment_v2 modify path_key binary(20) not null; 후 아래 index 생성
+create unique index idx_article_id_path_key on comment_v2(article_id asc, path_key asc);
+
+create table comment_migration_checkpoint (
+    migration_name varchar(100) not null primary key,
+    article_id bigint,
+    parent_comment_id bigint,
+    comment_id bigint,
+    migrated_count bigint not null,
+    completed bool not null,
+    updated_at datetime not null
+);
+
 create table article_comment_count (
     article_id bigint not null primary key,
     comment_count bigint not null
 );
 
+create table article_comment_count_stripe (
+    article_id bigint not null,
+    stripe int not null,
+    comment_count bigint not null,
+    primary key (article_id, stripe)
+);
+
 create table outbox (
     outbox_id bigint not null primary key,
     shard_key bigint not null,
@@ -35,4 +58,11 @@ create table outbox (
     created_at datetime not null
 );
 
-create index idx_shard_key_created_at on outbox(shard_key asc, created_at asc);
\ No newline at end of file
+create index idx_shard_key_created_at on outbox(shard_key asc, created_at asc);
+
+-- batch relay(outbox.relay.mode = batch) shard lease : lease를 가진 서버만 해당 shard의 outbox를 relay
+create table outbox_relay_lease (
+    shard_key bigint not null primary key,
+    owner varchar(100) not null,
+    expires_at datetime not null
+);
\ No newline at end of file
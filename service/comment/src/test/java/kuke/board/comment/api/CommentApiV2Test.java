@@ -9,6 +9,13 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.web.client.RestClient;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 /*
 * API TEST
@@ -47,6 +54,32 @@ public class CommentApiV2Test {
                 .body(CommentResponse.class);
     }
 
+    /*
+    * 같은 부모 댓글에 동시에 답글 작성 시 path 충돌(unique key) 없이 모두 생성
+    * */
+    @Test
+    void createConcurrentlyTest() throws InterruptedException {
+        CommentResponse parent = create(new CommentCreateRequestV2(2L, "parent", null, 1L));
+
+        int replyCount = 300;
+        ExecutorService executorService = Executors.newFixedThreadPool(50);
+        CountDownLatch latch = new CountDownLatch(replyCount);
+        Set<String> paths = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < replyCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    paths.add(create(new CommentCreateRequestV2(2L, "reply", parent.getPath(), 1L)).getPath());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        assertThat(paths).hasSize(replyCount);
+    }
+
     @Test
     void read() {
         CommentResponse response = restClient.get()
@@ -89,6 +122,28 @@ public class CommentApiV2Test {
          */
     }
 
+    /*
+    * 이전 페이지의 nextCursor로 다음 페이지 조회(offset 없이 seek)
+    * */
+    @Test
+    void readAllWithCursorTest() {
+        CommentPageResponse page1 = restClient.get()
+                .uri("/v2/comments?articleId=1&pageSize=10&page=1")
+                .retrieve()
+                .body(CommentPageResponse.class);
+        CommentPageResponse page2 = restClient.get()
+                .uri("/v2/comments?articleId=1&pageSize=10&page=2&cursor={cursor}", page1.getNextCursor())
+                .retrieve()
+                .body(CommentPageResponse.class);
+        CommentPageResponse page2ByOffset = restClient.get()
+                .uri("/v2/comments?articleId=1&pageSize=10&page=2")
+                .retrieve()
+                .body(CommentPageResponse.class);
+
+        assertThat(page2.getComments()).extracting(CommentResponse::getCommentId)
+                .containsExactlyElementsOf(page2ByOffset.getComments().stream().map(CommentResponse::getCommentId).toList());
+    }
+
     @Test
     void readAllInfiniteScroll() {
         List<CommentResponse> responses1 = restClient.get()
@@ -115,6 +170,24 @@ public class CommentApiV2Test {
         }
     }
 
+    /*
+    * 댓글 트리 조회(streaming JSON)
+    * */
+    @Test
+    void readTreeTest() {
+        CommentResponse root = create(new CommentCreateRequestV2(3L, "root", null, 1L));
+        CommentResponse child = create(new CommentCreateRequestV2(3L, "child", root.getPath(), 1L));
+        create(new CommentCreateRequestV2(3L, "grandchild", child.getPath(), 1L));
+        create(new CommentCreateRequestV2(3L, "child2", root.getPath(), 1L));
+
+        String response = restClient.get()
+                .uri("/v2/comments/tree?articleId=3&path={path}&maxDepth=2&limit=100", root.getPath())
+                .retrieve()
+                .body(String.class);
+
+        System.out.println("response = " + response);
+    }
+
     /*
     * 댓글 수 생성 테스트
     * */
@@ -0,0 +1,151 @@
+package kuke.board.comment.data;
+
+import kuke.board.comment.entity.CommentPathCodec;
+import kuke.board.comment.entity.CommentPathKeyCodec;
+import kuke.board.comment.repository.CommentRepositoryV2;
+import kuke.board.common.snowflake.Snowflake;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+/*
+* path(varchar, like) vs path_key(binary(20), 범위 조회) 비교
+* - initialize : 하나의 게시글에 약 1000만 댓글(root 1000개 x 자식 100개 x 손자 100개) 생성
+* - indexSizeTest : idx_article_id_path / idx_article_id_path_key 크기(innodb_index_stats)
+* - scanTest : 임의의 root 하위 댓글 수 조회 / 최근자식댓글 조회 평균 지연시간
+* */
+public class CommentPathKeyBenchmark {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    CommentRepositoryV2 commentRepository;
+    Snowflake snowflake = new Snowflake();
+
+    static final Long ARTICLE_ID = 10L;
+    static final int ROOT_COUNT = 1000;
+    static final int CHILD_COUNT = 100;
+    static final int SCAN_COUNT = 1000;
+
+    @Test
+    void initialize() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        CountDownLatch latch = new CountDownLatch(ROOT_COUNT);
+        for (int root = 0; root < ROOT_COUNT; root++) {
+            String rootPath = CommentPathCodec.child("", root);
+            executorService.submit(() -> {
+                insert(subtreePaths(rootPath));
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+    }
+
+    List<String> subtreePaths(String rootPath) {
+        List<String> paths = new ArrayList<>();
+        paths.add(rootPath);
+        for (int child = 0; child < CHILD_COUNT; child++) {
+            String childPath = CommentPathCodec.child(rootPath, child);
+            paths.add(childPath);
+            for (int grandChild = 0; grandChild < CHILD_COUNT; grandChild++) {
+                paths.add(CommentPathCodec.child(childPath, grandChild));
+            }
+        }
+        return paths;
+    }
+
+    void insert(List<String> paths) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "insert into comment_v2(comment_id, content, article_id, writer_id, path, path_key, deleted, created_at) " +
+                        "values (?, ?, ?, ?, ?, ?, ?, ?)",
+                paths,
+                2000,
+                (ps, path) -> {
+                    ps.setLong(1, snowflake.nextId());
+                    ps.setString(2, "content");
+                    ps.setLong(3, ARTICLE_ID);
+                    ps.setLong(4, 1L);
+                    ps.setString(5, path);
+                    ps.setBytes(6, CommentPathKeyCodec.encode(path));
+                    ps.setBoolean(7, false);
+                    ps.setTimestamp(8, now);
+                }
+        );
+    }
+
+    @Test
+    void indexSizeTest() {
+        jdbcTemplate.execute("analyze table comment_v2");
+        List<Map<String, Object>> sizes = jdbcTemplate.queryForList(
+                "select index_name, stat_value * @@innodb_page_size as size_bytes from mysql.innodb_index_stats " +
+                        "where table_name = 'comment_v2' and stat_name = 'size' " +
+                        "and index_name in ('idx_article_id_path', 'idx_article_id_path_key')"
+        );
+        sizes.forEach(size -> log.info("index = {}, size = {}MB",
+                size.get("index_name"), ((Number) size.get("size_bytes")).longValue() / 1024 / 1024));
+    }
+
+    @Test
+    void scanTest() {
+        List<String> rootPaths = new ArrayList<>();
+        for (int i = 0; i < SCAN_COUNT; i++) {
+            rootPaths.add(CommentPathCodec.child("", ThreadLocalRandom.current().nextInt(ROOT_COUNT)));
+        }
+
+        // warm up
+        scanWithPath(rootPaths);
+        scanWithPathKey(rootPaths);
+
+        long pathNanos = scanWithPath(rootPaths);
+        long pathKeyNanos = scanWithPathKey(rootPaths);
+        log.info("path(like) = {}us/op, path_key(range) = {}us/op",
+                pathNanos / SCAN_COUNT / 1000, pathKeyNanos / SCAN_COUNT / 1000);
+    }
+
+    long scanWithPath(List<String> rootPaths) {
+        long start = System.nanoTime();
+        for (String rootPath : rootPaths) {
+            Long count = jdbcTemplate.queryForObject(
+                    "select count(*) from comment_v2 where article_id = ? and path > ? and path like ?",
+                    Long.class, ARTICLE_ID, rootPath, rootPath + "%"
+            );
+            String topPath = jdbcTemplate.queryForObject(
+                    "select path from comment_v2 where article_id = ? and path > ? and path like ? order by path desc limit 1",
+                    String.class, ARTICLE_ID, rootPath, rootPath + "%"
+            );
+            assertThat(count).isEqualTo(CHILD_COUNT + CHILD_COUNT * CHILD_COUNT);
+            assertThat(topPath).startsWith(rootPath);
+        }
+        return System.nanoTime() - start;
+    }
+
+    long scanWithPathKey(List<String> rootPaths) {
+        long start = System.nanoTime();
+        for (String rootPath : rootPaths) {
+            byte[] pathKey = CommentPathKeyCodec.encode(rootPath);
+            byte[] upperKey = CommentPathKeyCodec.upperBound(rootPath);
+            Long count = commentRepository.countDescendantsByKey(ARTICLE_ID, pathKey, upperKey);
+            String topPath = commentRepository.findDescendantsTopPathByKey(ARTICLE_ID, pathKey, upperKey).orElseThrow();
+            assertThat(count).isEqualTo(CHILD_COUNT + CHILD_COUNT * CHILD_COUNT);
+            assertThat(topPath).startsWith(rootPath);
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,58 @@
+package kuke.board.comment.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentMigrationCheckpointTest {
+
+    /*
+    * 이관중인 게시글 100 : (parent_comment_id, comment_id) = (10, 12)까지 이관
+    * */
+    @Test
+    void isMigratedTest() {
+        CommentMigrationCheckpoint checkpoint = CommentMigrationCheckpoint.init("test");
+        checkpoint.nextArticle(100L);
+        checkpoint.advance(10L, 12L, 3);
+
+        // 이관이 끝난 게시글 / 아직 이관하지 않은 게시글
+        assertThat(checkpoint.isMigrated(99L, 1L, 1L)).isTrue();
+        assertThat(checkpoint.isMigrated(101L, 1L, 1L)).isFalse();
+
+        // 진행 위치 이하
+        assertThat(checkpoint.isMigrated(100L, 5L, 30L)).isTrue();
+        assertThat(checkpoint.isMigrated(100L, 10L, 10L)).isTrue();
+        assertThat(checkpoint.isMigrated(100L, 10L, 12L)).isTrue();
+
+        // 진행 위치 이후
+        assertThat(checkpoint.isMigrated(100L, 10L, 13L)).isFalse();
+        assertThat(checkpoint.isMigrated(100L, 20L, 20L)).isFalse();
+    }
+
+    /*
+    * 게시글 이관 시작 전(진행 위치 없음)
+    * */
+    @Test
+    void isMigratedBeforeFirstBatchTest() {
+        CommentMigrationCheckpoint checkpoint = CommentMigrationCheckpoint.init("test");
+        checkpoint.nextArticle(100L);
+
+        assertThat(checkpoint.isMigrated(100L, 1L, 1L)).isFalse();
+    }
+
+    @Test
+    void isAtTest() {
+        CommentMigrationCheckpoint checkpoint = CommentMigrationCheckpoint.init("test");
+        checkpoint.nextArticle(100L);
+        checkpoint.advance(10L, 12L, 3);
+        CommentMigrationCheckpoint same = CommentMigrationCheckpoint.init("test");
+        same.nextArticle(100L);
+        same.advance(10L, 12L, 3);
+        CommentMigrationCheckpoint moved = CommentMigrationCheckpoint.init("test");
+        moved.nextArticle(100L);
+        moved.advance(10L, 13L, 4);
+
+        assertThat(checkpoint.isAt(same)).isTrue();
+        assertThat(checkpoint.isAt(moved)).isFalse();
+    }
+}
@@ -0,0 +1,69 @@
+package kuke.board.comment.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentPathCodecTest {
+    @Test
+    void decodeChunkTest() {
+        assertThat(CommentPathCodec.decodeChunk("00000", 1)).isEqualTo(0L);
+        assertThat(CommentPathCodec.decodeChunk("0000z", 1)).isEqualTo(61L);
+        assertThat(CommentPathCodec.decodeChunk("0000000010", 2)).isEqualTo(62L);
+        assertThat(CommentPathCodec.decodeChunk("zzzzz", 1)).isEqualTo(CommentPathCodec.MAX_CHUNK_VALUE);
+    }
+
+    @Test
+    void childTest() {
+        assertThat(CommentPathCodec.firstChild("")).isEqualTo("00000");
+        assertThat(CommentPathCodec.child("00000", 62L)).isEqualTo("0000000010");
+        assertThat(CommentPathCodec.child("", CommentPathCodec.MAX_CHUNK_VALUE)).isEqualTo("zzzzz");
+        assertThatThrownBy(() -> CommentPathCodec.child("", CommentPathCodec.MAX_CHUNK_VALUE + 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void nextSiblingTest() {
+        assertThat(CommentPathCodec.nextSibling("00000", 1)).isEqualTo("00001");
+        // 자리 올림
+        assertThat(CommentPathCodec.nextSibling("0000zabcdzzzzzz", 2)).isEqualTo("0000zabce0");
+        assertThat(CommentPathCodec.nextSibling("0zzzz", 1)).isEqualTo("10000");
+        assertThatThrownBy(() -> CommentPathCodec.nextSibling("zzzzz", 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void invalidCharacterTest() {
+        assertThatThrownBy(() -> CommentPathCodec.decodeChunk("0000-", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommentPathCodec.nextSibling("0000한", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ancestorsTest() {
+        assertThat(CommentPathCodec.ancestors("00000")).isEmpty();
+        assertThat(CommentPathCodec.ancestors("000010000200003"))
+                .containsExactly("0000100002", "00001");
+    }
+
+    @Test
+    void commonDepthTest() {
+        assertThat(CommentPathCodec.commonDepth("0000100002", "0000100003")).isEqualTo(1);
+        assertThat(CommentPathCodec.commonDepth("00001000020000a", "000010000200003")).isEqualTo(2);
+        assertThat(CommentPathCodec.commonDepth("00001", "00002")).isZero();
+    }
+
+    @Test
+    void isValidTest() {
+        assertThat(CommentPathCodec.isValid("00000")).isTrue();
+        assertThat(CommentPathCodec.isValid("0000azzzzz")).isTrue();
+        assertThat(CommentPathCodec.isValid(null)).isFalse();
+        assertThat(CommentPathCodec.isValid("")).isFalse();
+        assertThat(CommentPathCodec.isValid("0000")).isFalse();
+        assertThat(CommentPathCodec.isValid("0000%")).isFalse();
+        assertThat(CommentPathCodec.isValid("0000_")).isFalse();
+        assertThat(CommentPathCodec.isValid("0000한")).isFalse();
+    }
+}
@@ -0,0 +1,53 @@
+package kuke.board.comment.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentPathKeyCodecTest {
+    @Test
+    void encodeTest() {
+        byte[] key = CommentPathKeyCodec.encode("0000000010");
+
+        assertThat(key).hasSize(CommentPathKeyCodec.KEY_SIZE);
+        assertThat(Arrays.copyOfRange(key, 0, 8)).containsExactly(0, 0, 0, 1, 0, 0, 0, 63);
+        assertThat(Arrays.copyOfRange(key, 8, 20)).containsOnly(0);
+    }
+
+    @Test
+    void decodeTest() {
+        for (String path : List.of("", "00000", "zzzzz", "0000z00001", "abcde00000ABCDEzzzzz12345")) {
+            assertThat(CommentPathKeyCodec.decode(CommentPathKeyCodec.encode(path))).isEqualTo(path);
+        }
+    }
+
+    /*
+    * byte 비교 순서 = path 문자열 순서(부모 -> 자식 -> 다음 형제)
+    * */
+    @Test
+    void orderTest() {
+        List<String> paths = List.of("00000", "0000000000", "000000000000000", "0000000001", "0000z", "00010", "zzzzz");
+
+        for (int i = 0; i < paths.size() - 1; i++) {
+            assertThat(Arrays.compareUnsigned(
+                    CommentPathKeyCodec.encode(paths.get(i)), CommentPathKeyCodec.encode(paths.get(i + 1))
+            )).isNegative();
+        }
+    }
+
+    /*
+    * 하위 댓글은 (path_key, upperBound] 안, 다음 형제는 범위 밖
+    * */
+    @Test
+    void upperBoundTest() {
+        byte[] key = CommentPathKeyCodec.encode("00001");
+        byte[] upperBound = CommentPathKeyCodec.upperBound("00001");
+
+        assertThat(Arrays.compareUnsigned(CommentPathKeyCodec.encode("00001zzzzzzzzzzzzzzzzzzzz"), upperBound)).isNegative();
+        assertThat(Arrays.compareUnsigned(CommentPathKeyCodec.encode("0000100000"), key)).isPositive();
+        assertThat(Arrays.compareUnsigned(CommentPathKeyCodec.encode("00002"), upperBound)).isPositive();
+    }
+}
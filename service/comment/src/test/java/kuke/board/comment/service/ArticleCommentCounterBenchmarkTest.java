@@ -0,0 +1,120 @@
+package kuke.board.comment.service;
+
+import kuke.board.comment.entity.ArticleCommentCount;
+import kuke.board.comment.repository.ArticleCommentCountRepository;
+import kuke.board.comment.repository.ArticleCommentCountStripeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+/*
+* 하나의 게시글에 댓글이 몰리는 상황에서 댓글 수 증가 처리량 비교
+* - 단일 row update / stripe row update / coalesce(메모리에 모아서 flush)
+* 게시글 id는 매 실행마다 새로 할당하여 기존 데이터에 영향을 주지 않는다.
+* */
+class ArticleCommentCounterBenchmarkTest {
+    @Autowired
+    ArticleCommentCountRepository articleCommentCountRepository;
+    @Autowired
+    ArticleCommentCountStripeRepository articleCommentCountStripeRepository;
+    @Autowired
+    ArticleCommentCounter articleCommentCounter;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    static final int THREAD_COUNT = 10;
+    static final int EXECUTE_COUNT = 3000;
+    static final int STRIPE_COUNT = 16;
+
+    @Test
+    void singleRowTest() throws InterruptedException {
+        Long articleId = newArticleId();
+        articleCommentCountRepository.save(ArticleCommentCount.init(articleId, 0L));
+
+        long elapsed = execute(() -> transactionTemplate.executeWithoutResult(
+                status -> articleCommentCountRepository.increase(articleId)
+        ));
+
+        log.info("single row = {}ms", elapsed);
+        assertThat(articleCommentCountRepository.findById(articleId).orElseThrow().getCommentCount())
+                .isEqualTo(EXECUTE_COUNT);
+    }
+
+    @Test
+    void stripeTest() throws InterruptedException {
+        Long articleId = newArticleId();
+
+        long elapsed = execute(() -> transactionTemplate.executeWithoutResult(
+                status -> articleCommentCountStripeRepository.add(articleId, ThreadLocalRandom.current().nextInt(STRIPE_COUNT), 1L)
+        ));
+
+        log.info("stripe({}) = {}ms", STRIPE_COUNT, elapsed);
+        assertThat(articleCommentCountStripeRepository.sum(articleId)).isEqualTo(EXECUTE_COUNT);
+    }
+
+    /*
+    * 이벤트에 발행될 댓글 수(increase 반환값)는 select 없이 누적값으로 계산되며 중복/누락이 없어야 한다.
+    * */
+    @Test
+    void coalesceTest() throws InterruptedException {
+        Long articleId = newArticleId();
+        articleCommentCountRepository.save(ArticleCommentCount.init(articleId, 100L));
+        ReflectionTestUtils.setField(articleCommentCounter, "stripeCount", STRIPE_COUNT);
+        ReflectionTestUtils.setField(articleCommentCounter, "coalesce", true);
+        ReflectionTestUtils.setField(articleCommentCounter, "cacheTtlMillis", 60_000L);
+
+        try {
+            articleCommentCounter.count(articleId);
+            Set<Long> publishedCounts = ConcurrentHashMap.newKeySet();
+            long elapsed = execute(() -> publishedCounts.add(articleCommentCounter.increase(articleId)));
+            articleCommentCounter.flush();
+
+            log.info("coalesce = {}ms", elapsed);
+            assertThat(publishedCounts).hasSize(EXECUTE_COUNT);
+            assertThat(publishedCounts).contains(101L, 100L + EXECUTE_COUNT);
+            assertThat(articleCommentCounter.count(articleId)).isEqualTo(100L + EXECUTE_COUNT);
+            assertThat(articleCommentCountStripeRepository.sum(articleId)).isEqualTo(100L + EXECUTE_COUNT);
+        } finally {
+            ReflectionTestUtils.setField(articleCommentCounter, "stripeCount", 0);
+            ReflectionTestUtils.setField(articleCommentCounter, "coalesce", false);
+            ReflectionTestUtils.setField(articleCommentCounter, "cacheTtlMillis", 1000L);
+        }
+    }
+
+    long execute(Runnable runnable) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(EXECUTE_COUNT);
+        long start = System.nanoTime();
+        for (int i = 0; i < EXECUTE_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        executorService.shutdown();
+        return elapsed;
+    }
+
+    Long newArticleId() {
+        return ThreadLocalRandom.current().nextLong(1_000_000L, Long.MAX_VALUE);
+    }
+}
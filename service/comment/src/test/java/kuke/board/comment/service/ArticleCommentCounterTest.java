@@ -0,0 +1,99 @@
+package kuke.board.comment.service;
+
+import kuke.board.comment.repository.ArticleCommentCountRepository;
+import kuke.board.comment.repository.ArticleCommentCountStripeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleCommentCounterTest {
+    @Mock
+    ArticleCommentCountRepository articleCommentCountRepository;
+    @Mock
+    ArticleCommentCountStripeRepository articleCommentCountStripeRepository;
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    ArticleCommentCounter articleCommentCounter;
+
+    @BeforeEach
+    void setUp() {
+        articleCommentCounter = new ArticleCommentCounter(
+                articleCommentCountRepository, articleCommentCountStripeRepository, transactionTemplate
+        );
+        ReflectionTestUtils.setField(articleCommentCounter, "stripeCount", 4);
+        ReflectionTestUtils.setField(articleCommentCounter, "cacheTtlMillis", 60_000L);
+    }
+
+    /*
+    * 이벤트 발행용 반환값은 증감 후 누적값, 만료 전까지 다시 합산하지 않음
+    * */
+    @Test
+    void increaseReturnsRunningCountTest() {
+        given(articleCommentCountStripeRepository.sum(1L)).willReturn(10L);
+
+        assertThat(articleCommentCounter.increase(1L)).isEqualTo(11L);
+        assertThat(articleCommentCounter.decrease(1L, 3L)).isEqualTo(8L);
+        assertThat(articleCommentCounter.count(1L)).isEqualTo(8L);
+        verify(articleCommentCountStripeRepository, times(1)).sum(1L);
+    }
+
+    /*
+    * 롤백되면 누적값 되돌림
+    * */
+    @Test
+    void increaseRollbackTest() {
+        given(articleCommentCountStripeRepository.sum(1L)).willReturn(10L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(articleCommentCounter.increase(1L)).isEqualTo(11L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(articleCommentCounter.count(1L)).isEqualTo(10L);
+    }
+
+    /*
+    * coalesce 모드는 커밋된 증감만 모아두었다가 flush
+    * */
+    @Test
+    void coalesceRollbackTest() {
+        ReflectionTestUtils.setField(articleCommentCounter, "coalesce", true);
+        given(articleCommentCountStripeRepository.sum(1L)).willReturn(10L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            articleCommentCounter.increase(1L);
+            articleCommentCounter.flush();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        articleCommentCounter.flush();
+
+        assertThat(articleCommentCounter.count(1L)).isEqualTo(10L);
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+        verify(articleCommentCountStripeRepository, never()).add(anyLong(), anyInt(), anyLong());
+    }
+}
@@ -0,0 +1,56 @@
+package kuke.board.comment.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentCursorTest {
+    @Test
+    void encodeAndDecodeV1Test() {
+        CommentCursor cursor = CommentCursor.decode(CommentCursor.of(1L, 2L).encode());
+
+        assertThat(cursor.getParentCommentId()).isEqualTo(1L);
+        assertThat(cursor.getCommentId()).isEqualTo(2L);
+        assertThat(cursor.getPath()).isNull();
+    }
+
+    @Test
+    void encodeAndDecodeV2Test() {
+        CommentCursor cursor = CommentCursor.decode(CommentCursor.of("0000zabcd").encode());
+
+        assertThat(cursor.getPath()).isEqualTo("0000zabcd");
+        assertThat(cursor.getCommentId()).isNull();
+    }
+
+    @Test
+    void decodeInvalidTokenTest() {
+        assertThatThrownBy(() -> CommentCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommentCursor.decode(CommentCursor.of("x").encode().substring(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /*
+    * 다른 버전의 cursor, 잘못된 token은 400
+    * */
+    @Test
+    void decodeVersionMismatchTest() {
+        String v1Token = CommentCursor.of(1L, 2L).encode();
+        String v2Token = CommentCursor.of("00001").encode();
+
+        assertThat(CommentCursor.decodeV1(v1Token).getCommentId()).isEqualTo(2L);
+        assertThat(CommentCursor.decodeV2(v2Token).getPath()).isEqualTo("00001");
+        assertThatThrownBy(() -> CommentCursor.decodeV1(v2Token))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> CommentCursor.decodeV2(v1Token))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> CommentCursor.decodeV2("not-a-cursor"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
@@ -0,0 +1,136 @@
+package kuke.board.comment.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import kuke.board.comment.entity.CommentPath;
+import kuke.board.comment.entity.CommentV2;
+import kuke.board.comment.repository.ArticleCommentCountRepository;
+import kuke.board.comment.repository.CommentRepositoryV2;
+import kuke.board.common.snowflake.Snowflake;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+import static java.util.function.Predicate.not;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+/*
+* depth 5 댓글 삭제 시 삭제표시된 조상 4개를 함께 삭제할 때의 SQL 실행 수 비교
+* - 기존 : 단계마다 findByPath + findDescendantsTopPath + delete + decrease
+* - 변경 : 조상 IN 조회 + 가까운 path 조회 + delete 1회 + decrease 1회
+* 게시글 id는 매 실행마다 새로 할당하여 기존 데이터에 영향을 주지 않는다.
+* */
+class CommentDeleteStatementCountTest {
+    @Autowired
+    CommentServiceV2 commentServiceV2;
+    @Autowired
+    CommentRepositoryV2 commentRepository;
+    @Autowired
+    ArticleCommentCountRepository articleCommentCountRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @PersistenceContext
+    EntityManager entityManager;
+
+    Snowflake snowflake = new Snowflake();
+
+    @Test
+    void deleteStatementCountTest() {
+        long legacy = countStatements(createDeletedChain(), this::legacyDelete);
+        long batched = countStatements(createDeletedChain(), comment -> ReflectionTestUtils.invokeMethod(
+                AopTestUtils.getTargetObject(commentServiceV2), "delete", comment
+        ));
+
+        log.info("legacy = {}, batched = {}", legacy, batched);
+        assertThat(batched).isLessThanOrEqualTo(4);
+        assertThat(batched).isLessThan(legacy);
+    }
+
+    @Test
+    void deleteRemovesOnlyChildlessAncestorsTest() {
+        Long leafId = createDeletedChain();
+        CommentV2 leaf = commentRepository.findById(leafId).orElseThrow();
+        String parentPath = leaf.getCommentPath().getParentPath();
+        // depth 3 조상에 다른 자식 추가 -> depth 4 조상만 함께 삭제
+        Long siblingId = transactionTemplate.execute(status -> {
+            CommentV2 sibling = CommentV2.create(
+                    snowflake.nextId(), "sibling", leaf.getArticleId(), 1L,
+                    CommentPath.create(parentPath.substring(0, 15) + "00001")
+            );
+            entityManager.persist(sibling);
+            return sibling.getCommentId();
+        });
+
+        commentServiceV2.delete(leafId);
+
+        assertThat(commentRepository.findByPath(parentPath)).isEmpty();
+        assertThat(commentRepository.findByPath(parentPath.substring(0, 15))).isPresent();
+        assertThat(commentRepository.findById(siblingId)).isPresent();
+    }
+
+    long countStatements(Long commentId, Consumer<CommentV2> delete) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            CommentV2 comment = commentRepository.findById(commentId).orElseThrow();
+            statistics.clear();
+            delete.accept(comment);
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    /*
+    * 00000(삭제표시) - 00000(삭제표시) - 00000(삭제표시) - 00000(삭제표시) - 00000
+    * @return depth 5 댓글 id
+    * */
+    Long createDeletedChain() {
+        Long articleId = ThreadLocalRandom.current().nextLong(1_000_000L, Long.MAX_VALUE);
+        return transactionTemplate.execute(status -> {
+            String path = "";
+            CommentV2 comment = null;
+            for (int depth = 1; depth <= CommentPath.MAX_DEPTH; depth++) {
+                path = path + "00000";
+                comment = CommentV2.create(snowflake.nextId(), "content", articleId, 1L, CommentPath.create(path));
+                if (depth < CommentPath.MAX_DEPTH) {
+                    comment.delete();
+                }
+                entityManager.persist(comment);
+            }
+            return comment.getCommentId();
+        });
+    }
+
+    /*
+    * 기존 단계별 재귀 삭제
+    * */
+    void legacyDelete(CommentV2 comment) {
+        commentRepository.delete(comment);
+        articleCommentCountRepository.decrease(comment.getArticleId());
+        if (!comment.isRoot()) {
+            commentRepository.findByPath(comment.getCommentPath().getParentPath())
+                    .filter(CommentV2::getDeleted)
+                    .filter(not(this::hasChildren))
+                    .ifPresent(this::legacyDelete);
+        }
+    }
+
+    boolean hasChildren(CommentV2 comment) {
+        return commentRepository.findDescendantsTopPath(
+                comment.getArticleId(),
+                comment.getCommentPath().getPath()
+        ).isPresent();
+    }
+}
@@ -0,0 +1,98 @@
+package kuke.board.comment.service;
+
+import kuke.board.comment.entity.CommentPath;
+import kuke.board.comment.entity.CommentV2;
+import kuke.board.comment.repository.CommentDescendantCountRepository;
+import kuke.board.comment.repository.CommentRepositoryV2;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentDescendantCounterTest {
+    @InjectMocks
+    CommentDescendantCounter commentDescendantCounter;
+    @Mock
+    CommentRepositoryV2 commentRepository;
+    @Mock
+    CommentDescendantCountRepository commentDescendantCountRepository;
+
+    /*
+    * 모든 조상 +1, 생성된 댓글 0으로 초기화
+    * */
+    @Test
+    void increaseTest() {
+        // when
+        commentDescendantCounter.increase(comment("000010000200003"));
+
+        // then
+        verify(commentDescendantCountRepository).increase(1L, Map.of("0000100002", 1L, "00001", 1L));
+        verify(commentDescendantCountRepository).init(1L, Map.of("000010000200003", 0L));
+    }
+
+    /*
+    * 이관 batch : 00001(이미 이관) 의 자식 0000100001, root 00002와 그 자식 0000200001, 0000200002
+    * 이미 이관된 00001은 증가, 같이 이관된 00002는 batch 안의 자식 수로 초기화
+    * */
+    @Test
+    void increaseAllTest() {
+        // when
+        commentDescendantCounter.increaseAll(1L, List.of(
+                comment("0000100001"), comment("00002"), comment("0000200001"), comment("0000200002")
+        ));
+
+        // then
+        verify(commentDescendantCountRepository).increase(1L, Map.of("00001", 1L));
+        verify(commentDescendantCountRepository).init(1L, Map.of(
+                "0000100001", 0L, "00002", 2L, "0000200001", 0L, "0000200002", 0L
+        ));
+    }
+
+    /*
+    * 00001(유지) - 00002(함께 삭제) - 00003(삭제)
+    * 00002 : -1, 00001 : -2
+    * */
+    @Test
+    void decreaseTest() {
+        // when
+        commentDescendantCounter.decrease(comment("000010000200003"), 2);
+
+        // then
+        verify(commentDescendantCountRepository).increase(1L, Map.of("0000100002", -1L, "00001", -2L));
+    }
+
+    /*
+    * 초기화되지 않은 path만 DB에서 집계
+    * */
+    @Test
+    void readTest() {
+        // given
+        given(commentDescendantCountRepository.read(1L, List.of("00001", "00002")))
+                .willReturn(new HashMap<>(Map.of("00001", 3L)));
+        given(commentRepository.countDescendants(1L, "00002")).willReturn(5L);
+
+        // when
+        Map<String, Long> result = commentDescendantCounter.read(1L, List.of(comment("00001"), comment("00002")));
+
+        // then
+        assertThat(result).isEqualTo(Map.of("00001", 3L, "00002", 5L));
+        verify(commentRepository, never()).countDescendants(eq(1L), eq("00001"));
+        verify(commentDescendantCountRepository).init(1L, Map.of("00002", 5L));
+    }
+
+    CommentV2 comment(String path) {
+        return CommentV2.create(1L, "content", 1L, 1L, CommentPath.create(path));
+    }
+}
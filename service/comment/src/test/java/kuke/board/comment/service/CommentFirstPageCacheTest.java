@@ -0,0 +1,175 @@
+package kuke.board.comment.service;
+
+import kuke.board.comment.entity.CommentPath;
+import kuke.board.comment.entity.CommentV2;
+import kuke.board.comment.service.response.CommentResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentFirstPageCacheTest {
+    CommentFirstPageCache cache = new CommentFirstPageCache(100, 3, 60_000L);
+
+    @Test
+    void getOrLoadTest() {
+        AtomicInteger loadCount = new AtomicInteger();
+        load(1L, loadCount, "00000", "00001", "00002");
+
+        List<CommentResponse> result = load(1L, loadCount, "00000", "00001", "00002");
+        List<CommentResponse> smallPage = cache.getOrLoad(1L, 2L, limit -> List.of());
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(paths(result)).containsExactly("00000", "00001", "00002");
+        assertThat(paths(smallPage)).containsExactly("00000", "00001");
+        assertThat(cache.getHitCount()).isEqualTo(2L);
+        assertThat(cache.getMissCount()).isEqualTo(1L);
+    }
+
+    /*
+    * 캐시 크기보다 큰 pageSize는 캐시하지 않는다.
+    * */
+    @Test
+    void getOrLoadLargePageTest() {
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.getOrLoad(1L, 10L, limit -> {
+            loadCount.incrementAndGet();
+            return List.of();
+        });
+
+        assertThat(cache.size()).isZero();
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    /*
+    * 캐시된 범위 안에 생성된 댓글은 순서대로 추가, 조상 댓글의 하위 댓글 수 증가
+    * */
+    @Test
+    void createInRangeTest() {
+        load(1L, new AtomicInteger(), "00000", "00001", "00002");
+
+        cache.create(comment(10L, "0000000000"));
+        List<CommentResponse> result = cache.getOrLoad(1L, 3L, limit -> List.of());
+
+        assertThat(paths(result)).containsExactly("00000", "0000000000", "00001");
+        assertThat(result.getFirst().getDescendantCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void createOutOfRangeTest() {
+        load(1L, new AtomicInteger(), "00000", "00001", "00002");
+
+        cache.create(comment(10L, "00003"));
+        List<CommentResponse> result = cache.getOrLoad(1L, 3L, limit -> List.of());
+
+        assertThat(paths(result)).containsExactly("00000", "00001", "00002");
+    }
+
+    /*
+    * 게시글의 전체 댓글이 캐시된 경우 마지막 댓글 이후에도 추가
+    * */
+    @Test
+    void createCompleteTest() {
+        load(1L, new AtomicInteger(), "00000");
+
+        cache.create(comment(10L, "00001"));
+        List<CommentResponse> result = cache.getOrLoad(1L, 3L, limit -> List.of());
+
+        assertThat(paths(result)).containsExactly("00000", "00001");
+    }
+
+    /*
+    * 커밋 후 다시 조회되어 이미 캐시에 있는 댓글은 다시 반영하지 않는다.
+    * */
+    @Test
+    void createAlreadyCachedTest() {
+        load(1L, new AtomicInteger(), "00000", "0000000000", "00001");
+
+        cache.create(comment(10L, "0000000000"));
+        List<CommentResponse> result = cache.getOrLoad(1L, 3L, limit -> List.of());
+
+        assertThat(paths(result)).containsExactly("00000", "0000000000", "00001");
+        assertThat(result.getFirst().getDescendantCount()).isEqualTo(1L);
+    }
+
+    /*
+    * 생성 이후(커밋 전후) 조회된 캐시는 반영 여부를 알 수 없으므로 제거
+    * */
+    @Test
+    void createLoadedAfterChangeTest() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.create(comment(10L, "0000100000"));
+            load(1L, new AtomicInteger(), "00000", "00001", "00002");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void markDeletedTest() {
+        load(1L, new AtomicInteger(), "00000", "00001");
+        CommentV2 comment = comment(1L, "00001");
+        comment.delete();
+
+        cache.markDeleted(comment);
+        List<CommentResponse> result = cache.getOrLoad(1L, 3L, limit -> List.of());
+
+        assertThat(result.get(1).getDeleted()).isTrue();
+    }
+
+    /*
+    * 함께 삭제된 조상 댓글까지 제거, 남은 댓글이 pageSize보다 적으면 다시 조회
+    * */
+    @Test
+    void deleteTest() {
+        AtomicInteger loadCount = new AtomicInteger();
+        load(1L, loadCount, "00000", "0000000000", "000000000000000");
+
+        cache.delete(comment(3L, "000000000000000"), 2);
+        List<CommentResponse> result = cache.getOrLoad(1L, 1L, limit -> List.of());
+
+        assertThat(paths(result)).containsExactly("00000");
+        assertThat(result.getFirst().getDescendantCount()).isZero();
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        load(1L, loadCount, "00000", "00001");
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    List<CommentResponse> load(Long articleId, AtomicInteger loadCount, String... paths) {
+        return cache.getOrLoad(articleId, 3L, limit -> {
+            loadCount.incrementAndGet();
+            return responses(paths);
+        });
+    }
+
+    /*
+    * 하위 댓글 수 : 뒤따르는 자손 path 수
+    * */
+    List<CommentResponse> responses(String... paths) {
+        return IntStream.range(0, paths.length)
+                .mapToObj(i -> CommentResponse.from(
+                        comment((long) i, paths[i]),
+                        Arrays.stream(paths).filter(path -> path.length() > paths[i].length() && path.startsWith(paths[i])).count()
+                ))
+                .toList();
+    }
+
+    CommentV2 comment(Long commentId, String path) {
+        return CommentV2.create(commentId, "content", 1L, 1L, CommentPath.create(path));
+    }
+
+    List<String> paths(List<CommentResponse> responses) {
+        return responses.stream().map(CommentResponse::getPath).toList();
+    }
+}
@@ -0,0 +1,191 @@
+package kuke.board.comment.service;
+
+import kuke.board.comment.entity.Comment;
+import kuke.board.comment.entity.CommentMigrationCheckpoint;
+import kuke.board.comment.entity.CommentPath;
+import kuke.board.comment.entity.CommentV2;
+import kuke.board.comment.repository.CommentMigrationCheckpointRepository;
+import kuke.board.comment.repository.CommentRepository;
+import kuke.board.comment.repository.CommentRepositoryV2;
+import kuke.board.comment.repository.CommentV2BatchRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentMigratorTest {
+    @InjectMocks
+    CommentMigrator commentMigrator;
+    @Mock
+    CommentRepositoryV2 commentRepositoryV2;
+    @Mock
+    CommentPathAllocator commentPathAllocator;
+    @Mock
+    CommentRepository commentRepository;
+    @Mock
+    CommentV2BatchRepository commentV2BatchRepository;
+    @Mock
+    CommentMigrationCheckpointRepository commentMigrationCheckpointRepository;
+    @Mock
+    CommentDescendantCounter commentDescendantCounter;
+    @Mock
+    ArticleCommentCounter articleCommentCounter;
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    /*
+    * (parent_comment_id, comment_id) 순서
+    * 1(이전 batch에서 이관된 root)의 자식 5
+    * root 10, 10의 자식 11, 12
+    * root 20
+    * */
+    @Test
+    void assignPathsTest() {
+        // given
+        Comment child5 = Comment.create(5L, "content", 1L, 100L, 1L);
+        Comment root10 = Comment.create(10L, "content", null, 100L, 1L);
+        Comment child11 = Comment.create(11L, "content", 10L, 100L, 1L);
+        Comment child12 = Comment.create(12L, "content", 10L, 100L, 1L);
+        Comment root20 = Comment.create(20L, "content", null, 100L, 1L);
+
+        CommentPath root1Path = CommentPath.create("00000");
+        given(commentRepositoryV2.findById(1L))
+                .willReturn(Optional.of(CommentV2.create(1L, "content", 100L, 1L, root1Path)));
+        given(commentPathAllocator.allocateAll(100L, root1Path, 1))
+                .willReturn(List.of(CommentPath.create("0000000003")));
+        given(commentPathAllocator.allocateAll(eq(100L), path(""), eq(2)))
+                .willReturn(List.of(CommentPath.create("00001"), CommentPath.create("00002")));
+        given(commentPathAllocator.allocateAll(eq(100L), path("00001"), eq(2)))
+                .willReturn(List.of(CommentPath.create("0000100000"), CommentPath.create("0000100001")));
+
+        // when
+        List<CommentV2> result = commentMigrator.assignPaths(100L, List.of(child5, root10, child11, child12, root20));
+
+        // then
+        assertThat(result).extracting(CommentV2::getCommentId).containsExactly(5L, 10L, 11L, 12L, 20L);
+        assertThat(result).extracting(comment -> comment.getCommentPath().getPath())
+                .containsExactly("0000000003", "00001", "0000100000", "0000100001", "00002");
+    }
+
+    /*
+    * 부모 댓글이 없는 경우 이관 중단
+    * */
+    @Test
+    void assignPathsIfParentNotMigratedTest() {
+        // given
+        Comment child = Comment.create(5L, "content", 1L, 100L, 1L);
+        given(commentRepositoryV2.findById(1L)).willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> commentMigrator.assignPaths(100L, List.of(child)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /*
+    * 진행 위치는 batch insert 이후에 잠그고,
+    * 그 사이 V1에서 삭제(20)/삭제표시(10)된 댓글은 V2에 반영 후 남은 댓글만 댓글 수 증가
+    * */
+    @Test
+    void migrateBatchTest() {
+        // given
+        TransactionStatus status = givenBatch(checkpoint(100L));
+        given(commentRepository.findExistingIdsForShare(List.of(10L, 20L))).willReturn(List.of(10L));
+        given(commentRepository.findDeletedIdsForShare(List.of(10L, 20L))).willReturn(List.of(10L));
+
+        // when
+        commentMigrator.run();
+
+        // then
+        InOrder inOrder = inOrder(commentV2BatchRepository, commentMigrationCheckpointRepository);
+        inOrder.verify(commentV2BatchRepository).insertIgnoreAll(anyList());
+        inOrder.verify(commentMigrationCheckpointRepository).findLockedForUpdate(CommentMigrator.MIGRATION_NAME);
+        verify(commentV2BatchRepository).deleteAll(List.of(20L));
+        verify(commentV2BatchRepository).markDeletedAll(List.of(10L));
+        verify(articleCommentCounter).increase(100L, 1L);
+        verify(status, never()).setRollbackOnly();
+        assertThat(commentMigrator.getLastError()).isNull();
+        assertThat(commentMigrator.getMigratedCount()).isEqualTo(2L);
+    }
+
+    /*
+    * batch 조회 이후 다른 이관 작업이 진행 위치를 옮긴 경우 롤백
+    * */
+    @Test
+    void migrateBatchIfCheckpointMovedTest() {
+        // given
+        TransactionStatus status = givenBatch(checkpoint(200L));
+
+        // when
+        commentMigrator.run();
+
+        // then
+        verify(status).setRollbackOnly();
+        verify(articleCommentCounter, never()).increase(anyLong(), anyLong());
+        assertThat(commentMigrator.getLastError()).isNull();
+        assertThat(commentMigrator.getMigratedCount()).isZero();
+    }
+
+    /*
+    * 게시글 100의 root 댓글 10, 20 batch 한번 처리 후 완료
+    * locked : 진행 위치 잠금 조회 결과
+    * */
+    TransactionStatus givenBatch(CommentMigrationCheckpoint locked) {
+        ReflectionTestUtils.setField(commentMigrator, "batchSize", 1000L);
+        ReflectionTestUtils.setField(commentMigrator, "rowsPerSecond", 1_000_000L);
+        ReflectionTestUtils.<AtomicBoolean>getField(commentMigrator, "running").set(true);
+
+        CommentMigrationCheckpoint completed = checkpoint(100L);
+        completed.complete();
+        given(commentMigrationCheckpointRepository.findById(CommentMigrator.MIGRATION_NAME))
+                .willReturn(Optional.of(checkpoint(100L)), Optional.of(completed));
+        given(commentMigrationCheckpointRepository.findLockedForUpdate(CommentMigrator.MIGRATION_NAME))
+                .willReturn(Optional.of(locked));
+
+        TransactionStatus status = mock(TransactionStatus.class);
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(status)
+        );
+
+        given(commentRepository.findAllInfiniteScroll(100L, 1000L)).willReturn(List.of(
+                Comment.create(10L, "content", null, 100L, 1L),
+                Comment.create(20L, "content", null, 100L, 1L)
+        ));
+        given(commentPathAllocator.allocateAll(eq(100L), path(""), eq(2)))
+                .willReturn(List.of(CommentPath.create("00000"), CommentPath.create("00001")));
+        return status;
+    }
+
+    CommentMigrationCheckpoint checkpoint(Long articleId) {
+        CommentMigrationCheckpoint checkpoint = CommentMigrationCheckpoint.init(CommentMigrator.MIGRATION_NAME);
+        checkpoint.nextArticle(articleId);
+        return checkpoint;
+    }
+
+    CommentPath path(String path) {
+        return argThat(commentPath -> commentPath != null && commentPath.getPath().equals(path));
+    }
+}
@@ -0,0 +1,83 @@
+package kuke.board.comment.service;
+
+import org.junit.jupiter.api.Test;
+
+import static kuke.board.comment.service.CommentPageCursorCache.Version.V1;
+import static kuke.board.comment.service.CommentPageCursorCache.Version.V2;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentPageCursorCacheTest {
+    CommentPageCursorCache cache = new CommentPageCursorCache(3000, 10000);
+
+    @Test
+    void findWithoutCursorTest() {
+        CommentPageCursorCache.PageStart start = cache.find(V2, 1L, 3L, 30L);
+
+        assertThat(start.cursor()).isNull();
+        assertThat(start.offset()).isEqualTo(60L);
+    }
+
+    /*
+    * 가장 가까운 앞 페이지 cursor + 남은 offset
+    * */
+    @Test
+    void findNearestCursorTest() {
+        CommentCursor page2 = CommentCursor.of("00002");
+        CommentCursor page5 = CommentCursor.of("00005");
+        cache.put(1L, 2L, 30L, page2);
+        cache.put(1L, 5L, 30L, page5);
+
+        assertThat(cache.find(V2, 1L, 3L, 30L)).isEqualTo(new CommentPageCursorCache.PageStart(page2, 0L));
+        assertThat(cache.find(V2, 1L, 5L, 30L)).isEqualTo(new CommentPageCursorCache.PageStart(page2, 60L));
+        assertThat(cache.find(V2, 1L, 9L, 30L)).isEqualTo(new CommentPageCursorCache.PageStart(page5, 90L));
+        assertThat(cache.find(V2, 1L, 9L, 10L).cursor()).isNull();
+    }
+
+    @Test
+    void evictTest() {
+        cache.put(1L, 1L, 30L, CommentCursor.of("00001"));
+        cache.put(2L, 1L, 30L, CommentCursor.of("00001"));
+
+        cache.evict(1L);
+
+        assertThat(cache.find(V2, 1L, 2L, 30L).cursor()).isNull();
+        assertThat(cache.find(V2, 2L, 2L, 30L).cursor()).isNotNull();
+    }
+
+    /*
+    * ttl이 지난 cursor는 건너뛰고 그 앞 페이지 cursor 사용
+    * */
+    @Test
+    void findExpiredCursorTest() throws InterruptedException {
+        CommentPageCursorCache shortTtlCache = new CommentPageCursorCache(50, 10000);
+        shortTtlCache.put(1L, 2L, 30L, CommentCursor.of("00002"));
+        Thread.sleep(100);
+        CommentCursor page1 = CommentCursor.of("00001");
+        shortTtlCache.put(1L, 1L, 30L, page1);
+
+        assertThat(shortTtlCache.find(V2, 1L, 3L, 30L)).isEqualTo(new CommentPageCursorCache.PageStart(page1, 30L));
+        Thread.sleep(100);
+        assertThat(shortTtlCache.find(V2, 1L, 3L, 30L)).isEqualTo(new CommentPageCursorCache.PageStart(null, 60L));
+    }
+
+    /*
+    * V1/V2 cursor는 서로 섞이지 않고, 제거는 두 버전 모두
+    * */
+    @Test
+    void versionTest() {
+        CommentCursor v1Cursor = CommentCursor.of(1L, 1L);
+        CommentCursor v2Cursor = CommentCursor.of("00001");
+        cache.put(1L, 1L, 30L, v1Cursor);
+
+        assertThat(cache.find(V2, 1L, 2L, 30L).cursor()).isNull();
+        assertThat(cache.find(V1, 1L, 2L, 30L).cursor()).isEqualTo(v1Cursor);
+
+        cache.put(1L, 1L, 30L, v2Cursor);
+        assertThat(cache.find(V1, 1L, 2L, 30L).cursor()).isEqualTo(v1Cursor);
+        assertThat(cache.find(V2, 1L, 2L, 30L).cursor()).isEqualTo(v2Cursor);
+
+        cache.evict(1L);
+        assertThat(cache.find(V1, 1L, 2L, 30L).cursor()).isNull();
+        assertThat(cache.find(V2, 1L, 2L, 30L).cursor()).isNull();
+    }
+}
@@ -0,0 +1,106 @@
+package kuke.board.comment.service;
+
+import kuke.board.comment.entity.CommentPath;
+import kuke.board.comment.repository.CommentPathSequenceRepository;
+import kuke.board.comment.repository.CommentRepositoryV2;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentPathAllocatorTest {
+    @InjectMocks
+    CommentPathAllocator commentPathAllocator;
+    @Mock
+    CommentRepositoryV2 commentRepository;
+    @Mock
+    CommentPathSequenceRepository commentPathSequenceRepository;
+
+    /*
+    * sequence가 있으면 range scan 없이 채번
+    * */
+    @Test
+    void allocateIfSequenceExistsTest() {
+        // given
+        given(commentPathSequenceRepository.increaseIfExists(eq(1L), eq("0000z"), eq(1L), any()))
+                .willReturn(Optional.of(62L));
+
+        // when
+        CommentPath commentPath = commentPathAllocator.allocate(1L, CommentPath.create("0000z"));
+
+        // then
+        assertThat(commentPath.getPath()).isEqualTo("0000z00010");
+        verify(commentRepository, never()).findDescendantsTopPath(anyLong(), anyString());
+        verify(commentPathSequenceRepository, never()).init(anyLong(), anyString(), anyLong(), any());
+    }
+
+    /*
+    * sequence가 없으면 마지막 자식 댓글의 chunk로 초기화
+    * */
+    @Test
+    void allocateIfSequenceNotExistsTest() {
+        // given
+        given(commentPathSequenceRepository.increaseIfExists(eq(1L), eq("0000z"), eq(1L), any()))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(4L));
+        given(commentRepository.findDescendantsTopPath(1L, "0000z"))
+                .willReturn(Optional.of("0000z00003zzzzz"));
+
+        // when
+        CommentPath commentPath = commentPathAllocator.allocate(1L, CommentPath.create("0000z"));
+
+        // then
+        assertThat(commentPath.getPath()).isEqualTo("0000z00004");
+        verify(commentPathSequenceRepository).init(eq(1L), eq("0000z"), eq(3L), any());
+    }
+
+    /*
+    * 자식 댓글이 없으면 -1로 초기화, 첫 자식은 00000
+    * */
+    @Test
+    void allocateFirstChildTest() {
+        // given
+        given(commentPathSequenceRepository.increaseIfExists(eq(1L), eq(""), eq(1L), any()))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(0L));
+        given(commentRepository.findDescendantsTopPath(1L, "")).willReturn(Optional.empty());
+
+        // when
+        CommentPath commentPath = commentPathAllocator.allocate(1L, CommentPath.create(""));
+
+        // then
+        assertThat(commentPath.getPath()).isEqualTo("00000");
+        verify(commentPathSequenceRepository).init(eq(1L), eq(""), eq(-1L), any());
+    }
+
+    /*
+    * 같은 부모의 자식 path를 한번에 채번(INCRBY)
+    * */
+    @Test
+    void allocateAllTest() {
+        // given
+        given(commentPathSequenceRepository.increaseIfExists(eq(1L), eq("0000z"), eq(3L), any()))
+                .willReturn(Optional.of(63L));
+
+        // when
+        List<CommentPath> commentPaths = commentPathAllocator.allocateAll(1L, CommentPath.create("0000z"), 3);
+
+        // then
+        assertThat(commentPaths).extracting(CommentPath::getPath)
+                .containsExactly("0000z0000Z", "0000z0000z", "0000z00010");
+    }
+}
@@ -0,0 +1,48 @@
+package kuke.board.comment.service;
+
+import kuke.board.comment.repository.CommentV2BatchRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentPathKeyBackfillTest {
+    @InjectMocks
+    CommentPathKeyBackfill commentPathKeyBackfill;
+    @Mock
+    CommentV2BatchRepository commentV2BatchRepository;
+
+    /*
+    * 마지막으로 채운 comment_id 이후부터 다음 batch 조회
+    * */
+    @Test
+    void runTest() {
+        // given
+        ReflectionTestUtils.setField(commentPathKeyBackfill, "batchSize", 2);
+        Map<Long, String> first = new LinkedHashMap<>();
+        first.put(1L, "00000");
+        first.put(3L, "0000000000");
+        Map<Long, String> second = Map.of(7L, "00001");
+        given(commentV2BatchRepository.findPathsWithoutPathKey(0L, 2)).willReturn(first);
+        given(commentV2BatchRepository.findPathsWithoutPathKey(3L, 2)).willReturn(second);
+        given(commentV2BatchRepository.findPathsWithoutPathKey(7L, 2)).willReturn(Map.of());
+
+        // when
+        long backfilledCount = commentPathKeyBackfill.run();
+
+        // then
+        assertThat(backfilledCount).isEqualTo(3L);
+        verify(commentV2BatchRepository).updatePathKeys(first);
+        verify(commentV2BatchRepository).updatePathKeys(second);
+    }
+}
@@ -34,6 +34,10 @@ class CommentServiceTest {
      * */
     @Mock
     CommentRepository commentRepository;
+    @Mock
+    CommentMigrationDualWriter commentMigrationDualWriter;
+    @Mock
+    CommentPageCursorCache commentPageCursorCache;
 
     @Test
     @DisplayName("삭제할 댓글이 자식 있으면, 삭제 표시만 한다.")
@@ -0,0 +1,56 @@
+package kuke.board.comment.service.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kuke.board.comment.entity.CommentPath;
+import kuke.board.comment.entity.CommentV2;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentTreeWriterTest {
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    /*
+    * path 순서로 전달된 댓글을 depth에 따라 중첩
+    * 00000
+    *      00000
+    *           00000
+    *      00001
+    * */
+    @Test
+    void writeTest() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (CommentTreeWriter writer = CommentTreeWriter.start(objectMapper, outputStream, 1L, "00000")) {
+            writer.write(comment(1L, "00000"));
+            writer.write(comment(2L, "0000000000"));
+            writer.write(comment(3L, "000000000000000"));
+            writer.write(comment(4L, "0000000001"));
+        }
+
+        JsonNode result = objectMapper.readTree(outputStream.toByteArray());
+        JsonNode root = result.get("comments").get(0);
+        assertThat(result.get("comments")).hasSize(1);
+        assertThat(root.get("commentId").asLong()).isEqualTo(1L);
+        assertThat(root.get("children")).hasSize(2);
+        assertThat(root.get("children").get(0).get("children").get(0).get("commentId").asLong()).isEqualTo(3L);
+        assertThat(root.get("children").get(1).get("commentId").asLong()).isEqualTo(4L);
+        assertThat(root.get("children").get(1).get("children")).isEmpty();
+    }
+
+    @Test
+    void writeEmptyTest() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        CommentTreeWriter.start(objectMapper, outputStream, 1L, "00000").close();
+
+        assertThat(objectMapper.readTree(outputStream.toByteArray()).get("comments")).isEmpty();
+    }
+
+    CommentResponse comment(Long commentId, String path) {
+        return CommentResponse.from(CommentV2.create(commentId, "content", 1L, 1L, CommentPath.create(path)));
+    }
+}
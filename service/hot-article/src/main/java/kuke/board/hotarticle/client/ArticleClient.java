@@ -5,10 +5,14 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -19,6 +23,7 @@ public class ArticleClient {
     * 실제 원본데이터를 추출하기위해 필요한 API 통신정보 구성 클래스
     * */
     private RestClient restClient;
+    private static final int BATCH_SIZE = 100;
 
     @Value("${endpoints.kuke-board-article-service.url}")
     private String articleServiceUrl;
@@ -40,6 +45,31 @@ public class ArticleClient {
         return null;
     }
 
+    /*
+    * 여러 게시글을 batch API로 조회(요청 순서 유지)
+    * BATCH_SIZE 단위로 나누어 요청, 실패한 묶음은 제외한다.
+    * */
+    public List<ArticleResponse> readAll(List<Long> articleIds) {
+        List<ArticleResponse> result = new ArrayList<>();
+        for (int i = 0; i < articleIds.size(); i += BATCH_SIZE) {
+            List<Long> chunk = articleIds.subList(i, Math.min(i + BATCH_SIZE, articleIds.size()));
+            try {
+                List<ArticleResponse> articles = restClient.get()
+                        .uri("/v1/articles/batch?ids=%s".formatted(
+                                chunk.stream().map(String::valueOf).collect(Collectors.joining(","))
+                        ))
+                        .retrieve()
+                        .body(new ParameterizedTypeReference<List<ArticleResponse>>() {});
+                if (articles != null) {
+                    result.addAll(articles);
+                }
+            } catch (Exception e) {
+                log.error("[ArticleClient.readAll] articleIds={}", chunk, e);
+            }
+        }
+        return result;
+    }
+
 
     @Getter
     public static class ArticleResponse {
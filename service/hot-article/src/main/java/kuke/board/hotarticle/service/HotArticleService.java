@@ -12,7 +12,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Objects;
 
 @Slf4j
 @Service
@@ -85,12 +84,10 @@ public class HotArticleService {
     /*
     * 조회(dateStr = YYYYMMDD)
     * - Redis에 있는 인기글 id를 조회하여
-    * - RestClient로 원본 데이터 내용을 추출하여 리스트화
+    * - RestClient로 원본 데이터 내용을 추출하여 리스트화(batch API 1회 요청)
     * */
     public List<HotArticleResponse> readAll(String dateStr) {
-        return hotArticleListRepository.readAll(dateStr).stream()
-                .map(articleClient::read)
-                .filter(Objects::nonNull) //data none null -> filtering
+        return articleClient.readAll(hotArticleListRepository.readAll(dateStr)).stream()
                 .map(HotArticleResponse::from)
                 .toList();
     }
@@ -2,7 +2,10 @@ package kuke.board.hotarticle.service;
 
 import kuke.board.common.event.Event;
 import kuke.board.common.event.EventType;
+import kuke.board.hotarticle.client.ArticleClient;
+import kuke.board.hotarticle.repository.HotArticleListRepository;
 import kuke.board.hotarticle.service.eventhandler.EventHandler;
+import kuke.board.hotarticle.service.response.HotArticleResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -31,6 +34,10 @@ class HotArticleServiceTest {
     List<EventHandler> eventHandlers;
     @Mock
     HotArticleScoreUpdater hotArticleScoreUpdater;
+    @Mock
+    ArticleClient articleClient;
+    @Mock
+    HotArticleListRepository hotArticleListRepository;
 
     /*
     * key point : 조건에 따라 특정 행동을 호출하였는가?
@@ -117,4 +124,28 @@ class HotArticleServiceTest {
         verify(eventHandler, never()).handle(event); //true -> handle 이벤트는 호출안됨 update 이벤트는 호출
         verify(hotArticleScoreUpdater).update(event, eventHandler);
     }
-}
\ No newline at end of file
+
+    /*
+    * 인기글 조회 시 게시글 원본 데이터는 batch로 1회 요청
+    * */
+    @Test
+    void readAllTest() {
+        // given
+        List<Long> articleIds = List.of(1L, 2L, 3L);
+        given(hotArticleListRepository.readAll("20240101")).willReturn(articleIds);
+
+        ArticleClient.ArticleResponse article1 = mock(ArticleClient.ArticleResponse.class);
+        ArticleClient.ArticleResponse article3 = mock(ArticleClient.ArticleResponse.class);
+        given(article1.getArticleId()).willReturn(1L);
+        given(article3.getArticleId()).willReturn(3L);
+        given(articleClient.readAll(articleIds)).willReturn(List.of(article1, article3));
+
+        // when
+        List<HotArticleResponse> result = hotArticleService.readAll("20240101");
+
+        // then
+        assertEquals(List.of(1L, 3L), result.stream().map(HotArticleResponse::getArticleId).toList());
+        verify(articleClient).readAll(articleIds);
+        verify(articleClient, never()).read(anyLong());
+    }
+}
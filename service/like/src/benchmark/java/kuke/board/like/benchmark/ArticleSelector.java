@@ -0,0 +1,36 @@
+package kuke.board.like.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+* 좋아요 대상 게시글 선택(0부터 시작하는 게시글 순번)
+* */
+public interface ArticleSelector {
+    long next();
+
+    /*
+    * 모든 요청이 하나의 게시글에 몰림
+    * */
+    static ArticleSelector hot() {
+        return () -> 0L;
+    }
+
+    /*
+    * k번째 게시글이 선택될 확률 ∝ 1 / (k + 1)^exponent
+    * 누적분포를 미리 계산해두고 이분 탐색
+    * */
+    static ArticleSelector zipfian(int articles, double exponent) {
+        double[] cumulative = new double[articles];
+        double sum = 0;
+        for (int k = 0; k < articles; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        double total = sum;
+        return () -> {
+            int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble() * total);
+            return index >= 0 ? index : Math.min(-index - 1, articles - 1);
+        };
+    }
+}
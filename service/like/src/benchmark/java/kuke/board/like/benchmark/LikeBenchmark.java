@@ -0,0 +1,80 @@
+package kuke.board.like.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import kuke.board.like.LikeApplication;
+import kuke.board.like.service.ArticleLikeCountAccumulator;
+import kuke.board.like.service.ArticleLikeService;
+import kuke.board.like.service.OptimisticLockRetry;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+* 좋아요 수 처리 방식(비관락1, 비관락2, 낙관락, write-behind) 벤치마크
+* - LikeApplication을 in-memory DB(H2, MySQL mode)로 띄워서 ArticleLikeService를 직접 호출(HTTP 제외)
+* - 처리량, p50/p99/p999 지연시간, 낙관락 실패 수, lock 획득 실패 재시도 수를 JSON으로 출력
+* - 절대 수치는 MySQL과 다르므로 같은 환경에서의 회귀 비교 용도
+* */
+public class LikeBenchmark {
+    public static void main(String[] args) throws Exception {
+        LikeBenchmarkConfig config = LikeBenchmarkConfig.fromSystemProperties();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LikeApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(embeddedDatabaseProperties(config))
+                .run(args)) {
+            LikeBenchmarkRunner runner = new LikeBenchmarkRunner(
+                    context.getBean(ArticleLikeService.class),
+                    context.getBean(ArticleLikeCountAccumulator.class),
+                    context.getBean(OptimisticLockRetry.class),
+                    config
+            );
+
+            List<LikeBenchmarkResult> results = new ArrayList<>();
+            for (LikeStrategy strategy : config.strategies()) {
+                LikeBenchmarkResult result = runner.run(strategy);
+                System.out.println(result);
+                results.add(result);
+            }
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("config", config);
+            report.put("results", results);
+            new ObjectMapper()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(new File(config.output()), report);
+            System.out.println("output = " + config.output());
+        }
+    }
+
+    private static Map<String, Object> embeddedDatabaseProperties(LikeBenchmarkConfig config) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:like-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.hikari.maximum-pool-size", config.threads());
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.sql.init.mode", "always");
+        properties.put("spring.sql.init.schema-locations", "classpath:db/rdb-schema.sql");
+        /*
+        * outbox 메시지 전송(kafka)은 벤치마크 대상이 아니므로 broker가 없으면 바로 실패하도록
+        * (outbox insert는 모든 방식이 같은 트랜잭션에서 수행하므로 비교에 포함)
+        * */
+        properties.put("spring.kafka.producer.properties.max.block.ms", 100);
+        /*
+        * 좋아요 사용자 filter(Redis)는 좋아요 수 갱신 전략 비교 대상이 아니므로 제외
+        * */
+        properties.put("article-like-filter.enabled", false);
+        return properties;
+    }
+}
@@ -0,0 +1,59 @@
+package kuke.board.like.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+
+/*
+* 벤치마크 설정(system property, 없으면 기본값)
+* - benchmark.threads : 동시 실행 수
+* - benchmark.virtual-threads : true일 경우 virtual thread로 실행
+* - benchmark.requests : 방식별 좋아요 요청 수
+* - benchmark.warm-up-requests : 방식별 측정 전 실행하고 버리는 요청 수(JIT, connection pool, 캐시 준비)
+* - benchmark.contention : hot(하나의 게시글) / zipfian(게시글 benchmark.articles개, 인기 순위에 따라 편중)
+* - benchmark.zipfian-exponent : zipfian 편중 정도(클수록 상위 게시글에 몰림)
+* - benchmark.strategies : 실행할 방식(쉼표 구분)
+* - benchmark.max-deadlock-retries : lock 획득 실패(deadlock, lock timeout) 시 재시도 횟수
+* - benchmark.output : 결과 JSON 파일 경로
+* */
+public record LikeBenchmarkConfig(
+        int threads,
+        boolean virtualThreads,
+        int requests,
+        int warmUpRequests,
+        String contention,
+        int articles,
+        double zipfianExponent,
+        List<LikeStrategy> strategies,
+        int maxDeadlockRetries,
+        String output
+) {
+    public static LikeBenchmarkConfig fromSystemProperties() {
+        return new LikeBenchmarkConfig(
+                Integer.getInteger("benchmark.threads", 64),
+                Boolean.parseBoolean(System.getProperty("benchmark.virtual-threads", "false")),
+                Integer.getInteger("benchmark.requests", 20000),
+                Integer.getInteger("benchmark.warm-up-requests", 2000),
+                System.getProperty("benchmark.contention", "hot"),
+                Integer.getInteger("benchmark.articles", 1000),
+                Double.parseDouble(System.getProperty("benchmark.zipfian-exponent", "1.0")),
+                Arrays.stream(System.getProperty("benchmark.strategies", allStrategies()).split(","))
+                        .map(String::trim)
+                        .map(LikeStrategy::valueOf)
+                        .toList(),
+                Integer.getInteger("benchmark.max-deadlock-retries", 3),
+                System.getProperty("benchmark.output", "like-benchmark.json")
+        );
+    }
+
+    private static String allStrategies() {
+        return String.join(",", Arrays.stream(LikeStrategy.values()).map(Enum::name).toList());
+    }
+
+    public ArticleSelector articleSelector() {
+        return switch (contention) {
+            case "hot" -> ArticleSelector.hot();
+            case "zipfian" -> ArticleSelector.zipfian(articles, zipfianExponent);
+            default -> throw new IllegalArgumentException("unknown contention. contention=" + contention);
+        };
+    }
+}
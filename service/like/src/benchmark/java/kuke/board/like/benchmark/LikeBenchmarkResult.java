@@ -0,0 +1,33 @@
+package kuke.board.like.benchmark;
+
+import java.util.List;
+
+/*
+* 방식별 벤치마크 결과(JSON 출력)
+* - latency : 요청 1건(재시도 포함) 처리 시간
+* - throughputPerSecond : 초당 성공한 요청 수, attemptedPerSecond : 초당 처리한(성공 + 실패) 요청 수
+* - optimisticLockFailureCount : version 충돌로 실패한 요청 수
+* - deadlockRetryCount : lock 획득 실패(deadlock, lock timeout)로 재시도한 횟수
+* - optimisticLockAttemptCounts : 측정 구간 동안 n번째 시도에서 성공한 건수(OptimisticLockRetry 증가분, [0] = 첫 시도)
+* - optimisticLockExhaustedCount : 측정 구간 동안 최대 시도 횟수를 넘겨 실패한 건수
+* - countMatched : 성공한 좋아요 수와 저장된 좋아요 수 일치 여부
+* */
+public record LikeBenchmarkResult(
+        LikeStrategy strategy,
+        int requests,
+        long successCount,
+        long failureCount,
+        long optimisticLockFailureCount,
+        long deadlockRetryCount,
+        List<Long> optimisticLockAttemptCounts,
+        long optimisticLockExhaustedCount,
+        long elapsedMillis,
+        double throughputPerSecond,
+        double attemptedPerSecond,
+        double p50Micros,
+        double p99Micros,
+        double p999Micros,
+        double maxMicros,
+        boolean countMatched
+) {
+}
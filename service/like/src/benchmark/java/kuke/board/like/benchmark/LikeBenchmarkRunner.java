@@ -0,0 +1,183 @@
+package kuke.board.like.benchmark;
+
+import kuke.board.like.service.ArticleLikeCountAccumulator;
+import kuke.board.like.service.ArticleLikeService;
+import kuke.board.like.service.OptimisticLockRetry;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+* 하나의 방식에 대해 threads개의 worker가 requests건의 좋아요를 나누어 처리
+* - 방식마다 게시글 id 범위를 분리하여 서로 영향을 주지 않는다.
+* - 측정 전 warm-up-requests건을 별도 게시글 id 범위에서 실행하고 결과는 버린다.
+* - 사용자 id는 요청마다 새로 할당(중복 좋아요 없음)
+* */
+public class LikeBenchmarkRunner {
+    private static final long ARTICLE_ID_RANGE = 1_000_000_000L;
+    private static final long WARM_UP_ARTICLE_ID_OFFSET = ARTICLE_ID_RANGE / 2;
+
+    private final ArticleLikeService articleLikeService;
+    private final ArticleLikeCountAccumulator articleLikeCountAccumulator;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final LikeBenchmarkConfig config;
+    private final AtomicLong userIds = new AtomicLong();
+
+    public LikeBenchmarkRunner(
+            ArticleLikeService articleLikeService,
+            ArticleLikeCountAccumulator articleLikeCountAccumulator,
+            OptimisticLockRetry optimisticLockRetry,
+            LikeBenchmarkConfig config
+    ) {
+        this.articleLikeService = articleLikeService;
+        this.articleLikeCountAccumulator = articleLikeCountAccumulator;
+        this.optimisticLockRetry = optimisticLockRetry;
+        this.config = config;
+    }
+
+    /*
+    * 한 번의 실행 결과(측정 또는 warm-up)
+    * */
+    private record Execution(
+            long[] latencies,
+            Map<Long, LongAdder> expectedCounts,
+            long optimisticLockFailureCount,
+            long deadlockRetryCount,
+            long failureCount,
+            long elapsedNanos
+    ) {
+    }
+
+    public LikeBenchmarkResult run(LikeStrategy strategy) throws InterruptedException {
+        long articleIdBase = (strategy.ordinal() + 1) * ARTICLE_ID_RANGE;
+        if (config.warmUpRequests() > 0) {
+            execute(strategy, articleIdBase + WARM_UP_ARTICLE_ID_OFFSET, config.warmUpRequests());
+            articleLikeCountAccumulator.flush();
+        }
+
+        long[] attemptCountsBefore = optimisticLockRetry.getAttemptCounts();
+        long exhaustedCountBefore = optimisticLockRetry.getExhaustedCount();
+        Execution execution = execute(strategy, articleIdBase, config.requests());
+        long[] attemptCountsAfter = optimisticLockRetry.getAttemptCounts();
+        long exhaustedCountAfter = optimisticLockRetry.getExhaustedCount();
+
+        articleLikeCountAccumulator.flush();
+        Map<Long, LongAdder> expectedCounts = execution.expectedCounts();
+        long successCount = expectedCounts.values().stream().mapToLong(LongAdder::sum).sum();
+        boolean countMatched = expectedCounts.entrySet().stream()
+                .allMatch(entry -> articleLikeService.count(entry.getKey()) == entry.getValue().sum());
+
+        long[] latencies = execution.latencies();
+        long elapsedNanos = execution.elapsedNanos();
+        Arrays.sort(latencies);
+        return new LikeBenchmarkResult(
+                strategy,
+                config.requests(),
+                successCount,
+                execution.failureCount(),
+                execution.optimisticLockFailureCount(),
+                execution.deadlockRetryCount(),
+                delta(attemptCountsBefore, attemptCountsAfter),
+                exhaustedCountAfter - exhaustedCountBefore,
+                elapsedNanos / 1_000_000,
+                successCount * 1_000_000_000.0 / elapsedNanos,
+                config.requests() * 1_000_000_000.0 / elapsedNanos,
+                percentileMicros(latencies, 0.5),
+                percentileMicros(latencies, 0.99),
+                percentileMicros(latencies, 0.999),
+                latencies[latencies.length - 1] / 1000.0,
+                countMatched
+        );
+    }
+
+    private Execution execute(LikeStrategy strategy, long articleIdBase, int requests) throws InterruptedException {
+        ArticleSelector articleSelector = config.articleSelector();
+        long[] latencies = new long[requests];
+        AtomicInteger nextRequest = new AtomicInteger();
+        Map<Long, LongAdder> expectedCounts = new ConcurrentHashMap<>();
+        LongAdder optimisticLockFailureCount = new LongAdder();
+        LongAdder deadlockRetryCount = new LongAdder();
+        LongAdder failureCount = new LongAdder();
+
+        ExecutorService executorService = config.virtualThreads() ?
+                Executors.newVirtualThreadPerTaskExecutor() :
+                Executors.newFixedThreadPool(config.threads());
+        CountDownLatch latch = new CountDownLatch(config.threads());
+        long start = System.nanoTime();
+        for (int worker = 0; worker < config.threads(); worker++) {
+            executorService.submit(() -> {
+                try {
+                    int request;
+                    while ((request = nextRequest.getAndIncrement()) < requests) {
+                        Long articleId = articleIdBase + articleSelector.next();
+                        long requestStart = System.nanoTime();
+                        try {
+                            likeWithDeadlockRetry(strategy, articleId, userIds.incrementAndGet(), deadlockRetryCount);
+                            expectedCounts.computeIfAbsent(articleId, key -> new LongAdder()).increment();
+                        } catch (OptimisticLockingFailureException e) {
+                            optimisticLockFailureCount.increment();
+                        } catch (Exception e) {
+                            failureCount.increment();
+                        }
+                        latencies[request] = System.nanoTime() - requestStart;
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executorService.shutdown();
+
+        return new Execution(
+                latencies,
+                expectedCounts,
+                optimisticLockFailureCount.sum(),
+                deadlockRetryCount.sum(),
+                failureCount.sum(),
+                elapsedNanos
+        );
+    }
+
+    private List<Long> delta(long[] before, long[] after) {
+        List<Long> delta = new ArrayList<>();
+        for (int i = 0; i < after.length; i++) {
+            delta.add(after[i] - before[i]);
+        }
+        return delta;
+    }
+
+    /*
+    * lock 획득 실패(deadlock, lock timeout)는 요청 전체를 다시 시도
+    * */
+    private void likeWithDeadlockRetry(LikeStrategy strategy, Long articleId, Long userId, LongAdder deadlockRetryCount) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                strategy.like(articleLikeService, articleId, userId);
+                return;
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= config.maxDeadlockRetries()) {
+                    throw e;
+                }
+                deadlockRetryCount.increment();
+            }
+        }
+    }
+
+    private double percentileMicros(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1000.0;
+    }
+}
@@ -0,0 +1,35 @@
+package kuke.board.like.benchmark;
+
+import kuke.board.like.service.ArticleLikeService;
+
+/*
+* 벤치마크 대상 좋아요 수 처리 방식
+* */
+public enum LikeStrategy {
+    PESSIMISTIC_LOCK_1 {
+        @Override
+        void like(ArticleLikeService articleLikeService, Long articleId, Long userId) {
+            articleLikeService.likePessimisticLock1(articleId, userId);
+        }
+    },
+    PESSIMISTIC_LOCK_2 {
+        @Override
+        void like(ArticleLikeService articleLikeService, Long articleId, Long userId) {
+            articleLikeService.likePessimisticLock2(articleId, userId);
+        }
+    },
+    OPTIMISTIC_LOCK {
+        @Override
+        void like(ArticleLikeService articleLikeService, Long articleId, Long userId) {
+            articleLikeService.likeOptimisticLock(articleId, userId);
+        }
+    },
+    WRITE_BEHIND {
+        @Override
+        void like(ArticleLikeService articleLikeService, Long articleId, Long userId) {
+            articleLikeService.likeWriteBehind(articleId, userId);
+        }
+    };
+
+    abstract void like(ArticleLikeService articleLikeService, Long articleId, Long userId);
+}
@@ -2,9 +2,13 @@ package kuke.board.like.controller;
 
 import kuke.board.like.service.ArticleLikeService;
 import kuke.board.like.service.response.ArticleLikeResponse;
+import kuke.board.like.service.response.ArticleLikerFilterStatsResponse;
+import kuke.board.like.service.response.OptimisticLockRetryStatsResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class ArticleLikeController {
@@ -21,6 +25,18 @@ public class ArticleLikeController {
         return articleLikeService.read(articleId, userId);
     }
 
+    /*
+    * 여러 게시글 좋아요 여부 한번에 조회(articleIds=1,2,3)
+    * 좋아요한 게시글 id만 반환
+    * */
+    @GetMapping("/v1/article-likes/users/{userId}/batch")
+    public List<Long> readLikedArticleIds(
+            @PathVariable("userId") Long userId,
+            @RequestParam("articleIds") List<Long> articleIds
+    ) {
+        return articleLikeService.readLikedArticleIds(userId, articleIds);
+    }
+
     /*
     * 좋아요
     * */
@@ -98,4 +114,36 @@ public class ArticleLikeController {
         articleLikeService.unlikeOptimisticLock(articleId, userId);
     }
 
+    /*
+    * 낙관락 재시도 횟수 통계
+    * */
+    @GetMapping("/v1/article-likes/optimistic-lock/retry-stats")
+    public OptimisticLockRetryStatsResponse readOptimisticLockRetryStats() {
+        return articleLikeService.readOptimisticLockRetryStats();
+    }
+
+    /*
+    * 좋아요 사용자 filter 통계(실측 false positive rate)
+    * */
+    @GetMapping("/v1/article-likes/filter/stats")
+    public ArticleLikerFilterStatsResponse readLikerFilterStats() {
+        return articleLikeService.readLikerFilterStats();
+    }
+
+    @PostMapping("/v1/article-likes/articles/{articleId}/users/{userId}/write-behind")
+    public void likeWriteBehind(
+            @PathVariable("articleId") Long articleId,
+            @PathVariable("userId") Long userId
+    ) {
+        articleLikeService.likeWriteBehind(articleId, userId);
+    }
+
+    @DeleteMapping("/v1/article-likes/articles/{articleId}/users/{userId}/write-behind")
+    public void unlikeWriteBehind(
+            @PathVariable("articleId") Long articleId,
+            @PathVariable("userId") Long userId
+    ) {
+        articleLikeService.unlikeWriteBehind(articleId, userId);
+    }
+
 }
@@ -0,0 +1,52 @@
+package kuke.board.like.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+* 게시글별 좋아요 수 증감을 한번에 반영(JDBC batch)
+* - 최초 없을 경우 insert, 있을 경우 update(init 분기 불필요)
+* - 낙관락 방식과 함께 사용되더라도 충돌을 감지할 수 있도록 version 증가
+* - 반영한 row의 version 반환(호출하는 쪽 트랜잭션 안에서 row lock을 잡은 상태로 조회)
+* */
+@Repository
+@RequiredArgsConstructor
+public class ArticleLikeCountBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int BATCH_SIZE = 500;
+
+    public Map<Long, Long> addAll(Map<Long, Long> deltaByArticleId) {
+        jdbcTemplate.batchUpdate(
+                "insert into article_like_count(article_id, like_count, version) values (?, ?, 0) " +
+                        "on duplicate key update like_count = like_count + values(like_count), version = version + 1",
+                new ArrayList<>(deltaByArticleId.entrySet()),
+                BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getKey());
+                    ps.setLong(2, entry.getValue());
+                }
+        );
+
+        Map<Long, Long> versionByArticleId = new HashMap<>();
+        List<Long> articleIds = new ArrayList<>(deltaByArticleId.keySet());
+        for (int from = 0; from < articleIds.size(); from += BATCH_SIZE) {
+            List<Long> chunk = articleIds.subList(from, Math.min(from + BATCH_SIZE, articleIds.size()));
+            jdbcTemplate.query(
+                    "select article_id, version from article_like_count " +
+                            "where article_id in (" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")",
+                    (RowCallbackHandler) rs -> versionByArticleId.put(rs.getLong("article_id"), rs.getLong("version")),
+                    chunk.toArray()
+            );
+        }
+        return versionByArticleId;
+    }
+}
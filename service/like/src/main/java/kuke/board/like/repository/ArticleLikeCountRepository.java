@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -35,4 +36,14 @@ public interface ArticleLikeCountRepository extends JpaRepository<ArticleLikeCou
     )
     @Modifying //위 쿼리에 대한 세트
     int decrease(@Param("articleId") Long articleId);
+
+    /*
+    * 좋아요 수 상위 게시글 id(좋아요 사용자 filter 시작 시 생성용)
+    * like_count index가 없으므로 서버 시작 시에만 사용
+    * */
+    @Query(
+            value = "select article_id from article_like_count order by like_count desc limit :limit",
+            nativeQuery = true
+    )
+    List<Long> findTopArticleIds(@Param("limit") Long limit);
 }
@@ -2,8 +2,11 @@ package kuke.board.like.repository;
 
 import kuke.board.like.entity.ArticleLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +16,35 @@ public interface ArticleLikeRepository extends JpaRepository<ArticleLike, Long>
     * 게시글 당 1회이므로 List Collection이 아닌 Object.
     * */
     Optional<ArticleLike> findByArticleIdAndUserId(Long articleId, Long userId);
+
+    /*
+    * 여러 게시글 중 사용자가 좋아요한 게시글 id
+    * idx_article_id_user_id(article_id, user_id) Covering Index, (article_id, user_id) 쌍마다 index lookup
+    * */
+    @Query(
+            value = "select article_id from article_like " +
+                    "where article_id in (:articleIds) and user_id = :userId",
+            nativeQuery = true
+    )
+    List<Long> findLikedArticleIds(
+            @Param("userId") Long userId,
+            @Param("articleIds") List<Long> articleIds
+    );
+
+    /*
+    * 게시글에 좋아요한 사용자 id(좋아요 사용자 Bloom filter 생성용)
+    * 좋아요가 많은 게시글도 한번에 모두 읽지 않도록 user_id 기준으로 limit개씩 조회
+    * idx_article_id_user_id Covering Index
+    * */
+    @Query(
+            value = "select user_id from article_like " +
+                    "where article_id = :articleId and user_id > :lastUserId " +
+                    "order by user_id asc limit :limit",
+            nativeQuery = true
+    )
+    List<Long> findUserIdsByArticleId(
+            @Param("articleId") Long articleId,
+            @Param("lastUserId") Long lastUserId,
+            @Param("limit") Long limit
+    );
 }
@@ -0,0 +1,327 @@
+package kuke.board.like.repository;
+
+import kuke.board.like.service.LikerBloomFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+* 게시글 좋아요 사용자 Bloom filter 저장(인스턴스 재시작, 다른 인스턴스와 공유)
+* - bitmap : like::article::{article_id}::liker_filter::{generation} (Redis string, SETBIT)
+* - 설정값/삽입 수/generation : like::article::{article_id}::liker_filter_meta (Redis hash)
+* - 다시 생성(rebuild) 중에는 building generation이 함께 기록되며, 좋아요 추가는 현재/building 양쪽에 반영
+*   rebuild 완료 시 테이블에서 만든 bitmap을 building bitmap에 OR로 합친 후 현재 generation으로 교체(덮어쓰지 않음)
+* - 조회는 bitmap 전체를 읽지 않고 사용자의 k개 위치만 GETBIT로 확인(여러 게시글은 pipeline으로 한번에)
+* */
+@Repository
+@RequiredArgsConstructor
+public class ArticleLikerFilterRepository {
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String BITMAP_KEY_PREFIX_FORMAT = "like::article::%s::liker_filter::";
+    private static final String META_KEY_FORMAT = "like::article::%s::liker_filter_meta";
+
+    /*
+    * 조회한 generation이 그대로일 때만 반영(rebuild 시작/완료와 경합 시 0을 반환하고 다시 조회 후 재시도)
+    * 새로 설정된 bit가 있을 때만 삽입 수 증가(커밋 전/후 중복 추가)
+    * */
+    private static final String ADD_SCRIPT = """
+            local generation = redis.call('hget', KEYS[1], 'generation') or ''
+            local buildingGeneration = redis.call('hget', KEYS[1], 'buildingGeneration') or ''
+            if generation ~= ARGV[1] or buildingGeneration ~= ARGV[2] then
+                return 0
+            end
+            local currentCount = tonumber(ARGV[3])
+            local currentChanged = false
+            for i = 4, 3 + currentCount do
+                if redis.call('setbit', KEYS[2], ARGV[i], 1) == 0 then
+                    currentChanged = true
+                end
+            end
+            local buildingChanged = false
+            for i = 4 + currentCount, #ARGV do
+                if redis.call('setbit', KEYS[3], ARGV[i], 1) == 0 then
+                    buildingChanged = true
+                end
+            end
+            if currentChanged then
+                redis.call('hincrby', KEYS[1], 'insertedCount', 1)
+            end
+            if buildingChanged then
+                redis.call('hincrby', KEYS[1], 'buildingInsertedCount', 1)
+            end
+            return 1
+            """;
+
+    /*
+    * 현재 filter에서 k개 위치 확인
+    * 조회한 generation이 아니면(rebuild 완료, 제거) GENERATION_CHANGED, bitmap이 유실되었으면 BITMAP_LOST
+    * */
+    private static final String MIGHT_CONTAIN_SCRIPT = """
+            if redis.call('hget', KEYS[1], 'generation') ~= ARGV[1] then
+                return -1
+            end
+            if redis.call('exists', KEYS[2]) == 0 and tonumber(redis.call('hget', KEYS[1], 'insertedCount') or '0') > 0 then
+                return -2
+            end
+            for i = 2, #ARGV do
+                if redis.call('getbit', KEYS[2], ARGV[i]) == 0 then
+                    return 0
+                end
+            end
+            return 1
+            """;
+
+    public static final long NOT_CONTAINED = 0L;
+    public static final long MIGHT_CONTAIN = 1L;
+    public static final long GENERATION_CHANGED = -1L;
+    public static final long BITMAP_LOST = -2L;
+
+    /*
+    * rebuild 시작(building generation 등록)
+    * 다른 rebuild가 진행중이면 0, 단 staleMillis 이상 완료되지 않았다면(중단) 새로 시작
+    * */
+    private static final String START_REBUILD_SCRIPT = """
+            local building = redis.call('hmget', KEYS[1], 'buildingGeneration', 'buildingStartedAt')
+            if building[1] then
+                if tonumber(ARGV[1]) - tonumber(building[2]) < tonumber(ARGV[2]) then
+                    return 0
+                end
+                redis.call('del', ARGV[6] .. building[1])
+            end
+            local generation = redis.call('hincrby', KEYS[1], 'lastGeneration', 1)
+            redis.call('hset', KEYS[1],
+                'buildingGeneration', generation,
+                'buildingBitSize', ARGV[3],
+                'buildingHashCount', ARGV[4],
+                'buildingCapacity', ARGV[5],
+                'buildingStartedAt', ARGV[1],
+                'buildingInsertedCount', 0)
+            return generation
+            """;
+
+    /*
+    * rebuild 완료
+    * 테이블에서 만든 bitmap을 building bitmap(rebuild 중 추가된 좋아요)에 OR로 합친 후 현재 generation으로 교체
+    * */
+    private static final String FINISH_REBUILD_SCRIPT = """
+            if redis.call('hget', KEYS[1], 'buildingGeneration') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('set', KEYS[3], ARGV[2])
+            redis.call('bitop', 'or', KEYS[2], KEYS[2], KEYS[3])
+            redis.call('del', KEYS[3])
+            local previous = redis.call('hget', KEYS[1], 'generation')
+            if previous then
+                redis.call('del', ARGV[4] .. previous)
+            end
+            local building = redis.call('hmget', KEYS[1],
+                'buildingBitSize', 'buildingHashCount', 'buildingCapacity', 'buildingInsertedCount')
+            redis.call('hset', KEYS[1],
+                'generation', ARGV[1],
+                'bitSize', building[1],
+                'hashCount', building[2],
+                'capacity', building[3],
+                'insertedCount', tonumber(ARGV[3]) + tonumber(building[4]))
+            redis.call('hdel', KEYS[1],
+                'buildingGeneration', 'buildingBitSize', 'buildingHashCount',
+                'buildingCapacity', 'buildingStartedAt', 'buildingInsertedCount')
+            return 1
+            """;
+
+    /*
+    * 현재/building filter 제거(lastGeneration은 유지하여 generation 재사용 방지)
+    * */
+    private static final String INVALIDATE_SCRIPT = """
+            local generations = redis.call('hmget', KEYS[1], 'generation', 'buildingGeneration')
+            for i = 1, 2 do
+                if generations[i] then
+                    redis.call('del', ARGV[1] .. generations[i])
+                end
+            end
+            redis.call('hdel', KEYS[1],
+                'generation', 'bitSize', 'hashCount', 'capacity', 'insertedCount',
+                'buildingGeneration', 'buildingBitSize', 'buildingHashCount',
+                'buildingCapacity', 'buildingStartedAt', 'buildingInsertedCount')
+            return 1
+            """;
+
+    public record FilterMeta(long generation, int bitSize, int hashCount, long capacity) {
+    }
+
+    /*
+    * current : 조회에 사용하는 filter(없으면 null)
+    * building : rebuild 중인 filter(없으면 null)
+    * */
+    public record FilterState(FilterMeta current, long insertedCount, FilterMeta building) {
+    }
+
+    public FilterState readState(Long articleId) {
+        Map<Object, Object> meta = redisTemplate.opsForHash().entries(generateMetaKey(articleId));
+        FilterMeta current = meta.containsKey("generation") ? new FilterMeta(
+                parseLong(meta, "generation"),
+                (int) parseLong(meta, "bitSize"),
+                (int) parseLong(meta, "hashCount"),
+                parseLong(meta, "capacity")
+        ) : null;
+        FilterMeta building = meta.containsKey("buildingGeneration") ? new FilterMeta(
+                parseLong(meta, "buildingGeneration"),
+                (int) parseLong(meta, "buildingBitSize"),
+                (int) parseLong(meta, "buildingHashCount"),
+                parseLong(meta, "buildingCapacity")
+        ) : null;
+        return new FilterState(current, current == null ? 0L : parseLong(meta, "insertedCount"), building);
+    }
+
+    /*
+    * 게시글별 현재 filter(meta)에 사용자가 있을 수 있는지 pipeline으로 한번에 확인
+    * @return articleId -> NOT_CONTAINED, MIGHT_CONTAIN, GENERATION_CHANGED, BITMAP_LOST
+    * */
+    public Map<Long, Long> mightContainAll(Long userId, Map<Long, FilterMeta> metaByArticleId) {
+        if (metaByArticleId.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> articleIds = new ArrayList<>(metaByArticleId.keySet());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long articleId : articleIds) {
+                FilterMeta meta = metaByArticleId.get(articleId);
+                List<byte[]> keysAndArgs = new ArrayList<>();
+                keysAndArgs.add(toBytes(generateMetaKey(articleId)));
+                keysAndArgs.add(toBytes(generateBitmapKey(articleId, meta.generation())));
+                keysAndArgs.add(toBytes(String.valueOf(meta.generation())));
+                for (long position : positions(meta, userId)) {
+                    keysAndArgs.add(toBytes(String.valueOf(position)));
+                }
+                connection.scriptingCommands().eval(
+                        toBytes(MIGHT_CONTAIN_SCRIPT),
+                        ReturnType.INTEGER,
+                        2,
+                        keysAndArgs.toArray(new byte[0][])
+                );
+            }
+            return null;
+        });
+        Map<Long, Long> resultByArticleId = new HashMap<>();
+        for (int i = 0; i < articleIds.size(); i++) {
+            resultByArticleId.put(articleIds.get(i), (Long) results.get(i));
+        }
+        return resultByArticleId;
+    }
+
+    /*
+    * 현재/building filter에 사용자 추가
+    * @return 반영 여부(filter가 없으면 반영할 것이 없으므로 true, generation 경합 시 false)
+    * */
+    public boolean add(Long articleId, Long userId) {
+        FilterState state = readState(articleId);
+        if (state.current() == null && state.building() == null) {
+            return true;
+        }
+        long[] currentPositions = positions(state.current(), userId);
+        long[] buildingPositions = positions(state.building(), userId);
+
+        List<byte[]> keysAndArgs = new ArrayList<>();
+        keysAndArgs.add(toBytes(generateMetaKey(articleId)));
+        keysAndArgs.add(toBytes(generateBitmapKey(articleId, state.current())));
+        keysAndArgs.add(toBytes(generateBitmapKey(articleId, state.building())));
+        keysAndArgs.add(toBytes(generation(state.current())));
+        keysAndArgs.add(toBytes(generation(state.building())));
+        keysAndArgs.add(toBytes(String.valueOf(currentPositions.length)));
+        for (long position : currentPositions) {
+            keysAndArgs.add(toBytes(String.valueOf(position)));
+        }
+        for (long position : buildingPositions) {
+            keysAndArgs.add(toBytes(String.valueOf(position)));
+        }
+        return eval(ADD_SCRIPT, 3, keysAndArgs) == 1L;
+    }
+
+    /*
+    * @return building generation, 다른 rebuild가 진행중이면 null
+    * */
+    public Long startRebuild(Long articleId, LikerBloomFilter filter, long staleMillis) {
+        Long generation = eval(START_REBUILD_SCRIPT, 1, List.of(
+                toBytes(generateMetaKey(articleId)),
+                toBytes(String.valueOf(System.currentTimeMillis())),
+                toBytes(String.valueOf(staleMillis)),
+                toBytes(String.valueOf(filter.getBitSize())),
+                toBytes(String.valueOf(filter.getHashCount())),
+                toBytes(String.valueOf(filter.getCapacity())),
+                toBytes(generateBitmapKeyPrefix(articleId))
+        ));
+        return generation == 0L ? null : generation;
+    }
+
+    /*
+    * @return 완료 여부(그 사이 다른 rebuild가 시작되었거나 제거되었으면 false)
+    * */
+    public boolean finishRebuild(Long articleId, long generation, LikerBloomFilter filter) {
+        String bitmapKey = generateBitmapKey(articleId, generation);
+        return eval(FINISH_REBUILD_SCRIPT, 3, List.of(
+                toBytes(generateMetaKey(articleId)),
+                toBytes(bitmapKey),
+                toBytes(bitmapKey + "::rebuild"),
+                toBytes(String.valueOf(generation)),
+                filter.toByteArray(),
+                toBytes(String.valueOf(filter.getInsertedCount())),
+                toBytes(generateBitmapKeyPrefix(articleId))
+        )) == 1L;
+    }
+
+    public void invalidate(Long articleId) {
+        eval(INVALIDATE_SCRIPT, 1, List.of(
+                toBytes(generateMetaKey(articleId)),
+                toBytes(generateBitmapKeyPrefix(articleId))
+        ));
+    }
+
+    private Long eval(String script, int numKeys, List<byte[]> keysAndArgs) {
+        return redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                toBytes(script),
+                ReturnType.INTEGER,
+                numKeys,
+                keysAndArgs.toArray(new byte[0][])
+        ));
+    }
+
+    private long[] positions(FilterMeta meta, Long userId) {
+        return meta == null ? new long[0] : LikerBloomFilter.positions(userId, meta.bitSize(), meta.hashCount());
+    }
+
+    private String generation(FilterMeta meta) {
+        return meta == null ? "" : String.valueOf(meta.generation());
+    }
+
+    private long parseLong(Map<Object, Object> meta, String field) {
+        return Long.parseLong((String) meta.get(field));
+    }
+
+    private byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String generateBitmapKey(Long articleId, FilterMeta meta) {
+        // filter가 없으면 사용되지 않는 key(script에서 접근하지 않음)
+        return meta == null ? generateBitmapKeyPrefix(articleId) + "none" : generateBitmapKey(articleId, meta.generation());
+    }
+
+    private String generateBitmapKey(Long articleId, long generation) {
+        return generateBitmapKeyPrefix(articleId) + generation;
+    }
+
+    private String generateBitmapKeyPrefix(Long articleId) {
+        return BITMAP_KEY_PREFIX_FORMAT.formatted(articleId);
+    }
+
+    private String generateMetaKey(Long articleId) {
+        return META_KEY_FORMAT.formatted(articleId);
+    }
+}
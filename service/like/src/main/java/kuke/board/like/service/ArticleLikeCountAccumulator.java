@@ -0,0 +1,227 @@
+package kuke.board.like.service;
+
+import jakarta.annotation.PreDestroy;
+import kuke.board.like.entity.ArticleLikeCount;
+import kuke.board.like.repository.ArticleLikeCountBatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/*
+* 좋아요 수 write-behind
+* - 좋아요 수 증감을 article_like_count row lock 없이 메모리에 모아두었다가
+*   flush 주기마다 모든 게시글의 증감을 하나의 batch update로 반영
+* - 좋아요(article_like) 트랜잭션이 롤백되면 증감도 되돌린다.
+* - 조회 시 반영된 좋아요 수 + 아직 반영되지 않은 증감
+*   flush는 반영한 row의 version을 커밋 전에 기록해두고, 조회는 읽은 row의 version과 비교하여
+*   읽은 값에 아직 포함되지 않은 증감만 더한다.(DB 반영 동안 lock을 잡지 않으므로 조회가 flush를 기다리지 않는다)
+*   트랜잭션 snapshot이 flush 커밋 이전이어도 포함되지 않은 증감을 더할 수 있도록 반영된 증감은 일정 시간 유지한다.
+* - flush 이전 장애 시 모아둔 증감은 유실될 수 있으므로, 좋아요 수 정확성보다 처리량이 중요한 게시글(인기 게시글)에 사용
+* */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleLikeCountAccumulator {
+    private final ArticleLikeCountBatchRepository articleLikeCountBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${article-like-count.flushed-retention-millis:10000}")
+    private long flushedRetentionMillis;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    /*
+    * flush로 DB에 반영 중이거나 반영된 증감
+    * */
+    private final Map<Long, Queue<FlushedDelta>> flushed = new ConcurrentHashMap<>();
+    private static final Queue<FlushedDelta> EMPTY_QUEUE = new ConcurrentLinkedQueue<>();
+    /*
+    * pending -> flushed 이동(메모리)만 보호, DB 반영 동안에는 잡지 않는다.
+    * */
+    private final StampedLock lock = new StampedLock();
+
+    /*
+    * version : 증감을 반영한 article_like_count row의 version(반영 전이면 null)
+    * row version은 반영할 때마다 증가하므로 조회한 row의 version이 이보다 작으면 아직 포함되지 않은 증감
+    * */
+    private static class FlushedDelta {
+        private final long delta;
+        private final long flushedAt;
+        private volatile Long version;
+
+        private FlushedDelta(long delta, long flushedAt) {
+            this.delta = delta;
+            this.flushedAt = flushedAt;
+        }
+
+        private boolean isApplied() {
+            return version != null;
+        }
+
+        private boolean isIncludedIn(long persistedVersion) {
+            Long appliedVersion = version;
+            return appliedVersion != null && appliedVersion <= persistedVersion;
+        }
+    }
+
+    /*
+    * 호출하는 쪽의 트랜잭션이 롤백되면 되돌린다.
+    * */
+    public void add(Long articleId, long delta) {
+        pendingOf(articleId).add(delta);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    pendingOf(articleId).add(-delta);
+                }
+            }
+        });
+    }
+
+    /*
+    * 반영된 좋아요 수(persisted) + 읽은 row에 아직 포함되지 않은 증감
+    * - row를 먼저 읽은 뒤 증감을 확인해야 하므로 조회는 여기서 호출한다.
+    * - 호출하는 쪽 트랜잭션의 snapshot(row version) 기준이므로, snapshot 이후 커밋된 flush의 증감도 포함된다.
+    * */
+    public long count(Long articleId, Supplier<Optional<ArticleLikeCount>> persisted) {
+        Optional<ArticleLikeCount> articleLikeCount = persisted.get();
+        long persistedCount = articleLikeCount.map(ArticleLikeCount::getLikeCount).orElse(0L);
+        long persistedVersion = articleLikeCount.map(ArticleLikeCount::getVersion).orElse(-1L);
+
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            long count = persistedCount + notIncluded(articleId, persistedVersion);
+            if (lock.validate(stamp)) {
+                return count;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return persistedCount + notIncluded(articleId, persistedVersion);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long notIncluded(Long articleId, long persistedVersion) {
+        long delta = pendingSum(articleId);
+        for (FlushedDelta flushedDelta : flushed.getOrDefault(articleId, EMPTY_QUEUE)) {
+            if (!flushedDelta.isIncludedIn(persistedVersion)) {
+                delta += flushedDelta.delta;
+            }
+        }
+        return delta;
+    }
+
+    /*
+    * 아직 DB에 반영되지 않은 증감
+    * DB 값과 함께 읽을 때는 count 사용(flush 도중에는 DB 값과 두 번 더해질 수 있음)
+    * */
+    public long pending(Long articleId) {
+        long delta = pendingSum(articleId);
+        for (FlushedDelta flushedDelta : flushed.getOrDefault(articleId, EMPTY_QUEUE)) {
+            if (!flushedDelta.isApplied()) {
+                delta += flushedDelta.delta;
+            }
+        }
+        return delta;
+    }
+
+    private long pendingSum(Long articleId) {
+        LongAdder adder = pending.get(articleId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    private LongAdder pendingOf(Long articleId) {
+        return pending.computeIfAbsent(articleId, key -> new LongAdder());
+    }
+
+    /*
+    * 모아둔 증감을 한번의 batch update로 반영
+    * 반영 실패 시 다음 flush에서 재시도
+    * */
+    @Scheduled(fixedDelayString = "${article-like-count.flush-interval-millis:100}")
+    @PreDestroy
+    public synchronized void flush() {
+        evictExpiredFlushed();
+
+        /*
+        * flushed에 먼저 옮긴 뒤 옮긴 만큼만 pending에서 차감(그 사이 증감은 pending에 남는다)
+        * 여러 서버의 flush가 같은 순서로 row lock을 잡도록 articleId 순으로 반영
+        * */
+        Map<Long, FlushedDelta> deltas = new TreeMap<>();
+        long now = System.currentTimeMillis();
+        long stamp = lock.writeLock();
+        try {
+            pending.forEach((articleId, adder) -> {
+                long delta = adder.sum();
+                if (delta != 0) {
+                    FlushedDelta flushedDelta = new FlushedDelta(delta, now);
+                    flushed.computeIfAbsent(articleId, key -> new ConcurrentLinkedQueue<>()).add(flushedDelta);
+                    adder.add(-delta);
+                    deltas.put(articleId, flushedDelta);
+                }
+            });
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        /*
+        * 반영한 row의 version은 커밋 전에 기록(row lock을 잡고 있으므로 커밋 전까지 다른 반영 없음)
+        * 커밋되기 전에 읽은 row는 version이 더 작으므로 증감이 더해진다.
+        * */
+        Map<Long, Long> deltaByArticleId = new TreeMap<>();
+        deltas.forEach((articleId, flushedDelta) -> deltaByArticleId.put(articleId, flushedDelta.delta));
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    articleLikeCountBatchRepository.addAll(deltaByArticleId)
+                            .forEach((articleId, version) -> deltas.get(articleId).version = version)
+            );
+        } catch (Exception e) {
+            log.error("[ArticleLikeCountAccumulator.flush] deltas={}", deltaByArticleId, e);
+            stamp = lock.writeLock();
+            try {
+                deltas.forEach((articleId, flushedDelta) -> {
+                    flushed.get(articleId).remove(flushedDelta);
+                    pendingOf(articleId).add(flushedDelta.delta);
+                });
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /*
+    * 유지 시간이 지난 반영된 증감 제거
+    * */
+    private void evictExpiredFlushed() {
+        long expiredAt = System.currentTimeMillis() - flushedRetentionMillis;
+        flushed.forEach((articleId, queue) -> {
+            queue.removeIf(flushedDelta -> flushedDelta.isApplied() && flushedDelta.flushedAt <= expiredAt);
+            if (queue.isEmpty()) {
+                flushed.remove(articleId, queue);
+            }
+        });
+    }
+}
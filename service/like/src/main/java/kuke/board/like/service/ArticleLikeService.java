@@ -4,34 +4,87 @@ import kuke.board.common.event.EventType;
 import kuke.board.common.event.payload.ArticleLikedEventPayload;
 import kuke.board.common.event.payload.ArticleUnlikedEventPayload;
 import kuke.board.common.outboxmessagerelay.OutboxEventPublisher;
-import kuke.board.common.snowflake.Snowflake;
+import kuke.board.common.snowflake.AtomicSnowflake;
 import kuke.board.like.entity.ArticleLike;
 import kuke.board.like.entity.ArticleLikeCount;
 import kuke.board.like.repository.ArticleLikeCountRepository;
 import kuke.board.like.repository.ArticleLikeRepository;
 import kuke.board.like.service.response.ArticleLikeResponse;
+import kuke.board.like.service.response.ArticleLikerFilterStatsResponse;
+import kuke.board.like.service.response.OptimisticLockRetryStatsResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ArticleLikeService {
-    private final Snowflake snowflake = new Snowflake();
+    private final AtomicSnowflake snowflake = new AtomicSnowflake();
+    private static final int BATCH_READ_MAX_SIZE = 100;
     /*
      * outbox pattern 로직 추가
      * */
     private final OutboxEventPublisher outboxEventPublisher;
     private final ArticleLikeRepository articleLikeRepository;
     private final ArticleLikeCountRepository articleLikeCountRepository;
+    private final ArticleLikeCountAccumulator articleLikeCountAccumulator;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleLikerFilter articleLikerFilter;
 
     /*
     * 해당 게시글에 사용자가 좋아요를 눌렀는지 여부에 대한 조회
+    * 좋아요 사용자 filter에 없으면 DB 조회 없이 없음
     * */
     public ArticleLikeResponse read(Long articleId, Long userId) {
+        ArticleLikerFilter.Result result = articleLikerFilter.mightContain(articleId, userId);
+        if (!result.mightBeLiked()) {
+            throw new NoSuchElementException();
+        }
         return articleLikeRepository.findByArticleIdAndUserId(articleId, userId)
                 .map(ArticleLikeResponse::from)
-                .orElseThrow();
+                .orElseThrow(() -> {
+                    if (result == ArticleLikerFilter.Result.MIGHT_BE_LIKED) {
+                        articleLikerFilter.recordFalsePositive(1);
+                    }
+                    return new NoSuchElementException();
+                });
+    }
+
+    /*
+    * 여러 게시글에 대해 사용자가 좋아요한 게시글 id(요청 순서 유지)
+    * 피드 목록 구성 시 게시글 수만큼 조회하지 않도록 한번의 IN 쿼리로 처리
+    * 중복 제거 후 최대 개수를 넘으면 400
+    * */
+    public List<Long> readLikedArticleIds(Long userId, List<Long> articleIds) {
+        List<Long> distinctArticleIds = articleIds.stream().distinct().toList();
+        if (distinctArticleIds.size() > BATCH_READ_MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "too many articleIds. size=" + distinctArticleIds.size());
+        }
+        Map<Long, ArticleLikerFilter.Result> results = articleLikerFilter.mightContainAll(userId, distinctArticleIds);
+        List<Long> candidateArticleIds = distinctArticleIds.stream()
+                .filter(articleId -> results.get(articleId).mightBeLiked())
+                .toList();
+        if (candidateArticleIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> likedArticleIds = new HashSet<>(articleLikeRepository.findLikedArticleIds(userId, candidateArticleIds));
+        articleLikerFilter.recordFalsePositive(candidateArticleIds.stream()
+                .filter(articleId -> results.get(articleId) == ArticleLikerFilter.Result.MIGHT_BE_LIKED)
+                .filter(articleId -> !likedArticleIds.contains(articleId))
+                .count());
+        return distinctArticleIds.stream()
+                .filter(likedArticleIds::contains)
+                .toList();
     }
 
     /*
@@ -46,6 +99,7 @@ public class ArticleLikeService {
                         userId
                 )
         );
+        articleLikerFilter.add(articleId, userId);
     }
 
     /*
@@ -70,6 +124,7 @@ public class ArticleLikeService {
                         userId
                 )
         );
+        articleLikerFilter.add(articleId, userId);
 
         /*
         * 최초 요청일 경우 : 데이터 하나 최초 생성(save 명기)
@@ -86,17 +141,7 @@ public class ArticleLikeService {
         /*
          * outbox pattern 로직 추가
          * */
-        outboxEventPublisher.publish(
-                EventType.ARTICLE_LIKED,
-                ArticleLikedEventPayload.builder()
-                        .articleLikeId(articleLike.getArticleLikeId())
-                        .articleId(articleLike.getArticleId())
-                        .userId(articleLike.getUserId())
-                        .createdAt(articleLike.getCreatedAt())
-                        .articleLikeCount(count(articleLike.getArticleId()))
-                        .build(),
-                articleLike.getArticleId()
-        );
+        publishLiked(articleLike);
     }
 
     @Transactional
@@ -110,17 +155,7 @@ public class ArticleLikeService {
                     /*
                      * outbox pattern 로직 추가
                      * */
-                    outboxEventPublisher.publish(
-                            EventType.ARTICLE_UNLIKED,
-                            ArticleUnlikedEventPayload.builder()
-                                    .articleLikeId(articleLike.getArticleLikeId())
-                                    .articleId(articleLike.getArticleId())
-                                    .userId(articleLike.getUserId())
-                                    .createdAt(articleLike.getCreatedAt())
-                                    .articleLikeCount(count(articleLike.getArticleId()))
-                                    .build(),
-                            articleLike.getArticleId()
-                    );
+                    publishUnliked(articleLike);
                 });
     }
 
@@ -130,13 +165,14 @@ public class ArticleLikeService {
      */
     @Transactional
     public void likePessimisticLock2(Long articleId, Long userId) {
-        articleLikeRepository.save(
+        ArticleLike articleLike = articleLikeRepository.save(
                 ArticleLike.create(
                         snowflake.nextId(),
                         articleId,
                         userId
                 )
         );
+        articleLikerFilter.add(articleId, userId);
 
         /*
         * 최초 생성하는 데이터가 영속하지 않을 수 있으므로 save 명기
@@ -145,6 +181,8 @@ public class ArticleLikeService {
                 .orElseGet(() -> ArticleLikeCount.init(articleId, 0L));
         articleLikeCount.increase();
         articleLikeCountRepository.save(articleLikeCount);
+
+        publishLiked(articleLike);
     }
 
     @Transactional
@@ -155,21 +193,37 @@ public class ArticleLikeService {
                     articleLikeRepository.delete(articleLike);
                     ArticleLikeCount articleLikeCount = articleLikeCountRepository.findLockedByArticleId(articleId).orElseThrow();
                     articleLikeCount.decrease();
+
+                    publishUnliked(articleLike);
                 });
     }
 
     /*
     * 낙관락(일반 조회 및 처리, 엔티티에 한해 version)
+    * version 충돌 시 새 트랜잭션으로 재시도(지수 backoff + jitter)
     * */
-    @Transactional
     public void likeOptimisticLock(Long articleId, Long userId) {
-        articleLikeRepository.save(
+        Long articleLikeId = snowflake.nextId();
+        optimisticLockRetry.execute(() -> transactionTemplate.executeWithoutResult(
+                status -> likeOptimisticLockOnce(articleLikeId, articleId, userId)
+        ));
+    }
+
+    /*
+    * 재시도되더라도 멱등하도록 이미 좋아요한 경우(이전 시도의 커밋 포함) 좋아요 수를 증가시키지 않는다.
+    * */
+    private void likeOptimisticLockOnce(Long articleLikeId, Long articleId, Long userId) {
+        if (articleLikeRepository.findByArticleIdAndUserId(articleId, userId).isPresent()) {
+            return;
+        }
+        ArticleLike articleLike = articleLikeRepository.save(
                 ArticleLike.create(
-                        snowflake.nextId(),
+                        articleLikeId,
                         articleId,
                         userId
                 )
         );
+        articleLikerFilter.add(articleId, userId);
 
         /*
          * 최초 생성하는 데이터가 영속하지 않을 수 있으므로 save 명기
@@ -178,24 +232,105 @@ public class ArticleLikeService {
                 .orElseGet(() -> ArticleLikeCount.init(articleId, 0L));
         articleLikeCount.increase();
         articleLikeCountRepository.save(articleLikeCount);
+
+        publishLiked(articleLike);
     }
 
-    @Transactional
     public void unlikeOptimisticLock(Long articleId, Long userId) {
+        optimisticLockRetry.execute(() -> transactionTemplate.executeWithoutResult(
+                status -> unlikeOptimisticLockOnce(articleId, userId)
+        ));
+    }
+
+    /*
+    * 재시도 시 이미 취소된 좋아요(이전 시도의 커밋 포함)는 조회되지 않으므로 멱등
+    * */
+    private void unlikeOptimisticLockOnce(Long articleId, Long userId) {
         articleLikeRepository.findByArticleIdAndUserId(articleId, userId)
                 .ifPresent(articleLike -> {
                     articleLikeRepository.delete(articleLike);
                     ArticleLikeCount articleLikeCount = articleLikeCountRepository.findById(articleId).orElseThrow();
                     articleLikeCount.decrease();
+
+                    publishUnliked(articleLike);
                 });
     }
 
+    /**
+     * write-behind
+     * 좋아요(article_like) insert만 트랜잭션으로 처리, 좋아요 수는 row lock 없이 메모리에 모아서 주기적으로 반영
+     */
+    @Transactional
+    public void likeWriteBehind(Long articleId, Long userId) {
+        ArticleLike articleLike = articleLikeRepository.save(
+                ArticleLike.create(
+                        snowflake.nextId(),
+                        articleId,
+                        userId
+                )
+        );
+        articleLikeCountAccumulator.add(articleId, 1L);
+        articleLikerFilter.add(articleId, userId);
+
+        publishLiked(articleLike);
+    }
+
+    @Transactional
+    public void unlikeWriteBehind(Long articleId, Long userId) {
+        articleLikeRepository.findByArticleIdAndUserId(articleId, userId)
+                .ifPresent(articleLike -> {
+                    articleLikeRepository.delete(articleLike);
+                    articleLikeCountAccumulator.add(articleId, -1L);
+
+                    publishUnliked(articleLike);
+                });
+    }
+
+    /*
+    * outbox pattern : 좋아요 수 처리 방식과 관계없이 같은 트랜잭션에서 이벤트 발행
+    * (롤백되면 outbox도 함께 롤백, 낙관락 재시도 시 커밋된 시도의 이벤트만 남는다)
+    * */
+    private void publishLiked(ArticleLike articleLike) {
+        outboxEventPublisher.publish(
+                EventType.ARTICLE_LIKED,
+                ArticleLikedEventPayload.builder()
+                        .articleLikeId(articleLike.getArticleLikeId())
+                        .articleId(articleLike.getArticleId())
+                        .userId(articleLike.getUserId())
+                        .createdAt(articleLike.getCreatedAt())
+                        .articleLikeCount(count(articleLike.getArticleId()))
+                        .build(),
+                articleLike.getArticleId()
+        );
+    }
+
+    private void publishUnliked(ArticleLike articleLike) {
+        outboxEventPublisher.publish(
+                EventType.ARTICLE_UNLIKED,
+                ArticleUnlikedEventPayload.builder()
+                        .articleLikeId(articleLike.getArticleLikeId())
+                        .articleId(articleLike.getArticleId())
+                        .userId(articleLike.getUserId())
+                        .createdAt(articleLike.getCreatedAt())
+                        .articleLikeCount(count(articleLike.getArticleId()))
+                        .build(),
+                articleLike.getArticleId()
+        );
+    }
+
+    public OptimisticLockRetryStatsResponse readOptimisticLockRetryStats() {
+        return OptimisticLockRetryStatsResponse.from(optimisticLockRetry);
+    }
+
+    public ArticleLikerFilterStatsResponse readLikerFilterStats() {
+        return ArticleLikerFilterStatsResponse.from(articleLikerFilter);
+    }
+
     /*
     * 게시글의 좋아요 수 추출(없으면 0)
+    * write-behind로 아직 반영되지 않은 증감 포함
     * */
     public Long count(Long articleId) {
-        return articleLikeCountRepository.findById(articleId)
-                .map(ArticleLikeCount::getLikeCount)
-                .orElse(0L);
+        return articleLikeCountAccumulator.count(articleId, () -> articleLikeCountRepository.findById(articleId));
     }
 }
@@ -0,0 +1,372 @@
+package kuke.board.like.service;
+
+import kuke.board.like.repository.ArticleLikeCountRepository;
+import kuke.board.like.repository.ArticleLikeRepository;
+import kuke.board.like.repository.ArticleLikerFilterRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+* 게시글별 좋아요 사용자 Bloom filter
+* - 좋아요하지 않은 사용자(filter에 없음)는 DB 조회 없이 처리(조회 404, 여러 게시글 좋아요 여부 조회)
+*   좋아요 취소는 삭제 작업이므로 filter 결과와 관계없이 DB에서 확인한다.
+* - Redis에 저장하여 인스턴스 간 공유, 조회는 bitmap 전체를 가져오지 않고 Redis에서 사용자의 k개 위치만 확인
+*   (다른 인스턴스에서 추가된 좋아요도 바로 반영되어 false negative 없음)
+*   각 인스턴스는 filter 설정(generation, 크기)만 ttl 동안 로컬에 캐시하고, generation이 바뀌었으면 다시 조회
+* - 좋아요 추가는 커밋 전/후 두 번 반영(rebuild와 경합하여 한쪽이 누락되어도 다른 쪽으로 반영)
+* - Redis에 없거나, bitmap이 유실되었거나, capacity를 넘으면 article_like 테이블에서 다시 생성
+*   요청 스레드에서는 생성하지 않고 별도 스레드에 요청, 생성 전까지는 DB 조회(UNFILTERED)
+*   서버 시작 시 좋아요 수 상위 게시글은 미리 생성 요청
+*   rebuild 중 추가된 좋아요는 building filter에도 기록되고, 완료 시 테이블 결과와 OR로 합쳐진다.
+* - 좋아요 취소는 반영하지 않으므로 false positive만 늘어난다.
+* - Redis 장애 시 "있을 수 있음"으로 처리(DB 조회)
+* */
+@Slf4j
+@Component
+public class ArticleLikerFilter {
+    private final ArticleLikerFilterRepository articleLikerFilterRepository;
+    private final ArticleLikeRepository articleLikeRepository;
+    private final ArticleLikeCountRepository articleLikeCountRepository;
+    private final ArticleLikeCountAccumulator articleLikeCountAccumulator;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final long warmUpSize;
+
+    /*
+    * 최소 capacity(좋아요가 적은 게시글도 어느정도 좋아요를 받을 때까지 다시 생성하지 않도록)
+    * */
+    private static final long MIN_CAPACITY = 1000L;
+    /*
+    * rebuild 시작 후 이 시간 동안 완료되지 않으면 중단된 것으로 보고 다른 인스턴스가 다시 시작
+    * */
+    private static final long REBUILD_STALE_MILLIS = 60_000L;
+    /*
+    * rebuild 시 article_like 테이블에서 한번에 읽는 사용자 수
+    * */
+    private static final long REBUILD_FETCH_SIZE = 1000L;
+    /*
+    * generation 경합(rebuild 시작/완료) 시 재시도 횟수
+    * */
+    private static final int ADD_MAX_ATTEMPTS = 3;
+
+    private final Map<Long, CachedMeta> metas = new ConcurrentHashMap<>();
+    /*
+    * rebuild 요청된 게시글(중복 요청 방지)
+    * */
+    private final Set<Long> rebuildingArticleIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor();
+
+    /*
+    * filtered : filter에서 없다고 판단(DB 조회 생략)
+    * passed : filter 통과(DB 조회)
+    * unfiltered : filter 없음/Redis 장애로 확인하지 못함(DB 조회, false positive 집계 제외)
+    * falsePositive : filter 통과했지만 DB에 없음
+    * */
+    private final LongAdder filteredCount = new LongAdder();
+    private final LongAdder passedCount = new LongAdder();
+    private final LongAdder unfilteredCount = new LongAdder();
+    private final LongAdder falsePositiveCount = new LongAdder();
+    private final LongAdder rebuildCount = new LongAdder();
+
+    /*
+    * NOT_LIKED : filter에 없음(좋아요하지 않음)
+    * MIGHT_BE_LIKED : filter 통과(좋아요했을 수 있음, DB에 없으면 false positive)
+    * UNFILTERED : filter로 확인하지 못함(비활성, filter 없음, Redis 장애)
+    * */
+    public enum Result {
+        NOT_LIKED, MIGHT_BE_LIKED, UNFILTERED;
+
+        public boolean mightBeLiked() {
+            return this != NOT_LIKED;
+        }
+    }
+
+    /*
+    * meta : Redis의 현재 filter 설정(없으면 null)
+    * */
+    private record CachedMeta(ArticleLikerFilterRepository.FilterMeta meta, long expiredAt) {
+    }
+
+    public ArticleLikerFilter(
+            ArticleLikerFilterRepository articleLikerFilterRepository,
+            ArticleLikeRepository articleLikeRepository,
+            ArticleLikeCountRepository articleLikeCountRepository,
+            ArticleLikeCountAccumulator articleLikeCountAccumulator,
+            @Value("${article-like-filter.enabled:true}") boolean enabled,
+            @Value("${article-like-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${article-like-filter.ttl-millis:1000}") long ttlMillis,
+            @Value("${article-like-filter.max-size:10000}") int maxSize,
+            @Value("${article-like-filter.warm-up-size:100}") long warmUpSize
+    ) {
+        this.articleLikerFilterRepository = articleLikerFilterRepository;
+        this.articleLikeRepository = articleLikeRepository;
+        this.articleLikeCountRepository = articleLikeCountRepository;
+        this.articleLikeCountAccumulator = articleLikeCountAccumulator;
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.warmUpSize = warmUpSize;
+    }
+
+    public Result mightContain(Long articleId, Long userId) {
+        return mightContainAll(userId, List.of(articleId)).get(articleId);
+    }
+
+    /*
+    * 여러 게시글에 대해 좋아요했을 수 있는지(Redis 왕복 1회)
+    * */
+    public Map<Long, Result> mightContainAll(Long userId, List<Long> articleIds) {
+        Map<Long, Result> results = new HashMap<>();
+        if (!enabled) {
+            articleIds.forEach(articleId -> results.put(articleId, Result.UNFILTERED));
+            return results;
+        }
+        try {
+            Map<Long, ArticleLikerFilterRepository.FilterMeta> metaByArticleId = new HashMap<>();
+            for (Long articleId : articleIds) {
+                ArticleLikerFilterRepository.FilterMeta meta = meta(articleId);
+                if (meta == null) {
+                    results.put(articleId, Result.UNFILTERED);
+                } else {
+                    metaByArticleId.put(articleId, meta);
+                }
+            }
+            articleLikerFilterRepository.mightContainAll(userId, metaByArticleId)
+                    .forEach((articleId, result) -> results.put(articleId, toResult(articleId, userId, result)));
+        } catch (Exception e) {
+            log.error("[ArticleLikerFilter.mightContainAll] userId={}, articleIds={}", userId, articleIds, e);
+            articleIds.forEach(articleId -> results.putIfAbsent(articleId, Result.UNFILTERED));
+        }
+        results.values().forEach(this::record);
+        return results;
+    }
+
+    /*
+    * generation이 바뀌었으면(rebuild 완료, 제거) 설정을 다시 조회하여 한번 더 확인
+    * */
+    private Result toResult(Long articleId, Long userId, long result) {
+        if (result == ArticleLikerFilterRepository.GENERATION_CHANGED) {
+            metas.remove(articleId);
+            ArticleLikerFilterRepository.FilterMeta meta = meta(articleId);
+            if (meta == null) {
+                return Result.UNFILTERED;
+            }
+            result = articleLikerFilterRepository.mightContainAll(userId, Map.of(articleId, meta)).get(articleId);
+        }
+        if (result == ArticleLikerFilterRepository.MIGHT_CONTAIN) {
+            return Result.MIGHT_BE_LIKED;
+        }
+        if (result == ArticleLikerFilterRepository.NOT_CONTAINED) {
+            return Result.NOT_LIKED;
+        }
+        if (result == ArticleLikerFilterRepository.BITMAP_LOST) {
+            metas.remove(articleId);
+            requestRebuild(articleId);
+        }
+        return Result.UNFILTERED;
+    }
+
+    private void record(Result result) {
+        switch (result) {
+            case NOT_LIKED -> filteredCount.increment();
+            case MIGHT_BE_LIKED -> passedCount.increment();
+            case UNFILTERED -> unfilteredCount.increment();
+        }
+    }
+
+    /*
+    * 좋아요 insert 시 호출
+    * - 커밋 전 : 커밋 ~ 추가 사이의 조회가 없다고 판단되지 않도록 먼저 추가(롤백되면 false positive로 남는다.)
+    * - 커밋 후 : 커밋 전 추가 이후 시작된 rebuild가 아직 커밋되지 않은 좋아요를 테이블에서 읽지 못한 경우 다시 반영
+    * */
+    public void add(Long articleId, Long userId) {
+        if (!enabled) {
+            return;
+        }
+        addNow(articleId, userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addNow(articleId, userId);
+            }
+        });
+    }
+
+    /*
+    * 반영에 실패하면 해당 게시글 filter를 제거하여 다시 생성
+    * */
+    private void addNow(Long articleId, Long userId) {
+        try {
+            for (int attempt = 0; attempt < ADD_MAX_ATTEMPTS; attempt++) {
+                if (articleLikerFilterRepository.add(articleId, userId)) {
+                    return;
+                }
+            }
+            throw new IllegalStateException("filter generation changed. articleId=" + articleId);
+        } catch (Exception e) {
+            log.error("[ArticleLikerFilter.addNow] articleId={}", articleId, e);
+            invalidate(articleId);
+        }
+    }
+
+    /*
+    * filter를 통과(MIGHT_BE_LIKED)했지만 DB에 없던 건수
+    * */
+    public void recordFalsePositive(long count) {
+        falsePositiveCount.add(count);
+    }
+
+    /*
+    * 현재 filter 설정(ttl 동안 로컬 캐시)
+    * 없거나 capacity를 넘었으면 rebuild 요청(capacity를 넘은 filter도 false negative는 없으므로 계속 사용)
+    * */
+    private ArticleLikerFilterRepository.FilterMeta meta(Long articleId) {
+        CachedMeta cached = metas.get(articleId);
+        if (cached != null && cached.expiredAt() > System.currentTimeMillis()) {
+            return cached.meta();
+        }
+        ArticleLikerFilterRepository.FilterState state = articleLikerFilterRepository.readState(articleId);
+        if (state.current() == null || state.insertedCount() > state.current().capacity()) {
+            requestRebuild(articleId);
+        }
+        if (metas.size() >= maxSize) {
+            metas.clear();
+        }
+        metas.put(articleId, new CachedMeta(state.current(), System.currentTimeMillis() + ttlMillis));
+        return state.current();
+    }
+
+    /*
+    * 서버 시작 시 좋아요 수 상위 게시글의 filter가 없거나 capacity를 넘었으면 미리 생성
+    * */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled || warmUpSize <= 0) {
+            return;
+        }
+        try {
+            for (Long articleId : articleLikeCountRepository.findTopArticleIds(warmUpSize)) {
+                meta(articleId);
+            }
+        } catch (Exception e) {
+            log.error("[ArticleLikerFilter.warmUp]", e);
+        }
+    }
+
+    private void requestRebuild(Long articleId) {
+        if (!rebuildingArticleIds.add(articleId)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild(articleId);
+                } catch (Exception e) {
+                    log.error("[ArticleLikerFilter.rebuild] articleId={}", articleId, e);
+                } finally {
+                    metas.remove(articleId);
+                    rebuildingArticleIds.remove(articleId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rebuildingArticleIds.remove(articleId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /*
+    * article_like 테이블에서 다시 생성
+    * building generation을 먼저 등록한 후 테이블을 읽으므로, 그 사이 커밋된 좋아요는 building filter에 기록된다.
+    * 현재 좋아요 수의 2배를 capacity로 잡아, 이후 좋아요가 늘어도 목표 false positive rate 유지
+    * @return 완료 여부(다른 인스턴스가 다시 생성중이면 false)
+    * */
+    private boolean rebuild(Long articleId) {
+        ArticleLikerFilterRepository.FilterState state = articleLikerFilterRepository.readState(articleId);
+        LikerBloomFilter filter = LikerBloomFilter.create(
+                Math.max(Math.max(likeCount(articleId), state.insertedCount()) * 2, MIN_CAPACITY), falsePositiveRate
+        );
+        Long generation = articleLikerFilterRepository.startRebuild(articleId, filter, REBUILD_STALE_MILLIS);
+        if (generation == null) {
+            return false;
+        }
+        Long lastUserId = 0L;
+        while (true) {
+            List<Long> userIds = articleLikeRepository.findUserIdsByArticleId(articleId, lastUserId, REBUILD_FETCH_SIZE);
+            for (Long userId : userIds) {
+                filter.put(userId);
+            }
+            if (userIds.size() < REBUILD_FETCH_SIZE) {
+                break;
+            }
+            lastUserId = userIds.getLast();
+        }
+        if (!articleLikerFilterRepository.finishRebuild(articleId, generation, filter)) {
+            return false;
+        }
+        rebuildCount.increment();
+        return true;
+    }
+
+    private long likeCount(Long articleId) {
+        return articleLikeCountAccumulator.count(articleId, () -> articleLikeCountRepository.findById(articleId));
+    }
+
+    private void invalidate(Long articleId) {
+        metas.remove(articleId);
+        try {
+            articleLikerFilterRepository.invalidate(articleId);
+        } catch (Exception e) {
+            log.error("[ArticleLikerFilter.invalidate] articleId={}", articleId, e);
+        }
+    }
+
+    public long getFilteredCount() {
+        return filteredCount.sum();
+    }
+
+    public long getPassedCount() {
+        return passedCount.sum();
+    }
+
+    public long getUnfilteredCount() {
+        return unfilteredCount.sum();
+    }
+
+    public long getFalsePositiveCount() {
+        return falsePositiveCount.sum();
+    }
+
+    public long getRebuildCount() {
+        return rebuildCount.sum();
+    }
+
+    public double getConfiguredFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+}
@@ -0,0 +1,148 @@
+package kuke.board.like.service;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+* 게시글 좋아요 사용자(user id) Bloom filter
+* - mightContain == false : 좋아요하지 않은 사용자(확실)
+* - mightContain == true : 좋아요했을 수 있음(false positive 가능, DB 확인 필요)
+* - bit i -> word[i / 64]의 상위 비트부터(MSB first), big endian byte 배열이 Redis bitmap(SETBIT offset)과 같은 순서
+* - k개 위치는 userId의 64bit hash 2개로 계산(double hashing)
+* - 삭제(좋아요 취소)는 반영하지 않는다(false positive만 증가).
+* - 삽입 수는 새로 설정된 bit가 있을 때만 증가(같은 사용자 중복 추가는 세지 않음)
+* */
+public class LikerBloomFilter {
+    private final int bitSize;
+    private final int hashCount;
+    /*
+    * 목표 false positive rate를 유지할 수 있는 최대 삽입 수
+    * */
+    private final long capacity;
+    private final AtomicLongArray words;
+    private final AtomicLong insertedCount;
+
+    private LikerBloomFilter(int bitSize, int hashCount, long capacity, long insertedCount, AtomicLongArray words) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.capacity = capacity;
+        this.insertedCount = new AtomicLong(insertedCount);
+        this.words = words;
+    }
+
+    /*
+    * m = -n * ln(p) / (ln 2)^2, k = m / n * ln 2
+    * */
+    public static LikerBloomFilter create(long capacity, double falsePositiveRate) {
+        long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int bitSize = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(Long.SIZE, (optimalBits + 63) / 64 * 64));
+        int hashCount = (int) Math.max(1, Math.round((double) bitSize / capacity * Math.log(2)));
+        return new LikerBloomFilter(bitSize, hashCount, capacity, 0L, new AtomicLongArray(bitSize / Long.SIZE));
+    }
+
+    /*
+    * Redis에 저장된 bitmap으로 복원(bitmap이 짧으면 나머지는 0)
+    * */
+    public static LikerBloomFilter of(int bitSize, int hashCount, long capacity, long insertedCount, byte[] bitmap) {
+        byte[] padded = new byte[bitSize / Byte.SIZE];
+        System.arraycopy(bitmap, 0, padded, 0, Math.min(bitmap.length, padded.length));
+        ByteBuffer buffer = ByteBuffer.wrap(padded);
+        AtomicLongArray words = new AtomicLongArray(bitSize / Long.SIZE);
+        for (int i = 0; i < words.length(); i++) {
+            words.set(i, buffer.getLong());
+        }
+        return new LikerBloomFilter(bitSize, hashCount, capacity, insertedCount, words);
+    }
+
+    public boolean mightContain(long userId) {
+        for (long position : positions(userId)) {
+            if ((words.get((int) (position >>> 6)) & mask(position)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+    * @return 설정한 bit 위치(Redis SETBIT offset)
+    * */
+    public long[] put(long userId) {
+        long[] positions = positions(userId);
+        boolean changed = false;
+        for (long position : positions) {
+            long mask = mask(position);
+            long previous = words.getAndAccumulate((int) (position >>> 6), mask, (word, bit) -> word | bit);
+            changed |= (previous & mask) == 0;
+        }
+        if (changed) {
+            insertedCount.incrementAndGet();
+        }
+        return positions;
+    }
+
+    private long[] positions(long userId) {
+        return positions(userId, bitSize, hashCount);
+    }
+
+    /*
+    * Redis에 저장된 filter(설정값만 조회)에 추가할 bit 위치
+    * */
+    public static long[] positions(long userId, int bitSize, int hashCount) {
+        long hash1 = mix(userId);
+        long hash2 = mix(hash1) | 1L;
+        long[] positions = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            positions[i] = Math.floorMod(hash1 + i * hash2, (long) bitSize);
+        }
+        return positions;
+    }
+
+    private static long mask(long position) {
+        return 1L << (63 - (position & 63));
+    }
+
+    /*
+    * splitmix64 finalizer
+    * */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    public byte[] toByteArray() {
+        ByteBuffer buffer = ByteBuffer.allocate(bitSize / Byte.SIZE);
+        for (int i = 0; i < words.length(); i++) {
+            buffer.putLong(words.get(i));
+        }
+        return buffer.array();
+    }
+
+    /*
+    * 현재 삽입 수 기준 이론상 false positive rate = (1 - e^(-kn/m))^k
+    * */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertedCount.get() / bitSize), hashCount);
+    }
+
+    public boolean isFull() {
+        return insertedCount.get() > capacity;
+    }
+
+    public int getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public long getInsertedCount() {
+        return insertedCount.get();
+    }
+}
@@ -0,0 +1,112 @@
+package kuke.board.like.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/*
+* 낙관락 충돌 시 재시도
+* - 충돌 : version 불일치(OptimisticLockingFailureException), 최초 좋아요 수 동시 생성(중복 키)
+*   JPA는 중복 키도 DataIntegrityViolationException으로 변환하므로 SQL state로 중복 키인지 확인하고,
+*   그 외 무결성 위반(not null, 외래 키 등)은 재시도해도 같은 결과이므로 바로 던진다.
+* - 최대 max-attempts회, 시도 간 대기 = 0 ~ min(max-backoff, base-backoff * 2^(시도-1)) 임의값(full jitter)
+*   -> 같은 게시글에 동시에 실패한 요청들이 같은 시점에 다시 충돌하지 않도록 분산
+* - 트랜잭션 밖에서 호출해야 한다(시도마다 새 트랜잭션).
+* - 성공까지 걸린 시도 횟수별 건수, 최종 실패 건수 집계
+* */
+@Component
+public class OptimisticLockRetry {
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    /*
+    * attemptCounts[n - 1] : n번째 시도에서 성공한 건수
+    * */
+    private final LongAdder[] attemptCounts;
+    private final LongAdder exhaustedCount = new LongAdder();
+    private final SQLStateSQLExceptionTranslator sqlStateTranslator = new SQLStateSQLExceptionTranslator();
+
+    public OptimisticLockRetry(
+            @Value("${optimistic-lock-retry.max-attempts:10}") int maxAttempts,
+            @Value("${optimistic-lock-retry.base-backoff-millis:5}") long baseBackoffMillis,
+            @Value("${optimistic-lock-retry.max-backoff-millis:200}") long maxBackoffMillis
+    ) {
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.attemptCounts = new LongAdder[maxAttempts];
+        for (int i = 0; i < maxAttempts; i++) {
+            attemptCounts[i] = new LongAdder();
+        }
+    }
+
+    public <T> T execute(Supplier<T> supplier) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = supplier.get();
+                attemptCounts[attempt - 1].increment();
+                return result;
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                if (e instanceof DataIntegrityViolationException integrityViolation && !isDuplicateKey(integrityViolation)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    exhaustedCount.increment();
+                    throw e;
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    public void execute(Runnable runnable) {
+        execute(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    private boolean isDuplicateKey(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return sqlStateTranslator.translate("duplicate key", null, sqlException) instanceof DuplicateKeyException;
+            }
+        }
+        return false;
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 30));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for retry", e);
+        }
+    }
+
+    public long[] getAttemptCounts() {
+        long[] counts = new long[maxAttempts];
+        for (int i = 0; i < maxAttempts; i++) {
+            counts[i] = attemptCounts[i].sum();
+        }
+        return counts;
+    }
+
+    public long getExhaustedCount() {
+        return exhaustedCount.sum();
+    }
+}
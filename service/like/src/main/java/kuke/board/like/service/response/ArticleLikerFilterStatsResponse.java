@@ -0,0 +1,40 @@
+package kuke.board.like.service.response;
+
+import kuke.board.like.service.ArticleLikerFilter;
+import lombok.Getter;
+import lombok.ToString;
+
+/*
+* 좋아요 사용자 Bloom filter 통계
+* - falsePositiveRate : 실제로 좋아요하지 않은 조회 중 filter를 통과한(DB 조회가 발생한) 비율
+*   = falsePositive / (filtered + falsePositive)
+* - filteredRatio : filter로 확인한 조회 중 DB 조회 없이 처리된 비율
+* - unfilteredCount : filter가 없거나 Redis 장애로 확인하지 못한 조회(DB 조회)
+* */
+@Getter
+@ToString
+public class ArticleLikerFilterStatsResponse {
+    private Long filteredCount;
+    private Long passedCount;
+    private Long unfilteredCount;
+    private Long falsePositiveCount;
+    private Long rebuildCount;
+    private Double falsePositiveRate;
+    private Double configuredFalsePositiveRate;
+    private Double filteredRatio;
+
+    public static ArticleLikerFilterStatsResponse from(ArticleLikerFilter articleLikerFilter) {
+        ArticleLikerFilterStatsResponse response = new ArticleLikerFilterStatsResponse();
+        response.filteredCount = articleLikerFilter.getFilteredCount();
+        response.passedCount = articleLikerFilter.getPassedCount();
+        response.unfilteredCount = articleLikerFilter.getUnfilteredCount();
+        response.falsePositiveCount = articleLikerFilter.getFalsePositiveCount();
+        response.rebuildCount = articleLikerFilter.getRebuildCount();
+        long negativeCount = response.filteredCount + response.falsePositiveCount;
+        response.falsePositiveRate = negativeCount == 0 ? 0.0 : (double) response.falsePositiveCount / negativeCount;
+        response.configuredFalsePositiveRate = articleLikerFilter.getConfiguredFalsePositiveRate();
+        long total = response.filteredCount + response.passedCount;
+        response.filteredRatio = total == 0 ? 0.0 : (double) response.filteredCount / total;
+        return response;
+    }
+}
@@ -0,0 +1,30 @@
+package kuke.board.like.service.response;
+
+import kuke.board.like.service.OptimisticLockRetry;
+import lombok.Getter;
+import lombok.ToString;
+
+/*
+* 낙관락 재시도 통계
+* - attemptCounts[n - 1] : n번째 시도에서 성공한 건수
+* - retriedRatio : 성공 건 중 재시도가 필요했던 비율
+* */
+@Getter
+@ToString
+public class OptimisticLockRetryStatsResponse {
+    private long[] attemptCounts;
+    private Long exhaustedCount;
+    private Double retriedRatio;
+
+    public static OptimisticLockRetryStatsResponse from(OptimisticLockRetry optimisticLockRetry) {
+        OptimisticLockRetryStatsResponse response = new OptimisticLockRetryStatsResponse();
+        response.attemptCounts = optimisticLockRetry.getAttemptCounts();
+        response.exhaustedCount = optimisticLockRetry.getExhaustedCount();
+        long successCount = 0;
+        for (long count : response.attemptCounts) {
+            successCount += count;
+        }
+        response.retriedRatio = successCount == 0 ? 0.0 : (double) (successCount - response.attemptCounts[0]) / successCount;
+        return response;
+    }
+}
@@ -2,8 +2,10 @@ package kuke.board.like.api;
 
 import kuke.board.like.service.response.ArticleLikeResponse;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.web.client.RestClient;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -92,6 +94,21 @@ public class LikeApiTest {
                 .body(ArticleLikeResponse.class);
     }
 
+    @Test
+    void readLikedArticleIdsTest() {
+        likeInit(9997L, 1L);
+        likeInit(9999L, 1L);
+
+        List<Long> likedArticleIds = restClient.get()
+                .uri("/v1/article-likes/users/{userId}/batch?articleIds=9997,9998,9999", 1L)
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<Long>>() {});
+        System.out.println("likedArticleIds = " + likedArticleIds);
+
+        unlikeInit(9997L, 1L);
+        unlikeInit(9999L, 1L);
+    }
+
     /*
     * 동시성 테스트 - Thread 100 pools
     * */
@@ -101,6 +118,7 @@ public class LikeApiTest {
         likePerformanceTest(executorService, 1111L, "pessimistic-lock-1");
         likePerformanceTest(executorService, 2222L, "pessimistic-lock-2");
         likePerformanceTest(executorService, 3333L, "optimistic-lock");
+        likePerformanceTest(executorService, 4444L, "write-behind");
     }
 
     void likePerformanceTest(ExecutorService executorService, Long articleId, String lockType) throws InterruptedException {
@@ -0,0 +1,122 @@
+package kuke.board.like.service;
+
+import kuke.board.like.entity.ArticleLikeCount;
+import kuke.board.like.repository.ArticleLikeCountBatchRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleLikeCountAccumulatorTest {
+    @InjectMocks
+    ArticleLikeCountAccumulator articleLikeCountAccumulator;
+    @Mock
+    ArticleLikeCountBatchRepository articleLikeCountBatchRepository;
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    void flushTest() {
+        givenTransaction();
+        given(articleLikeCountBatchRepository.addAll(any())).willReturn(Map.of(1L, 1L));
+        articleLikeCountAccumulator.add(1L, 1L);
+        articleLikeCountAccumulator.add(1L, 1L);
+        articleLikeCountAccumulator.add(2L, 1L);
+        articleLikeCountAccumulator.add(2L, -1L);
+
+        assertThat(articleLikeCountAccumulator.pending(1L)).isEqualTo(2L);
+
+        articleLikeCountAccumulator.flush();
+
+        verify(articleLikeCountBatchRepository).addAll(Map.of(1L, 2L));
+        assertThat(articleLikeCountAccumulator.pending(1L)).isZero();
+    }
+
+    @Test
+    void flushEmptyTest() {
+        articleLikeCountAccumulator.flush();
+
+        verify(articleLikeCountBatchRepository, never()).addAll(any());
+    }
+
+    /*
+    * 반영 실패 시 증감을 되돌려 다음 flush에서 재시도
+    * */
+    @Test
+    void flushFailedTest() {
+        givenTransaction();
+        articleLikeCountAccumulator.add(1L, 3L);
+        willThrow(new RuntimeException()).given(articleLikeCountBatchRepository).addAll(any());
+
+        articleLikeCountAccumulator.flush();
+
+        assertThat(articleLikeCountAccumulator.pending(1L)).isEqualTo(3L);
+        assertThat(articleLikeCountAccumulator.count(1L, () -> Optional.of(persisted(10L, 0L)))).isEqualTo(13L);
+    }
+
+    @Test
+    void countTest() {
+        articleLikeCountAccumulator.add(1L, 2L);
+
+        assertThat(articleLikeCountAccumulator.count(1L, () -> Optional.of(persisted(10L, 0L)))).isEqualTo(12L);
+        assertThat(articleLikeCountAccumulator.count(1L, Optional::empty)).isEqualTo(2L);
+    }
+
+    /*
+    * DB 반영 도중에도 조회는 flush를 기다리지 않고, 읽은 row의 version에 포함되지 않은 증감만 더한다.
+    * flush 커밋 이전 snapshot(version 0)으로 읽은 경우 flush가 끝난 뒤에도 증감 포함
+    * */
+    @Test
+    void countWhileFlushingTest() throws Exception {
+        givenTransaction();
+        ArticleLikeCount beforeFlush = persisted(10L, 0L);
+        ArticleLikeCount afterFlush = persisted(12L, 1L);
+        articleLikeCountAccumulator.add(1L, 2L);
+        CompletableFuture<Long> countWhileFlushing = new CompletableFuture<>();
+        willAnswer(invocation -> {
+            assertThat(articleLikeCountAccumulator.pending(1L)).isEqualTo(2L);
+            countWhileFlushing.complete(CompletableFuture.supplyAsync(
+                    () -> articleLikeCountAccumulator.count(1L, () -> Optional.of(beforeFlush))
+            ).get(1, TimeUnit.SECONDS));
+            return Map.of(1L, 1L);
+        }).given(articleLikeCountBatchRepository).addAll(any());
+
+        articleLikeCountAccumulator.flush();
+
+        assertThat(countWhileFlushing.get()).isEqualTo(12L);
+        assertThat(articleLikeCountAccumulator.count(1L, () -> Optional.of(beforeFlush))).isEqualTo(12L);
+        assertThat(articleLikeCountAccumulator.count(1L, () -> Optional.of(afterFlush))).isEqualTo(12L);
+    }
+
+    private void givenTransaction() {
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private ArticleLikeCount persisted(long likeCount, long version) {
+        ArticleLikeCount articleLikeCount = ArticleLikeCount.init(1L, likeCount);
+        ReflectionTestUtils.setField(articleLikeCount, "version", version);
+        return articleLikeCount;
+    }
+}
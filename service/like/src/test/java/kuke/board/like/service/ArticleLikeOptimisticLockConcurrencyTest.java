@@ -0,0 +1,82 @@
+package kuke.board.like.service;
+
+import kuke.board.like.repository.ArticleLikeCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+/*
+* 하나의 게시글에 1000명이 동시에 좋아요(낙관락) 했을 때 충돌이 재시도되어 좋아요 수가 정확해야 한다.
+* 기본 재시도 설정(optimistic-lock-retry)으로 실행하며, 재시도를 모두 소진한 요청은 실패로 응답되고 좋아요 수에 포함되지 않아야 한다.
+* 게시글 id는 매 실행마다 새로 할당하여 기존 데이터에 영향을 주지 않는다.
+* */
+class ArticleLikeOptimisticLockConcurrencyTest {
+    @Autowired
+    ArticleLikeService articleLikeService;
+    @Autowired
+    ArticleLikeCountRepository articleLikeCountRepository;
+    @Autowired
+    OptimisticLockRetry optimisticLockRetry;
+
+    static final int LIKER_COUNT = 1000;
+
+    @Test
+    void likeOptimisticLockTest() throws InterruptedException {
+        Long articleId = ThreadLocalRandom.current().nextLong(1_000_000L, Long.MAX_VALUE);
+        AtomicInteger failedCount = new AtomicInteger();
+        AtomicInteger unexpectedFailedCount = new AtomicInteger();
+        long exhaustedCountBefore = optimisticLockRetry.getExhaustedCount();
+        long retriedCountBefore = retriedCount();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(LIKER_COUNT);
+
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < LIKER_COUNT; i++) {
+                long userId = i + 1;
+                executorService.submit(() -> {
+                    try {
+                        start.await();
+                        articleLikeService.likeOptimisticLock(articleId, userId);
+                    } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                        failedCount.incrementAndGet();
+                    } catch (Exception e) {
+                        log.error("[likeOptimisticLockTest] userId={}", userId, e);
+                        unexpectedFailedCount.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            done.await();
+        }
+
+        log.info("attemptCounts = {}, failedCount = {}", Arrays.toString(optimisticLockRetry.getAttemptCounts()), failedCount.get());
+        assertThat(unexpectedFailedCount.get()).isZero();
+        assertThat(retriedCount() - retriedCountBefore).isPositive();
+        assertThat(optimisticLockRetry.getExhaustedCount() - exhaustedCountBefore).isEqualTo(failedCount.get());
+        assertThat(articleLikeCountRepository.findById(articleId).orElseThrow().getLikeCount())
+                .isEqualTo(LIKER_COUNT - failedCount.get());
+    }
+
+    /*
+    * 두 번째 시도 이후에 성공한 건수
+    * */
+    private long retriedCount() {
+        return Arrays.stream(optimisticLockRetry.getAttemptCounts()).skip(1).sum();
+    }
+}
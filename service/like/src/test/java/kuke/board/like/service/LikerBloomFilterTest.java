@@ -0,0 +1,89 @@
+package kuke.board.like.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikerBloomFilterTest {
+
+    @Test
+    void noFalseNegativeTest() {
+        LikerBloomFilter filter = LikerBloomFilter.create(10_000, 0.01);
+        for (long userId = 1; userId <= 10_000; userId++) {
+            filter.put(userId);
+        }
+
+        for (long userId = 1; userId <= 10_000; userId++) {
+            assertThat(filter.mightContain(userId)).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateTest() {
+        LikerBloomFilter filter = LikerBloomFilter.create(10_000, 0.01);
+        Random random = new Random(0);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(random.nextLong(1, Long.MAX_VALUE / 2));
+        }
+
+        int probeCount = 100_000;
+        int falsePositiveCount = 0;
+        for (int i = 0; i < probeCount; i++) {
+            if (filter.mightContain(random.nextLong(Long.MAX_VALUE / 2, Long.MAX_VALUE))) {
+                falsePositiveCount++;
+            }
+        }
+        double falsePositiveRate = (double) falsePositiveCount / probeCount;
+        System.out.println("falsePositiveRate = " + falsePositiveRate
+                + ", expected = " + filter.expectedFalsePositiveRate());
+
+        assertThat(falsePositiveRate).isLessThan(0.015);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.011);
+    }
+
+    @Test
+    void byteArrayRoundTripTest() {
+        LikerBloomFilter filter = LikerBloomFilter.create(1_000, 0.01);
+        for (long userId = 1; userId <= 500; userId++) {
+            filter.put(userId * 31);
+        }
+
+        LikerBloomFilter restored = LikerBloomFilter.of(
+                filter.getBitSize(), filter.getHashCount(), filter.getCapacity(), filter.getInsertedCount(),
+                filter.toByteArray()
+        );
+
+        assertThat(restored.toByteArray()).isEqualTo(filter.toByteArray());
+        assertThat(restored.getInsertedCount()).isEqualTo(filter.getInsertedCount());
+        for (long userId = 1; userId <= 500; userId++) {
+            assertThat(restored.mightContain(userId * 31)).isTrue();
+        }
+    }
+
+    @Test
+    void redisBitOffsetTest() {
+        LikerBloomFilter filter = LikerBloomFilter.create(1_000, 0.01);
+        long[] positions = filter.put(1L);
+
+        // Redis SETBIT offset 순서(byte 내 상위 비트부터)와 같은지 확인
+        byte[] bitmap = new byte[filter.getBitSize() / Byte.SIZE];
+        for (long position : positions) {
+            bitmap[(int) (position / 8)] |= (byte) (0x80 >>> (position % 8));
+        }
+        assertThat(filter.toByteArray()).isEqualTo(bitmap);
+        assertThat(filter.isFull()).isFalse();
+    }
+
+    @Test
+    void duplicatePutTest() {
+        LikerBloomFilter filter = LikerBloomFilter.create(1_000, 0.01);
+        long[] positions = filter.put(1L);
+        long[] duplicatePositions = filter.put(1L);
+
+        assertThat(duplicatePositions).isEqualTo(positions);
+        assertThat(LikerBloomFilter.positions(1L, filter.getBitSize(), filter.getHashCount())).isEqualTo(positions);
+        assertThat(filter.getInsertedCount()).isEqualTo(1L);
+    }
+}
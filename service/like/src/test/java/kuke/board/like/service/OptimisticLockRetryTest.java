@@ -0,0 +1,95 @@
+package kuke.board.like.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OptimisticLockRetryTest {
+    OptimisticLockRetry optimisticLockRetry = new OptimisticLockRetry(3, 1L, 2L);
+
+    @Test
+    void retryTest() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = optimisticLockRetry.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("ArticleLikeCount", 1L);
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(optimisticLockRetry.getAttemptCounts()).containsExactly(0L, 0L, 1L);
+    }
+
+    @Test
+    void exhaustedTest() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> optimisticLockRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new DuplicateKeyException("duplicate");
+        })).isInstanceOf(DuplicateKeyException.class);
+
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(optimisticLockRetry.getExhaustedCount()).isEqualTo(1L);
+    }
+
+    /*
+    * 충돌이 아닌 예외는 재시도하지 않는다.
+    * */
+    @Test
+    void notRetryTest() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> optimisticLockRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    /*
+    * JPA가 변환한 중복 키(DataIntegrityViolationException)는 재시도
+    * */
+    @Test
+    void retryDuplicateKeyViolationTest() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = optimisticLockRetry.execute(() -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw new DataIntegrityViolationException("duplicate",
+                        new SQLIntegrityConstraintViolationException("Duplicate entry", "23000", 1062));
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    /*
+    * 중복 키가 아닌 무결성 위반은 재시도하지 않는다.
+    * */
+    @Test
+    void notRetryIntegrityViolationTest() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> optimisticLockRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new DataIntegrityViolationException("not null",
+                    new SQLIntegrityConstraintViolationException("Column 'like_count' cannot be null", "23000", 1048));
+        })).isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(optimisticLockRetry.getExhaustedCount()).isZero();
+    }
+}
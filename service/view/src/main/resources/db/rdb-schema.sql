@@ -11,4 +11,11 @@ create table outbox (
     created_at datetime not null
 );
 
-create index idx_shard_key_created_at on outbox(shard_key asc, created_at asc);
\ No newline at end of file
+create index idx_shard_key_created_at on outbox(shard_key asc, created_at asc);
+
+-- batch relay(outbox.relay.mode = batch) shard lease : lease를 가진 서버만 해당 shard의 outbox를 relay
+create table outbox_relay_lease (
+    shard_key bigint not null primary key,
+    owner varchar(100) not null,
+    expires_at datetime not null
+);
\ No newline at end of file